@@ -0,0 +1,40 @@
+package com.example.demo.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the game-loop benchmarks with the gc profiler attached and writes the results as JSON, so
+ * runs before and after a change to the loop can be compared side by side, e.g. with
+ * {@code java -jar benchmarks/target/benchmarks.jar} after {@code mvn -P benchmarks package}.
+ * The first argument, if given, is a regular expression selecting the benchmarks to run, e.g.
+ * {@code Collision}; the second is the result file, {@code jmh-result.json} by default.
+ */
+public final class BenchmarkRunner {
+
+	private static final String ALL_BENCHMARKS = "com\\.example\\.demo\\..*Benchmark";
+	private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * Runs the selected benchmarks.
+	 *
+	 * @param args an optional benchmark pattern and an optional result file
+	 * @throws RunnerException if a benchmark fails
+	 */
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(args.length > 0 ? args[0] : ALL_BENCHMARKS)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(args.length > 1 ? args[1] : DEFAULT_RESULT_FILE)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.ActiveActorDestructible;
+import com.example.demo.objects.EnemyPlane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the old stream-and-removeAll sweep of an actor list against {@link ActorRemovalBatch},
+ * with one actor in ten destroyed. Both sweeps include a client's removal of the matching views,
+ * which are a plain list here as the level no longer owns a scene graph. 50 actors is about what a
+ * level holds at once; the larger counts are stress sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActorSweepBenchmark {
+
+	private static final long SEED = 2024;
+	private static final int DESTROYED_EVERY = 10;
+
+	/** Actors in the list before each sweep. */
+	@Param({"50", "500", "5000"})
+	public int actorCount;
+
+	private final List<ActiveActorDestructible> planes = new ArrayList<>();
+	private final List<ActiveActorDestructible> actors = new ArrayList<>();
+	private final List<ActiveActorDestructible> views = new ArrayList<>();
+	private final ActorRemovalBatch batch = new ActorRemovalBatch();
+
+	/**
+	 * Creates the planes once, destroying every tenth. A destroyed plane stays destroyed, so the same
+	 * planes can be swept again and again.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(SEED);
+		for (int i = 0; i < actorCount; i++) {
+			EnemyPlane plane = new EnemyPlane(i, i, random);
+			if (i % DESTROYED_EVERY == 0) {
+				plane.destroy();
+			}
+			planes.add(plane);
+		}
+	}
+
+	/**
+	 * Refills the actor and view lists the previous sweep compacted.
+	 */
+	@Setup(Level.Invocation)
+	public void refill() {
+		actors.clear();
+		actors.addAll(planes);
+		views.clear();
+		views.addAll(planes);
+	}
+
+	/**
+	 * Sweeps the list with a removal batch, as the level does now.
+	 *
+	 * @return the number of actors left, so the sweep is not optimised away
+	 */
+	@Benchmark
+	public int batchSweep() {
+		batch.collectFrom(actors);
+		if (!batch.isEmpty()) {
+			views.removeAll(batch);
+		}
+		batch.clear();
+		return actors.size() + views.size();
+	}
+
+	/**
+	 * Sweeps the list by streaming out the destroyed actors and removing them with {@code removeAll},
+	 * as the level did before the removal batch.
+	 *
+	 * @return the number of actors left, so the sweep is not optimised away
+	 */
+	@Benchmark
+	public int streamSweep() {
+		List<ActiveActorDestructible> destroyedActors = actors.stream()
+				.filter(ActiveActorDestructible::isDestroyed)
+				.collect(Collectors.toList());
+		views.removeAll(destroyedActors);
+		actors.removeAll(destroyedActors);
+		return actors.size() + views.size();
+	}
+}
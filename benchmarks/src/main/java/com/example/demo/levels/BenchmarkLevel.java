@@ -0,0 +1,104 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.ActiveActorDestructible;
+import com.example.demo.objects.EnemyPlane;
+import com.example.demo.objects.EntityStore;
+import com.example.demo.objects.ProjectileType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A level that never spawns enemies or ends on its own, filled by the benchmarks with however many
+ * enemies and projectiles they measure. Everything is placed from the level's seeded generator, so
+ * every fork of a benchmark measures the same world.
+ */
+final class BenchmarkLevel extends LevelParent {
+
+	static final double SCREEN_HEIGHT = 750;
+	static final double SCREEN_WIDTH = 1300;
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final long SEED = 2024;
+	private static final double ENEMY_MIN_X = 400;
+
+	private final List<ActiveActorDestructible> enemies = new ArrayList<>();
+
+	/**
+	 * Creates an empty benchmark level.
+	 */
+	BenchmarkLevel() {
+		super(SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH, SEED);
+	}
+
+	@Override
+	protected void checkIfGameOver() {
+	}
+
+	@Override
+	protected void spawnEnemyUnits() {
+	}
+
+	/**
+	 * Adds enemy planes at random positions in the right part of the playfield.
+	 *
+	 * @param count the number of enemies to add
+	 */
+	void addEnemies(int count) {
+		for (int i = 0; i < count; i++) {
+			double x = ENEMY_MIN_X + getRandom().nextDouble() * (SCREEN_WIDTH - ENEMY_MIN_X);
+			double y = getRandom().nextDouble() * getEnemyMaximumYPosition();
+			EnemyPlane enemy = new EnemyPlane(x, y, getRandom());
+			enemies.add(enemy);
+			addEnemyUnit(enemy);
+		}
+	}
+
+	/**
+	 * Destroys every n-th enemy still in the level, forgetting the ones a sweep has already removed.
+	 *
+	 * @param n the spacing of the destroyed enemies
+	 */
+	void destroyEveryNthEnemy(int n) {
+		enemies.removeIf(ActiveActorDestructible::isDestroyed);
+		for (int i = 0; i < enemies.size(); i += n) {
+			enemies.get(i).destroy();
+		}
+	}
+
+	/**
+	 * Spawns projectiles of one type at random positions across the playfield.
+	 *
+	 * @param projectiles the store to spawn into
+	 * @param type        the projectile type
+	 * @param count       the number of projectiles to spawn
+	 */
+	void spawnProjectiles(EntityStore projectiles, ProjectileType type, int count) {
+		for (int i = 0; i < count; i++) {
+			type.spawn(projectiles, getRandom().nextDouble() * SCREEN_WIDTH, getRandom().nextDouble() * SCREEN_HEIGHT);
+		}
+	}
+
+	/**
+	 * Fills the level with {@code projectileCount} projectiles of each side and one enemy for every
+	 * ten projectiles.
+	 *
+	 * @param projectileCount the number of projectiles per side
+	 * @return this level
+	 */
+	BenchmarkLevel populate(int projectileCount) {
+		addEnemies(enemyCountFor(projectileCount));
+		spawnProjectiles(getUserProjectiles(), ProjectileType.USER, projectileCount);
+		spawnProjectiles(getEnemyProjectiles(), ProjectileType.ENEMY, projectileCount);
+		return this;
+	}
+
+	/**
+	 * Returns the number of enemies that goes with a projectile count, at least one.
+	 *
+	 * @param projectileCount the number of projectiles per side
+	 * @return the enemy count
+	 */
+	static int enemyCountFor(int projectileCount) {
+		return Math.max(1, projectileCount / 10);
+	}
+}
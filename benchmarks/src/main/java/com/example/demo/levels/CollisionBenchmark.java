@@ -0,0 +1,67 @@
+package com.example.demo.levels;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the collision passes of a tick: user projectiles against enemies, enemy projectiles
+ * against the player, and planes against planes. A hit only marks entities destroyed and nothing
+ * is removed between passes, so every pass tests the same entities and does the same work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+	/** Projectiles per side; the level holds one enemy for every ten. */
+	@Param({"10", "100", "1000", "10000"})
+	public int entityCount;
+
+	private BenchmarkLevel level;
+
+	/**
+	 * Fills the level.
+	 */
+	@Setup
+	public void setUp() {
+		level = new BenchmarkLevel().populate(entityCount);
+	}
+
+	/**
+	 * Tests every user projectile against every enemy through the collision grid.
+	 */
+	@Benchmark
+	public void userProjectileCollisions() {
+		level.handleUserProjectileCollisions();
+	}
+
+	/**
+	 * Tests every enemy projectile against the player through the collision grid.
+	 */
+	@Benchmark
+	public void enemyProjectileCollisions() {
+		level.handleEnemyProjectileCollisions();
+	}
+
+	/**
+	 * Tests the player against every enemy plane.
+	 */
+	@Benchmark
+	public void planeCollisions() {
+		level.handlePlaneCollisions();
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.EntityStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times firing into the projectile stores: every enemy rolling for its shot, and the player firing
+ * a volley. Each invocation empties the store it fired into, so the store never grows and the
+ * measurement covers spawning into arrays that are already allocated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectileFiringBenchmark {
+
+	/** Enemies rolling to fire, and shots in the player's volley. */
+	@Param({"10", "100", "1000", "10000"})
+	public int entityCount;
+
+	private BenchmarkLevel level;
+
+	/**
+	 * Fills the level with enemies.
+	 */
+	@Setup
+	public void setUp() {
+		level = new BenchmarkLevel();
+		level.addEnemies(entityCount);
+	}
+
+	/**
+	 * Lets every enemy roll for its shot.
+	 *
+	 * @return the number of shots fired
+	 */
+	@Benchmark
+	public int enemyFire() {
+		EntityStore projectiles = level.getEnemyProjectiles();
+		level.generateEnemyFire();
+		int fired = projectiles.size();
+		projectiles.clear();
+		return fired;
+	}
+
+	/**
+	 * Fires {@code entityCount} shots from the player.
+	 *
+	 * @return the number of shots fired
+	 */
+	@Benchmark
+	public int userVolley() {
+		EntityStore projectiles = level.getUserProjectiles();
+		for (int i = 0; i < entityCount; i++) {
+			level.getUser().fireProjectile(projectiles);
+		}
+		int fired = projectiles.size();
+		projectiles.clear();
+		return fired;
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.EntityStore;
+import com.example.demo.objects.ProjectileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the end-of-tick sweep that drops destroyed planes and compacts the projectile stores, with
+ * one entity in ten destroyed. The sweep consumes what it measures, so the level is refilled before
+ * every invocation: the stores are respawned in place, and the enemies the sweep removed are
+ * replaced by new planes, which the gc profiler counts at a tenth of the enemy count.
+ * {@link ActorSweepBenchmark} compares the sweep of a single actor list with the one it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoveDestroyedActorsBenchmark {
+
+	private static final int DESTROYED_EVERY = 10;
+
+	/** Projectiles per side; the level holds one enemy for every ten. */
+	@Param({"10", "100", "1000", "10000"})
+	public int entityCount;
+
+	private BenchmarkLevel level;
+
+	/**
+	 * Fills the level.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		level = new BenchmarkLevel().populate(entityCount);
+	}
+
+	/**
+	 * Tops the level back up and destroys every tenth plane and projectile.
+	 */
+	@Setup(Level.Invocation)
+	public void destroySome() {
+		level.addEnemies(BenchmarkLevel.enemyCountFor(entityCount) - level.getCurrentNumberOfEnemies());
+		level.destroyEveryNthEnemy(DESTROYED_EVERY);
+		respawn(level.getUserProjectiles(), ProjectileType.USER);
+		respawn(level.getEnemyProjectiles(), ProjectileType.ENEMY);
+	}
+
+	private void respawn(EntityStore projectiles, ProjectileType type) {
+		projectiles.clear();
+		level.spawnProjectiles(projectiles, type, entityCount);
+		for (int i = 0; i < entityCount; i += DESTROYED_EVERY) {
+			projectiles.destroy(i);
+		}
+	}
+
+	/**
+	 * Sweeps the destroyed planes and projectiles out of the level.
+	 */
+	@Benchmark
+	public void removeDestroyedActors() {
+		level.removeAllDestroyedActors();
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.demo.levels;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times one tick of movement: every plane's update and the integration of both projectile stores.
+ * Nothing is retired between ticks, so actors keep flying past the playfield edges and each tick
+ * moves the same number of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateActorsBenchmark {
+
+	/** Projectiles per side; the level holds one enemy for every ten. */
+	@Param({"10", "100", "1000", "10000"})
+	public int entityCount;
+
+	private BenchmarkLevel level;
+
+	/**
+	 * Fills the level.
+	 */
+	@Setup
+	public void setUp() {
+		level = new BenchmarkLevel().populate(entityCount);
+	}
+
+	/**
+	 * Moves every actor by one tick.
+	 */
+	@Benchmark
+	public void updateActors() {
+		level.updateActors();
+	}
+}
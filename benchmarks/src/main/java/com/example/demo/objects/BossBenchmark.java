@@ -0,0 +1,60 @@
+package com.example.demo.objects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times one tick of boss updates: following and reshuffling the move pattern, clamping to the
+ * playfield, moving the hitbox and rolling for the shield.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BossBenchmark {
+
+	private static final long SEED = 2024;
+	private static final double SECONDS_PER_TICK = ActiveActor.LEGACY_SECONDS_PER_TICK;
+
+	/** Bosses updated per tick. */
+	@Param({"1", "10", "100", "1000"})
+	public int entityCount;
+
+	private Boss[] bosses;
+
+	/**
+	 * Creates the bosses, all drawing from one seeded generator as they would in a level.
+	 */
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(SEED);
+		bosses = new Boss[entityCount];
+		for (int i = 0; i < entityCount; i++) {
+			bosses[i] = new Boss(random);
+		}
+	}
+
+	/**
+	 * Updates every boss by one tick.
+	 */
+	@Benchmark
+	public void updateActor() {
+		for (Boss boss : bosses) {
+			boss.updateActor(SECONDS_PER_TICK);
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package com.example.demo.objects;
+
+import com.example.demo.collision.Aabb;
+import com.example.demo.collision.Playfield;
+import com.example.demo.collision.SpatialHashGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times one tick of moving projectiles stored as {@link EntityStore} arrays against the same
+ * projectiles as a list of {@link ActiveActorDestructible} objects. A tick covers everything the level
+ * does to projectiles: saving the previous position, moving, retiring those that left the playfield,
+ * testing them against a wave of enemies through the collision grid, and compacting the survivors.
+ * The projectile count is topped back up at the start of every tick, as constant fire would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityStoreBenchmark {
+
+	private static final long SEED = 2024;
+	private static final int ENEMY_COUNT = 9;
+	private static final double SECONDS_PER_TICK = ActiveActor.LEGACY_SECONDS_PER_TICK;
+
+	/** Projectiles alive at the start of each tick. */
+	@Param({"1000", "10000"})
+	public int projectileCount;
+
+	private final Playfield playfield = new Playfield(1300, 650, 50);
+	private final SpatialHashGrid grid = new SpatialHashGrid(128, 1024);
+	private final List<ActiveActorDestructible> enemies = new ArrayList<>();
+	private final EntityStore store = new EntityStore();
+	private final List<ActiveActorDestructible> projectiles = new ArrayList<>();
+	private SplittableRandom random;
+
+	/**
+	 * Places the enemy wave, all drawing from one seeded generator as they would in a level.
+	 */
+	@Setup
+	public void setUp() {
+		random = new SplittableRandom(SEED);
+		for (int i = 0; i < ENEMY_COUNT; i++) {
+			enemies.add(new EnemyPlane(300 + random.nextDouble() * 900, random.nextDouble() * 500, random));
+		}
+	}
+
+	/**
+	 * Runs one projectile tick over the entity store.
+	 *
+	 * @return the number of projectiles removed, so the tick is not optimised away
+	 */
+	@Benchmark
+	public int storeTick() {
+		while (store.size() < projectileCount) {
+			ProjectileType.USER.spawn(store, random.nextDouble() * 1200, random.nextDouble() * 600);
+		}
+		store.savePreviousPositions();
+		store.integrate(SECONDS_PER_TICK);
+		store.destroyOutside(playfield);
+		grid.clear();
+		for (int i = 0; i < store.size(); i++) {
+			grid.insert(i, store.getHitboxX(i), store.getHitboxY(i), store.getHitboxMaxX(i), store.getHitboxMaxY(i));
+		}
+		for (int e = 0; e < enemies.size(); e++) {
+			Aabb hitbox = enemies.get(e).getHitbox();
+			int candidates = grid.query(hitbox.getX(), hitbox.getY(), hitbox.getMaxX(), hitbox.getMaxY());
+			for (int c = 0; c < candidates; c++) {
+				int id = grid.getCandidate(c);
+				if (hitbox.intersects(store.getHitboxX(id), store.getHitboxY(id), store.getHitboxMaxX(id), store.getHitboxMaxY(id))) {
+					store.destroy(id);
+				}
+			}
+		}
+		return store.removeDestroyed();
+	}
+
+	/**
+	 * Runs one projectile tick over a list of projectile objects.
+	 *
+	 * @return the number of projectiles left, so the tick is not optimised away
+	 */
+	@Benchmark
+	public int objectTick() {
+		while (projectiles.size() < projectileCount) {
+			projectiles.add(new ObjectProjectile(random.nextDouble() * 1200, random.nextDouble() * 600));
+		}
+		for (int i = 0; i < projectiles.size(); i++) {
+			projectiles.get(i).savePreviousPosition();
+		}
+		for (int i = 0; i < projectiles.size(); i++) {
+			projectiles.get(i).updateActor(SECONDS_PER_TICK);
+		}
+		for (int i = 0; i < projectiles.size(); i++) {
+			ActiveActorDestructible projectile = projectiles.get(i);
+			if (playfield.hasLeft(projectile.getHitbox())) {
+				projectile.destroy();
+			}
+		}
+		grid.clear();
+		for (int i = 0; i < projectiles.size(); i++) {
+			Aabb hitbox = projectiles.get(i).getHitbox();
+			grid.insert(i, hitbox.getX(), hitbox.getY(), hitbox.getMaxX(), hitbox.getMaxY());
+		}
+		for (int e = 0; e < enemies.size(); e++) {
+			Aabb hitbox = enemies.get(e).getHitbox();
+			int candidates = grid.query(hitbox.getX(), hitbox.getY(), hitbox.getMaxX(), hitbox.getMaxY());
+			for (int c = 0; c < candidates; c++) {
+				ActiveActorDestructible projectile = projectiles.get(grid.getCandidate(c));
+				if (hitbox.intersects(projectile.getHitbox())) {
+					projectile.takeDamage();
+				}
+			}
+		}
+		projectiles.removeIf(ActiveActorDestructible::isDestroyed);
+		return projectiles.size();
+	}
+
+	/**
+	 * A projectile in the shape projectiles had before they moved into the entity store: an actor
+	 * object with its own hitbox, moved through a virtual call.
+	 */
+	private static class ObjectProjectile extends ActiveActorDestructible {
+
+		private final Aabb hitbox;
+
+		ObjectProjectile(double initialXPos, double initialYPos) {
+			super("userfire.png", 125, initialXPos, initialYPos);
+			hitbox = new Aabb(initialXPos, initialYPos, 30, 37);
+		}
+
+		@Override
+		public void updatePosition(double deltaSeconds) {
+			moveHorizontally(ProjectileType.USER.getHorizontalVelocity() * deltaSeconds);
+			hitbox.setPosition(getPositionX(), getPositionY());
+		}
+
+		@Override
+		public void updateActor(double deltaSeconds) {
+			updatePosition(deltaSeconds);
+		}
+
+		@Override
+		public void takeDamage() {
+			destroy();
+		}
+
+		@Override
+		public Aabb getHitbox() {
+			return hitbox;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.demo.collision;
+
+/**
+ * An axis-aligned bounding box stored as plain doubles.
+ * Actors keep one instance as their hitbox and move it in place every tick, so collision
+ * tests neither fire property listeners nor allocate {@code Bounds} objects.
+ */
+public class Aabb {
+
+	/** The left edge of the box. */
+	private double x;
+
+	/** The top edge of the box. */
+	private double y;
+
+	/** The width of the box. */
+	private final double width;
+
+	/** The height of the box. */
+	private final double height;
+
+	/**
+	 * Constructs an Aabb with the given position and size.
+	 *
+	 * @param x      the left edge of the box
+	 * @param y      the top edge of the box
+	 * @param width  the width of the box
+	 * @param height the height of the box
+	 */
+	public Aabb(double x, double y, double width, double height) {
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Moves the box so that its top-left corner is at the given position.
+	 *
+	 * @param x the new left edge
+	 * @param y the new top edge
+	 */
+	public void setPosition(double x, double y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Checks whether the interiors of this box and another box overlap.
+	 * Boxes that only touch along an edge do not intersect, matching
+	 * {@code Node.intersects(Bounds)} for rectangles.
+	 *
+	 * @param other the box to test against
+	 * @return {@code true} if the boxes overlap
+	 */
+	public boolean intersects(Aabb other) {
+		return intersects(other.x, other.y, other.getMaxX(), other.getMaxY());
+	}
+
+	/**
+	 * Checks whether the interiors of this box and a box given by its edges overlap.
+	 *
+	 * @param otherX    the left edge of the other box
+	 * @param otherY    the top edge of the other box
+	 * @param otherMaxX the right edge of the other box
+	 * @param otherMaxY the bottom edge of the other box
+	 * @return {@code true} if the boxes overlap
+	 */
+	public boolean intersects(double otherX, double otherY, double otherMaxX, double otherMaxY) {
+		return x < otherMaxX && otherX < getMaxX()
+				&& y < otherMaxY && otherY < getMaxY();
+	}
+
+	/**
+	 * Returns the left edge of the box.
+	 *
+	 * @return the minimum X coordinate
+	 */
+	public double getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the top edge of the box.
+	 *
+	 * @return the minimum Y coordinate
+	 */
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * Returns the right edge of the box.
+	 *
+	 * @return the maximum X coordinate
+	 */
+	public double getMaxX() {
+		return x + width;
+	}
+
+	/**
+	 * Returns the bottom edge of the box.
+	 *
+	 * @return the maximum Y coordinate
+	 */
+	public double getMaxY() {
+		return y + height;
+	}
+
+	/**
+	 * Returns the width of the box.
+	 *
+	 * @return the width
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the box.
+	 *
+	 * @return the height
+	 */
+	public double getHeight() {
+		return height;
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.demo.collision;
+
+/**
+ * The area actors are allowed to occupy: the visible screen expanded by a margin on every side.
+ * Actors whose hitbox lies entirely outside this area can no longer collide with anything
+ * on screen and are retired by the level.
+ */
+public class Playfield {
+
+	/** The left edge of the playfield, including the margin. */
+	private final double minX;
+
+	/** The top edge of the playfield, including the margin. */
+	private final double minY;
+
+	/** The right edge of the playfield, including the margin. */
+	private final double maxX;
+
+	/** The bottom edge of the playfield, including the margin. */
+	private final double maxY;
+
+	/**
+	 * Constructs a Playfield covering a screen of the given size plus a margin.
+	 *
+	 * @param screenWidth  the width of the visible screen
+	 * @param screenHeight the height of the visible screen
+	 * @param margin       the distance actors may travel past each screen edge
+	 */
+	public Playfield(double screenWidth, double screenHeight, double margin) {
+		this.minX = -margin;
+		this.minY = -margin;
+		this.maxX = screenWidth + margin;
+		this.maxY = screenHeight + margin;
+	}
+
+	/**
+	 * Checks whether any part of a hitbox is still inside the playfield.
+	 *
+	 * @param hitbox the hitbox to test
+	 * @return {@code true} if the hitbox overlaps the playfield
+	 */
+	public boolean contains(Aabb hitbox) {
+		return hitbox.getMaxX() > minX && hitbox.getX() < maxX
+				&& hitbox.getMaxY() > minY && hitbox.getY() < maxY;
+	}
+
+	/**
+	 * Checks whether a hitbox has left the playfield entirely.
+	 *
+	 * @param hitbox the hitbox to test
+	 * @return {@code true} if no part of the hitbox is inside the playfield
+	 */
+	public boolean hasLeft(Aabb hitbox) {
+		return hasLeft(hitbox.getX(), hitbox.getY(), hitbox.getMaxX(), hitbox.getMaxY());
+	}
+
+	/**
+	 * Checks whether a box given by its edges has left the playfield entirely.
+	 *
+	 * @param x    the left edge of the box
+	 * @param y    the top edge of the box
+	 * @param maxX the right edge of the box
+	 * @param maxY the bottom edge of the box
+	 * @return {@code true} if no part of the box is inside the playfield
+	 */
+	public boolean hasLeft(double x, double y, double maxX, double maxY) {
+		return maxX <= minX || x >= this.maxX || maxY <= minY || y >= this.maxY;
+	}
+}
@@ -0,0 +1,242 @@
+package com.example.demo.collision;
+
+import java.util.Arrays;
+
+/**
+ * A uniform-grid spatial hash used as the broadphase for collision detection.
+ * Boxes are inserted into every cell they overlap, and a query returns the ids of the boxes
+ * that share at least one cell with the query box. Candidates still have to be confirmed
+ * with an exact intersection test (the narrowphase).
+ * All storage lives in primitive arrays that are reused between ticks, so clearing and
+ * rebuilding the grid every tick does not allocate once the arrays have grown.
+ */
+public class SpatialHashGrid {
+
+	/** Marker for an empty bucket or the end of a bucket chain. */
+	private static final int EMPTY = -1;
+
+	/** Initial capacity of the entry, stamp and candidate arrays. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** The width and height of a single grid cell. */
+	private final double cellSize;
+
+	/** Index of the first entry in each bucket, or {@link #EMPTY}. */
+	private final int[] bucketHeads;
+
+	/** Mask used to map a cell hash onto {@link #bucketHeads}. */
+	private final int bucketMask;
+
+	/** The id stored in each entry. */
+	private int[] entryIds;
+
+	/** Index of the next entry in the same bucket, or {@link #EMPTY}. */
+	private int[] entryNext;
+
+	/** The number of entries currently in use. */
+	private int entryCount;
+
+	/** Buckets that received an entry since the last clear, so clearing is proportional to use. */
+	private int[] touchedBuckets;
+
+	/** The number of touched buckets since the last clear. */
+	private int touchedCount;
+
+	/** The query stamp each id was last reported in, used to report every id at most once per query. */
+	private int[] visitStamps;
+
+	/** The stamp of the current query. */
+	private int currentStamp;
+
+	/** The ids reported by the last query. */
+	private int[] candidates;
+
+	/** The number of ids reported by the last query. */
+	private int candidateCount;
+
+	/**
+	 * Constructs a SpatialHashGrid with the given cell size and number of buckets.
+	 *
+	 * @param cellSize    the width and height of a grid cell
+	 * @param bucketCount the number of hash buckets; rounded up to a power of two
+	 */
+	public SpatialHashGrid(double cellSize, int bucketCount) {
+		if (cellSize <= 0) {
+			throw new IllegalArgumentException("cellSize must be positive: " + cellSize);
+		}
+		this.cellSize = cellSize;
+		int buckets = Integer.highestOneBit(Math.max(1, bucketCount - 1)) << 1;
+		this.bucketHeads = new int[buckets];
+		this.bucketMask = buckets - 1;
+		Arrays.fill(bucketHeads, EMPTY);
+		this.entryIds = new int[INITIAL_CAPACITY];
+		this.entryNext = new int[INITIAL_CAPACITY];
+		this.touchedBuckets = new int[INITIAL_CAPACITY];
+		this.visitStamps = new int[INITIAL_CAPACITY];
+		this.candidates = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Removes every box from the grid. The backing arrays are kept for the next rebuild.
+	 */
+	public void clear() {
+		for (int i = 0; i < touchedCount; i++) {
+			bucketHeads[touchedBuckets[i]] = EMPTY;
+		}
+		touchedCount = 0;
+		entryCount = 0;
+	}
+
+	/**
+	 * Inserts a box into every cell it overlaps.
+	 *
+	 * @param id   a non-negative id for the box, typically its index in the actor list
+	 * @param minX the left edge of the box
+	 * @param minY the top edge of the box
+	 * @param maxX the right edge of the box
+	 * @param maxY the bottom edge of the box
+	 */
+	public void insert(int id, double minX, double minY, double maxX, double maxY) {
+		ensureIdCapacity(id);
+		int firstColumn = cellIndex(minX);
+		int lastColumn = cellIndex(maxX);
+		int firstRow = cellIndex(minY);
+		int lastRow = cellIndex(maxY);
+		for (int column = firstColumn; column <= lastColumn; column++) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				addEntry(bucketOf(column, row), id);
+			}
+		}
+	}
+
+	/**
+	 * Collects the ids of every box that shares a cell with the given box.
+	 * Each id is reported at most once. The result stays valid until the next query.
+	 *
+	 * @param minX the left edge of the query box
+	 * @param minY the top edge of the query box
+	 * @param maxX the right edge of the query box
+	 * @param maxY the bottom edge of the query box
+	 * @return the number of candidates, readable through {@link #getCandidate(int)}
+	 */
+	public int query(double minX, double minY, double maxX, double maxY) {
+		nextStamp();
+		candidateCount = 0;
+		int firstColumn = cellIndex(minX);
+		int lastColumn = cellIndex(maxX);
+		int firstRow = cellIndex(minY);
+		int lastRow = cellIndex(maxY);
+		for (int column = firstColumn; column <= lastColumn; column++) {
+			for (int row = firstRow; row <= lastRow; row++) {
+				collectBucket(bucketOf(column, row));
+			}
+		}
+		return candidateCount;
+	}
+
+	/**
+	 * Returns a candidate id reported by the last query.
+	 *
+	 * @param index the index of the candidate, below the count returned by {@link #query}
+	 * @return the candidate id
+	 */
+	public int getCandidate(int index) {
+		return candidates[index];
+	}
+
+	/**
+	 * Returns the cell size of the grid.
+	 *
+	 * @return the width and height of a cell
+	 */
+	public double getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Reports every not yet reported id stored in a bucket.
+	 *
+	 * @param bucket the bucket to walk
+	 */
+	private void collectBucket(int bucket) {
+		for (int entry = bucketHeads[bucket]; entry != EMPTY; entry = entryNext[entry]) {
+			int id = entryIds[entry];
+			if (visitStamps[id] != currentStamp) {
+				visitStamps[id] = currentStamp;
+				if (candidateCount == candidates.length) {
+					candidates = Arrays.copyOf(candidates, candidateCount * 2);
+				}
+				candidates[candidateCount++] = id;
+			}
+		}
+	}
+
+	/**
+	 * Prepends an entry for an id to a bucket chain.
+	 *
+	 * @param bucket the bucket to add to
+	 * @param id     the id to store
+	 */
+	private void addEntry(int bucket, int id) {
+		if (entryCount == entryIds.length) {
+			entryIds = Arrays.copyOf(entryIds, entryCount * 2);
+			entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+		}
+		if (bucketHeads[bucket] == EMPTY) {
+			if (touchedCount == touchedBuckets.length) {
+				touchedBuckets = Arrays.copyOf(touchedBuckets, touchedCount * 2);
+			}
+			touchedBuckets[touchedCount++] = bucket;
+		}
+		entryIds[entryCount] = id;
+		entryNext[entryCount] = bucketHeads[bucket];
+		bucketHeads[bucket] = entryCount;
+		entryCount++;
+	}
+
+	/**
+	 * Grows the per-id stamp array so that it can hold the given id.
+	 *
+	 * @param id the id about to be inserted
+	 */
+	private void ensureIdCapacity(int id) {
+		if (id < 0) {
+			throw new IllegalArgumentException("id must not be negative: " + id);
+		}
+		if (id >= visitStamps.length) {
+			visitStamps = Arrays.copyOf(visitStamps, Math.max(id + 1, visitStamps.length * 2));
+		}
+	}
+
+	/**
+	 * Advances the query stamp, resetting all stamps if the counter wraps around.
+	 */
+	private void nextStamp() {
+		currentStamp++;
+		if (currentStamp == 0) {
+			Arrays.fill(visitStamps, 0);
+			currentStamp = 1;
+		}
+	}
+
+	/**
+	 * Converts a coordinate into a cell index along one axis.
+	 *
+	 * @param coordinate the coordinate to convert
+	 * @return the index of the cell containing the coordinate
+	 */
+	private int cellIndex(double coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	/**
+	 * Hashes a cell onto a bucket.
+	 *
+	 * @param column the cell column
+	 * @param row    the cell row
+	 * @return the bucket index
+	 */
+	private int bucketOf(int column, int row) {
+		return ((column * 73856093) ^ (row * 19349663)) & bucketMask;
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.ActiveActorDestructible;
+
+import java.util.Collection;
+
+/**
+ * Receives the actors joining and leaving a level, so a client can keep one view per actor
+ * without the level knowing how actors are shown.
+ */
+public interface ActorListener {
+
+	/**
+	 * Called when an actor joins the level, including the actors already in the level
+	 * when the listener is attached.
+	 *
+	 * @param actor the actor that has joined the level
+	 */
+	void actorAdded(ActiveActorDestructible actor);
+
+	/**
+	 * Called once per tick with the destroyed actors the level has just dropped. The collection
+	 * is only valid during the call, and its {@code contains} is constant-time.
+	 *
+	 * @param actors the actors that have left the level
+	 */
+	void actorsRemoved(Collection<ActiveActorDestructible> actors);
+}
@@ -0,0 +1,119 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.ActiveActorDestructible;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Collects the actors destroyed during a tick so that they can be dropped from the actor lists and
+ * from whatever a client shows them with in linear time. Actor lists are compacted in place, and the
+ * batch is handed to the level's {@link ActorListener} as a collection whose membership test is
+ * constant-time, so a client can remove the matching views with a single {@code removeAll}.
+ * The batch reuses its backing array and its membership table, so a sweep does not allocate once
+ * they have grown.
+ */
+final class ActorRemovalBatch extends AbstractCollection<ActiveActorDestructible> {
+
+	/** Initial capacity of the backing array. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** Actors collected since the last {@link #clear()}. */
+	private ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+
+	/** The collected actors, by identity, for the membership test. */
+	private final Map<ActiveActorDestructible, Boolean> members = new IdentityHashMap<>(INITIAL_CAPACITY);
+
+	/** The number of collected actors. */
+	private int size;
+
+	/**
+	 * Moves every destroyed actor from a list into this batch, keeping the survivors in their
+	 * original order. Runs in a single pass over the list without allocating.
+	 *
+	 * @param list the actor list to compact
+	 */
+	void collectFrom(List<ActiveActorDestructible> list) {
+		int kept = 0;
+		int count = list.size();
+		for (int i = 0; i < count; i++) {
+			ActiveActorDestructible actor = list.get(i);
+			if (actor.isDestroyed()) {
+				append(actor);
+			} else {
+				if (kept != i) {
+					list.set(kept, actor);
+				}
+				kept++;
+			}
+		}
+		for (int i = count - 1; i >= kept; i--) {
+			list.remove(i);
+		}
+	}
+
+	/**
+	 * Empties the batch, dropping its references to the collected actors.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(actors, 0, size, null);
+		members.clear();
+		size = 0;
+	}
+
+	/**
+	 * Checks whether an actor was collected into this batch since the last {@link #clear()}, by
+	 * identity and in constant time.
+	 *
+	 * @param o the object to test
+	 * @return {@code true} if the object is one of the collected actors
+	 */
+	@Override
+	public boolean contains(Object o) {
+		return members.containsKey(o);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<ActiveActorDestructible> iterator() {
+		return new Iterator<>() {
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@Override
+			public ActiveActorDestructible next() {
+				if (next >= size) {
+					throw new NoSuchElementException();
+				}
+				return actors[next++];
+			}
+		};
+	}
+
+	/**
+	 * Appends an actor to the batch, growing the backing array if needed.
+	 *
+	 * @param actor the destroyed actor
+	 */
+	private void append(ActiveActorDestructible actor) {
+		if (size == actors.length) {
+			actors = Arrays.copyOf(actors, size * 2);
+		}
+		actors[size++] = actor;
+		members.put(actor, Boolean.TRUE);
+	}
+}
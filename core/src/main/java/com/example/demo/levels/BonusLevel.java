@@ -1,28 +1,28 @@
 package com.example.demo.levels;
 
-import com.example.demo.display.BonusLevelView;
+import com.example.demo.objects.ActiveActor;
 import com.example.demo.objects.Boss;
-import com.example.demo.display.LevelView;
 
 /**
  * The BonusLevel class represents a specific level in the game, extending the LevelParent class.
- * This level features two bosses and a unique background image.
+ * This level features two bosses.
  * It manages the spawning of enemy units, the health and movements of the bosses,
  * and checks for win/loss conditions.
  */
 public class BonusLevel extends LevelParent {
 
-    // Constants for background image and initial player health
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/bonusbackground.jpg";
+    // Constant for initial player health
     private static final int PLAYER_INITIAL_HEALTH = 7;
+    // Distance overlapping bosses are pushed apart in one legacy tick, in pixels
+    private static final double BOSS_SEPARATION_PIXELS_PER_LEGACY_TICK = 5.0;
+    // Speed at which overlapping bosses are pushed apart, in pixels per second (5 pixels every 30 ms)
+    private static final double BOSS_SEPARATION_VELOCITY =
+            BOSS_SEPARATION_PIXELS_PER_LEGACY_TICK / ActiveActor.LEGACY_SECONDS_PER_TICK;
 
     // Bosses for the level
     private final Boss boss1;
     private final Boss boss2;
 
-    // Level view for the bonus level
-    private BonusLevelView levelView;
-
     /**
      * Constructs a new BonusLevel with the specified screen dimensions.
      * Initializes the bosses' positions and layout.
@@ -31,10 +31,22 @@ public class BonusLevel extends LevelParent {
      * @param screenWidth the width of the screen.
      */
     public BonusLevel(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+        this(screenHeight, screenWidth, randomSeed());
+    }
+
+    /**
+     * Constructs a new BonusLevel with the specified screen dimensions and random seed.
+     * Both bosses draw on the level's random generator.
+     *
+     * @param screenHeight the height of the screen.
+     * @param screenWidth the width of the screen.
+     * @param seed the seed of the level's random generator.
+     */
+    public BonusLevel(double screenHeight, double screenWidth, long seed) {
+        super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
 
-        boss1 = new Boss();
-        boss2 = new Boss();
+        boss1 = new Boss(getRandom());
+        boss2 = new Boss(getRandom());
 
         boss1.setLayoutX(1000.0);
         boss1.setLayoutY(200.0);
@@ -43,14 +55,6 @@ public class BonusLevel extends LevelParent {
         boss2.setLayoutY(400.0);
     }
 
-    /**
-     * Initializes the friendly units, in this case, adding the user (player) to the root.
-     */
-    @Override
-    protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
-    }
-
     /**
      * Checks whether the game is over. The game is lost if the user is destroyed.
      * The game is won if both bosses are destroyed.
@@ -69,19 +73,16 @@ public class BonusLevel extends LevelParent {
 
     /**
      * Spawns the enemy units (bosses) if they have not been spawned yet.
-     * Adds the bosses' shield and health bar images to the root.
      */
     @Override
     protected void spawnEnemyUnits() {
         if (!boss1Spawned) {
             addEnemyUnit(boss1);
-            getRoot().getChildren().addAll(boss1.getShieldImage(), boss1.getHealthBar());
             boss1Spawned = true;
         }
 
         if (!boss2Spawned) {
             addEnemyUnit(boss2);
-            getRoot().getChildren().addAll(boss2.getShieldImage(), boss2.getHealthBar());
             boss2Spawned = true;
         }
     }
@@ -96,26 +97,16 @@ public class BonusLevel extends LevelParent {
         double minDistance = 150.0;
 
         if (distance < minDistance) {
+            double separation = BOSS_SEPARATION_VELOCITY * getSecondsPerTick();
             if (boss1.getLayoutY() < boss2.getLayoutY()) {
-                boss1.setTranslateY(boss1.getTranslateY() - 5);
-                boss2.setTranslateY(boss2.getTranslateY() + 5);
+                boss1.nudgeVertically(-separation);
+                boss2.nudgeVertically(separation);
             } else {
-                boss1.setTranslateY(boss1.getTranslateY() + 5);
-                boss2.setTranslateY(boss2.getTranslateY() - 5);
+                boss1.nudgeVertically(separation);
+                boss2.nudgeVertically(-separation);
             }
         }
 
         super.updateActors();
     }
-
-    /**
-     * Instantiates the level view for this bonus level and returns it.
-     *
-     * @return the instantiated BonusLevelView for this level.
-     */
-    @Override
-    protected LevelView instantiateLevelView() {
-        levelView = new BonusLevelView(getRoot(), PLAYER_INITIAL_HEALTH);
-        return levelView;
-    }
 }
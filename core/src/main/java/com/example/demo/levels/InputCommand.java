@@ -0,0 +1,43 @@
+package com.example.demo.levels;
+
+/**
+ * The commands a player can give a level. Every player input reaches the simulation as one of these,
+ * so recording them with the tick they arrived before is enough to replay a level exactly.
+ */
+public enum InputCommand {
+
+	/** Start moving the user's plane up. */
+	MOVE_UP,
+
+	/** Start moving the user's plane down. */
+	MOVE_DOWN,
+
+	/** Stop moving the user's plane. */
+	STOP,
+
+	/** Fire a single projectile. */
+	FIRE,
+
+	/** Start a burst of projectiles, if the burst is ready. */
+	BURST,
+
+	/** Pause or resume the level. */
+	TOGGLE_PAUSE;
+
+	/** The commands by ordinal, so a recorded command maps back without copying {@link #values()}. */
+	private static final InputCommand[] COMMANDS = values();
+
+	/**
+	 * Returns the command a recorded ordinal stands for.
+	 *
+	 * @param ordinal the recorded ordinal
+	 * @return the command
+	 * @throws IllegalArgumentException if no command has the ordinal
+	 */
+	public static InputCommand ofOrdinal(int ordinal) {
+		if (ordinal < 0 || ordinal >= COMMANDS.length) {
+			throw new IllegalArgumentException("Unknown input command: " + ordinal);
+		}
+		return COMMANDS[ordinal];
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.demo.levels;
+
+/**
+ * Receives every command given to a level together with the tick it arrived before, e.g. to record
+ * a replay.
+ */
+public interface InputListener {
+
+	/**
+	 * Called when a command is given to the level, before it takes effect.
+	 *
+	 * @param tick    the number of ticks the level had run when the command arrived; the command
+	 *                takes effect in the tick with this index
+	 * @param command the command
+	 */
+	void inputGiven(long tick, InputCommand command);
+}
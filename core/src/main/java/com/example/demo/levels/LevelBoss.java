@@ -0,0 +1,62 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.Boss;
+
+/**
+ * The LevelBoss class represents a specific boss battle level in the game, extending the LevelParent class.
+ * This level features a boss and is cleared once the boss is destroyed, moving on to the bonus level.
+ */
+public class LevelBoss extends LevelParent {
+
+	// Constants for player health and next level transition
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final String NEXT_LEVEL = "com.example.demo.levels.BonusLevel";
+	private final Boss boss;
+
+	/**
+	 * Constructs a new LevelBoss with the specified screen dimensions.
+	 * Initializes the boss for this level.
+	 *
+	 * @param screenHeight the height of the screen.
+	 * @param screenWidth the width of the screen.
+	 */
+	public LevelBoss(double screenHeight, double screenWidth) {
+		this(screenHeight, screenWidth, randomSeed());
+	}
+
+	/**
+	 * Constructs a new LevelBoss with the specified screen dimensions and random seed.
+	 * Initializes the boss for this level, drawing on the level's random generator.
+	 *
+	 * @param screenHeight the height of the screen.
+	 * @param screenWidth the width of the screen.
+	 * @param seed the seed of the level's random generator.
+	 */
+	public LevelBoss(double screenHeight, double screenWidth, long seed) {
+		super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+		boss = new Boss(getRandom());
+	}
+
+	/**
+	 * Checks whether the game is over. The game is lost if the user is destroyed.
+	 * The level is cleared if the boss is destroyed, moving on to the next level.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		} else if (boss.isDestroyed()) {
+			completeLevel(NEXT_LEVEL);
+		}
+	}
+
+	/**
+	 * Spawns the boss as an enemy unit if no enemies are currently on the screen.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		if (getCurrentNumberOfEnemies() == 0) {
+			addEnemyUnit(boss);
+		}
+	}
+}
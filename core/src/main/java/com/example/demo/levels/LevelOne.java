@@ -0,0 +1,80 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.ActiveActorDestructible;
+import com.example.demo.objects.EnemyPlane;
+
+/**
+ * The LevelOne class represents the first level of the game. It manages the gameplay for the level,
+ * including the spawning of enemy units, tracking the player's kill count, and determining when the level is completed.
+ * It extends the LevelParent class and includes mechanisms for checking game over conditions
+ * and naming the level that follows.
+ */
+public class LevelOne extends LevelParent {
+
+	// Constants for next level transition and enemy spawn configuration
+	private static final String NEXT_LEVEL = "com.example.demo.levels.LevelTwo";
+	private static final int TOTAL_ENEMIES = 5;
+	private static final int KILLS_TO_ADVANCE = 10;
+	private static final double ENEMY_SPAWN_PROBABILITY = .20;
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+
+	/**
+	 * Constructs a new LevelOne with the specified screen dimensions.
+	 *
+	 * @param screenHeight the height of the screen.
+	 * @param screenWidth the width of the screen.
+	 */
+	public LevelOne(double screenHeight, double screenWidth) {
+		super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+	}
+
+	/**
+	 * Constructs a new LevelOne with the specified screen dimensions and random seed.
+	 *
+	 * @param screenHeight the height of the screen.
+	 * @param screenWidth the width of the screen.
+	 * @param seed the seed of the level's random generator.
+	 */
+	public LevelOne(double screenHeight, double screenWidth, long seed) {
+		super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+	}
+
+	/**
+	 * Checks whether the game is over. The game is lost if the user is destroyed,
+	 * and the level is cleared if the user reaches the kill target, moving on to the next level.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		} else if (userHasReachedKillTarget()) {
+			completeLevel(NEXT_LEVEL);
+		}
+	}
+
+	/**
+	 * Spawns enemy units, specifically enemy planes, at random positions based on a spawn probability.
+	 * The number of enemies is limited by the TOTAL_ENEMIES constant, unless the level's tuning overrides it.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+		int totalEnemies = getTuning().totalEnemiesOr(TOTAL_ENEMIES);
+		for (int i = 0; i < totalEnemies - currentNumberOfEnemies; i++) {
+			if (getRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+				double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+				ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, getRandom());
+				addEnemyUnit(newEnemy);
+			}
+		}
+	}
+
+	/**
+	 * Checks if the user has reached the target kill count to advance to the next level.
+	 *
+	 * @return true if the user has reached the required number of kills to advance, false otherwise.
+	 */
+	private boolean userHasReachedKillTarget() {
+		return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE;
+	}
+}
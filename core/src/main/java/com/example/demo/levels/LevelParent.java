@@ -0,0 +1,946 @@
+package com.example.demo.levels;
+
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import com.example.demo.collision.Aabb;
+import com.example.demo.collision.Playfield;
+import com.example.demo.collision.SpatialHashGrid;
+import com.example.demo.loop.TimerWheel;
+import com.example.demo.metrics.GameMetrics;
+import com.example.demo.objects.ActiveActor;
+import com.example.demo.objects.ActiveActorDestructible;
+import com.example.demo.objects.Boss;
+import com.example.demo.objects.EnemyPlane;
+import com.example.demo.objects.EntityStore;
+import com.example.demo.objects.FighterPlane;
+import com.example.demo.objects.ProjectileType;
+import com.example.demo.objects.UserPlane;
+import com.example.demo.profiling.CollisionPassEvent;
+import com.example.demo.profiling.FireEvent;
+import com.example.demo.profiling.SpawnEvent;
+import com.example.demo.profiling.TickEvent;
+
+/**
+ * The abstract class representing the base level in a game. It manages the actors (friendly and
+ * enemy units), projectiles, collision detection, the player's commands and the level's outcome.
+ * A level is pure simulation state: it advances one fixed tick per {@link #updateScene()} call and
+ * knows nothing about how it is shown, so it can run headless as fast as the CPU allows.
+ * A client attaches an {@link ActorListener} to follow the planes, draws the projectiles straight
+ * from the {@link EntityStore}s returned by {@link #getUserProjectiles()} and
+ * {@link #getEnemyProjectiles()}, and watches {@link #getState()}.
+ * Every random decision in a level, its actors' included, is drawn from the level's own generator,
+ * seeded from {@link #getSeed()}, so a level replays identically from the same seed and input.
+ * Player input arrives through the command methods or {@link #apply(InputCommand)}; an attached
+ * {@link InputListener} sees every command with the tick it arrived before.
+ */
+public abstract class LevelParent extends Observable {
+
+	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+	private static final double DEFAULT_SECONDS_PER_TICK = ActiveActor.LEGACY_SECONDS_PER_TICK;
+	private static final int BURST_SHOT_COUNT = 5;
+	private static final double BURST_SHOT_INTERVAL = 0.1;
+	private static final double BURST_COOLDOWN_TIME = 4.0;
+	private static final double COLLISION_CELL_SIZE = 128;
+	private static final int COLLISION_BUCKET_COUNT = 1024;
+	private static final double PLAYFIELD_MARGIN = 50;
+
+	private final double screenHeight;
+	protected final double screenWidth;
+	private final double enemyMaximumYPosition;
+
+	protected final UserPlane user;
+
+	private final List<ActiveActorDestructible> friendlyUnits;
+	private final List<ActiveActorDestructible> enemyUnits;
+	private final EntityStore userProjectiles;
+	private final EntityStore enemyProjectiles;
+	private final SpatialHashGrid collisionGrid;
+	private final Playfield playfield;
+	private final ActorRemovalBatch removalBatch;
+	private final long seed;
+	private final RandomGenerator random;
+	private ActorListener actorListener;
+	private InputListener inputListener;
+	private TickPhaseListener phaseListener;
+	private GameMetrics metrics;
+	private long phaseStart;
+	private LevelTuning tuning = LevelTuning.DEFAULT;
+	private int extraBossesSpawned;
+	private long tickCount;
+
+	private int currentNumberOfEnemies;
+	private double secondsPerTick;
+
+	private final TimerWheel timers = new TimerWheel();
+	private final TimerWheel.Timer burstShotTimer = timers.newTimer(this::fireBurstShot);
+	private final TimerWheel.Timer burstCooldownTimer = timers.newTimer(() -> canShoot = true);
+	private boolean canShoot = true;
+	private int burstShotsRemaining;
+	private boolean isPaused = false;
+	private LevelState state = LevelState.PLAYING;
+	private String nextLevelClassName;
+	private long nextLevelSeed;
+
+	/**
+	 * Constructor for LevelParent with a freshly chosen seed, readable from {@link #getSeed()}.
+	 *
+	 * @param screenHeight Height of the game screen.
+	 * @param screenWidth Width of the game screen.
+	 * @param playerInitialHealth Initial health of the player.
+	 */
+	public LevelParent(double screenHeight, double screenWidth, int playerInitialHealth) {
+		this(screenHeight, screenWidth, playerInitialHealth, randomSeed());
+	}
+
+	/**
+	 * Constructor for LevelParent.
+	 * Initializes the basic game settings, including the user plane, the actor lists and the
+	 * level's random generator.
+	 *
+	 * @param screenHeight Height of the game screen.
+	 * @param screenWidth Width of the game screen.
+	 * @param playerInitialHealth Initial health of the player.
+	 * @param seed Seed of the level's random generator.
+	 */
+	public LevelParent(double screenHeight, double screenWidth, int playerInitialHealth, long seed) {
+		this.seed = seed;
+		this.random = new SplittableRandom(seed);
+		this.user = new UserPlane(playerInitialHealth);
+		this.friendlyUnits = new ArrayList<>();
+		this.enemyUnits = new ArrayList<>();
+		this.userProjectiles = new EntityStore();
+		this.enemyProjectiles = new EntityStore();
+		this.collisionGrid = new SpatialHashGrid(COLLISION_CELL_SIZE, COLLISION_BUCKET_COUNT);
+		this.playfield = new Playfield(screenWidth, screenHeight, PLAYFIELD_MARGIN);
+		this.removalBatch = new ActorRemovalBatch();
+		this.secondsPerTick = DEFAULT_SECONDS_PER_TICK;
+
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.currentNumberOfEnemies = 0;
+		friendlyUnits.add(user);
+	}
+
+	/**
+	 * Chooses a seed for a run that was not given one. The seed is kept by the level, so the run
+	 * can still be reproduced once the seed has been reported.
+	 *
+	 * @return a new seed.
+	 */
+	public static long randomSeed() {
+		return ThreadLocalRandom.current().nextLong();
+	}
+
+	/**
+	 * Checks if the game is over. This method is abstract and must be implemented in subclasses.
+	 */
+	protected abstract void checkIfGameOver();
+
+	/**
+	 * Spawns the enemy units in the game. This method is abstract and must be implemented in subclasses.
+	 */
+	protected abstract void spawnEnemyUnits();
+
+	/**
+	 * Attaches the listener that follows planes joining and leaving the level. The listener is told
+	 * about every plane already in the level straight away. Projectiles are not actors and are never
+	 * announced; they are read from the projectile stores instead.
+	 *
+	 * @param actorListener the listener, or {@code null} to detach the current one
+	 */
+	public void setActorListener(ActorListener actorListener) {
+		this.actorListener = actorListener;
+		if (actorListener != null) {
+			announceActors(friendlyUnits);
+			announceActors(enemyUnits);
+		}
+	}
+
+	private void announceActors(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actorListener.actorAdded(actors.get(i));
+		}
+	}
+
+	/**
+	 * Attaches the listener that sees every command given to the level.
+	 *
+	 * @param inputListener the listener, or {@code null} to detach the current one
+	 */
+	public void setInputListener(InputListener inputListener) {
+		this.inputListener = inputListener;
+	}
+
+	/**
+	 * Attaches the listener that is told how long each phase of every tick takes.
+	 *
+	 * @param phaseListener the listener, or {@code null} to detach the current one and stop timing
+	 */
+	public void setPhaseListener(TickPhaseListener phaseListener) {
+		this.phaseListener = phaseListener;
+	}
+
+	/**
+	 * Attaches the session's live metrics, which the level then updates every tick, and makes this
+	 * level their current level.
+	 *
+	 * @param metrics the metrics, or {@code null} to stop updating the current ones
+	 */
+	public void setMetrics(GameMetrics metrics) {
+		this.metrics = metrics;
+		if (metrics != null) {
+			metrics.levelStarted(this);
+		}
+	}
+
+	/**
+	 * Overrides the level's enemy count and fire rates or adds bosses, e.g. for a stress scenario.
+	 * Set it before the first tick; planes that are already in the level keep their fire rates.
+	 *
+	 * @param tuning the overrides
+	 */
+	public void setTuning(LevelTuning tuning) {
+		this.tuning = tuning;
+	}
+
+	/**
+	 * Returns the level's overrides, {@link LevelTuning#DEFAULT} unless some were set.
+	 *
+	 * @return the tuning
+	 */
+	protected LevelTuning getTuning() {
+		return tuning;
+	}
+
+	/**
+	 * Sets the length of a simulation tick. Actors move in pixels per second, so movement speed does
+	 * not depend on the tick length. Fire, spawn and shield chances and the enemies' move and shield
+	 * counters are still applied once per tick, so at a different rate enemies fire, spawn and shield
+	 * more or less often.
+	 *
+	 * @param secondsPerTick the simulated time covered by each tick, in seconds
+	 */
+	public void setSecondsPerTick(double secondsPerTick) {
+		this.secondsPerTick = secondsPerTick;
+	}
+
+	/**
+	 * Returns the length of a simulation tick in seconds.
+	 *
+	 * @return the seconds per tick
+	 */
+	public double getSecondsPerTick() {
+		return secondsPerTick;
+	}
+
+	/**
+	 * Returns the level's timer wheel, which runs delayed and repeating game events in simulation
+	 * time. It advances once per tick, so its timers stand still while the level is paused, and it
+	 * is cleared when the level ends.
+	 *
+	 * @return the timer wheel
+	 */
+	protected TimerWheel getTimers() {
+		return timers;
+	}
+
+	/**
+	 * Converts a span of simulated time into whole ticks at the current tick rate, rounding to the
+	 * nearest tick but never below one.
+	 *
+	 * @param seconds the simulated time, in seconds
+	 * @return the number of ticks
+	 */
+	protected long ticksFor(double seconds) {
+		return Math.max(1, Math.round(seconds / secondsPerTick));
+	}
+
+	/**
+	 * Advances the level by one fixed tick: spawning enemies, updating actors, handling projectiles
+	 * and collisions, and checking for game over. Does nothing while the level is paused or over.
+	 * An attached {@link TickPhaseListener} is told how long each {@link TickPhase} took, and a JDK
+	 * Flight Recorder recording with the game's events enabled gets a {@link TickEvent} per tick, a
+	 * {@link CollisionPassEvent} per collision pass and a {@link SpawnEvent} or {@link FireEvent}
+	 * per spawn and shot. Attached {@link GameMetrics} count the tick, its shots, sweeps and
+	 * collision passes.
+	 */
+	public void updateScene() {
+		if (isPaused || state != LevelState.PLAYING) {
+			return;
+		}
+		TickEvent tickEvent = TickEvent.beginIfEnabled();
+		long tickStart = metrics != null ? System.nanoTime() : 0;
+		if (phaseListener != null) {
+			phaseStart = System.nanoTime();
+		}
+		savePreviousPositions();
+		spawnEnemyUnits();
+		spawnExtraBosses();
+		endPhase(TickPhase.SPAWN);
+		timers.advance();
+		updateActors();
+		endPhase(TickPhase.UPDATE);
+		generateEnemyFire();
+		endPhase(TickPhase.FIRE);
+		updateNumberOfEnemies();
+		handleActorsLeavingPlayfield();
+		endPhase(TickPhase.PLAYFIELD);
+		handleUserProjectileCollisions();
+		endPhase(TickPhase.USER_PROJECTILE_COLLISIONS);
+		handleEnemyProjectileCollisions();
+		endPhase(TickPhase.ENEMY_PROJECTILE_COLLISIONS);
+		handlePlaneCollisions();
+		endPhase(TickPhase.PLANE_COLLISIONS);
+		removeAllDestroyedActors();
+		endPhase(TickPhase.REMOVAL);
+		updateKillCount();
+		endPhase(TickPhase.KILL_COUNT);
+		checkIfGameOver();
+		endPhase(TickPhase.GAME_OVER);
+		if (tickEvent != null) {
+			tickEvent.finish(getClass().getName(), tickCount, friendlyUnits.size(), enemyUnits.size(),
+					userProjectiles.size(), enemyProjectiles.size());
+		}
+		if (metrics != null) {
+			metrics.tickEnded(this, System.nanoTime() - tickStart);
+		}
+		tickCount++;
+	}
+
+	/**
+	 * Tells the phase listener, if any, how long the phase that has just run took.
+	 *
+	 * @param phase the phase that has just run
+	 */
+	private void endPhase(TickPhase phase) {
+		if (phaseListener != null) {
+			long now = System.nanoTime();
+			phaseListener.phaseTimed(phase, now - phaseStart);
+			phaseStart = now;
+		}
+	}
+
+	/**
+	 * Adds the extra bosses the level's tuning asks for, once.
+	 */
+	private void spawnExtraBosses() {
+		while (extraBossesSpawned < tuning.extraBosses()) {
+			addEnemyUnit(new Boss(random));
+			extraBossesSpawned++;
+		}
+	}
+
+	/**
+	 * Returns the number of ticks the level has run. Paused calls to {@link #updateScene()} and calls
+	 * after the level has ended are not counted.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Fingerprints the level's current state: the tick count, outcome, kill count, number of enemies
+	 * and tick length, then every plane's position, health and destroyed flag (and a boss's shield),
+	 * then every projectile's position, health and destroyed flag, each list in order.
+	 *
+	 * @param hash the hash to fill in; its previous contents are discarded
+	 */
+	public void hashState(StateHash hash) {
+		hash.begin(tickCount);
+		hash.add(state.ordinal());
+		hash.add(user.getNumberOfKills());
+		hash.add(currentNumberOfEnemies);
+		hash.add(canShoot);
+		hash.add(secondsPerTick);
+		hashUnits(hash, StateHash.Group.FRIENDLY_UNIT, friendlyUnits);
+		hashUnits(hash, StateHash.Group.ENEMY_UNIT, enemyUnits);
+		hashProjectiles(hash, StateHash.Group.USER_PROJECTILE, userProjectiles);
+		hashProjectiles(hash, StateHash.Group.ENEMY_PROJECTILE, enemyProjectiles);
+	}
+
+	private static void hashUnits(StateHash hash, StateHash.Group group, List<ActiveActorDestructible> units) {
+		for (int i = 0; i < units.size(); i++) {
+			ActiveActorDestructible unit = units.get(i);
+			hash.beginEntity(group);
+			hash.add(unit.getPositionX());
+			hash.add(unit.getPositionY());
+			hash.add(unit.isDestroyed());
+			if (unit instanceof FighterPlane plane) {
+				hash.add(plane.getHealth());
+			}
+			if (unit instanceof Boss boss) {
+				hash.add(boss.isShielded());
+			}
+			hash.endEntity();
+		}
+	}
+
+	private static void hashProjectiles(StateHash hash, StateHash.Group group, EntityStore projectiles) {
+		for (int i = 0; i < projectiles.size(); i++) {
+			hash.beginEntity(group);
+			hash.add(projectiles.getX(i));
+			hash.add(projectiles.getY(i));
+			hash.add(projectiles.isDestroyed(i));
+			hash.add(projectiles.getHealth(i));
+			hash.add(projectiles.getKind(i));
+			hash.endEntity();
+		}
+	}
+
+	/**
+	 * Gives the level a player command, as the matching command method would.
+	 *
+	 * @param command the command
+	 */
+	public void apply(InputCommand command) {
+		switch (command) {
+			case MOVE_UP -> moveUserUp();
+			case MOVE_DOWN -> moveUserDown();
+			case STOP -> stopUser();
+			case FIRE -> fireProjectile();
+			case BURST -> shootBurst();
+			case TOGGLE_PAUSE -> togglePause();
+		}
+	}
+
+	/**
+	 * Tells the input listener about a command before it takes effect.
+	 *
+	 * @param command the command given to the level
+	 */
+	private void inputGiven(InputCommand command) {
+		if (inputListener != null) {
+			inputListener.inputGiven(tickCount, command);
+		}
+	}
+
+	/**
+	 * Pauses the level if it is running and resumes it if it is paused.
+	 */
+	public void togglePause() {
+		inputGiven(InputCommand.TOGGLE_PAUSE);
+		isPaused = !isPaused;
+	}
+
+	/**
+	 * Checks whether the level is paused.
+	 *
+	 * @return true if the level is paused, false otherwise.
+	 */
+	public boolean isPaused() {
+		return isPaused;
+	}
+
+	/**
+	 * Starts moving the user's plane up.
+	 */
+	public void moveUserUp() {
+		inputGiven(InputCommand.MOVE_UP);
+		user.moveUp();
+	}
+
+	/**
+	 * Starts moving the user's plane down.
+	 */
+	public void moveUserDown() {
+		inputGiven(InputCommand.MOVE_DOWN);
+		user.moveDown();
+	}
+
+	/**
+	 * Stops the user's plane from moving vertically.
+	 */
+	public void stopUser() {
+		inputGiven(InputCommand.STOP);
+		user.stop();
+	}
+
+	/**
+	 * Fires a projectile from the user plane.
+	 */
+	public void fireProjectile() {
+		inputGiven(InputCommand.FIRE);
+		fire(user, userProjectiles);
+	}
+
+	/**
+	 * Starts a burst of projectiles from the user plane if the burst is ready. The shots are fired
+	 * by a repeating timer over the following ticks, the first one on the next tick, and a second
+	 * timer ends the cooldown. Both run in simulation time, so a burst takes the same number of
+	 * ticks however fast the level is stepped.
+	 *
+	 * @return true if a burst was started, false if the burst is still cooling down.
+	 */
+	public boolean shootBurst() {
+		inputGiven(InputCommand.BURST);
+		if (!canShoot) {
+			return false;
+		}
+		canShoot = false;
+		burstShotsRemaining = BURST_SHOT_COUNT;
+		timers.scheduleRepeating(burstShotTimer, 1, ticksFor(BURST_SHOT_INTERVAL));
+		timers.schedule(burstCooldownTimer, ticksFor(BURST_COOLDOWN_TIME));
+		return true;
+	}
+
+	/**
+	 * Checks whether the player can start a burst.
+	 *
+	 * @return true if the burst is ready, false while it is cooling down or the level is over.
+	 */
+	public boolean isBurstReady() {
+		return canShoot;
+	}
+
+	/**
+	 * Fires one shot of the burst in progress, and stops the burst timer after the last one.
+	 */
+	private void fireBurstShot() {
+		fire(user, userProjectiles);
+		burstShotsRemaining--;
+		if (burstShotsRemaining == 0) {
+			burstShotTimer.cancel();
+		}
+	}
+
+	/**
+	 * Lets every enemy fire into the enemy projectile store.
+	 * Package-private, like the other tick phases below, so the benchmarks can run it on its own.
+	 */
+	void generateEnemyFire() {
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			fire((FighterPlane) enemyUnits.get(i), enemyProjectiles);
+		}
+	}
+
+	/**
+	 * Lets a plane fire into a projectile store, counting the shot in the metrics and recording a
+	 * {@link FireEvent} if it fired and a recording wants one.
+	 *
+	 * @param plane       the plane firing
+	 * @param projectiles the store the projectile is spawned into
+	 */
+	private void fire(FighterPlane plane, EntityStore projectiles) {
+		if (!plane.fireProjectile(projectiles)) {
+			return;
+		}
+		if (metrics != null) {
+			metrics.projectileFired(projectiles == userProjectiles);
+		}
+		if (FireEvent.isTypeEnabled()) {
+			int kind = projectiles.getKind(projectiles.size() - 1);
+			FireEvent.record(plane.getClass().getSimpleName(), ProjectileType.ofKind(kind).name());
+		}
+	}
+
+	/**
+	 * Adds an actor to one of the actor lists and tells the actor listener about it.
+	 *
+	 * @param actors the list the actor belongs to
+	 * @param actor the actor that has joined the level
+	 */
+	private void addActor(List<ActiveActorDestructible> actors, ActiveActorDestructible actor) {
+		actors.add(actor);
+		if (actorListener != null) {
+			actorListener.actorAdded(actor);
+		}
+	}
+
+	/**
+	 * Updates the actors' states during each game loop cycle, advancing them by one tick.
+	 * Projectiles are moved by a single pass over each store's position and velocity arrays.
+	 */
+	protected void updateActors() {
+		double deltaSeconds = getSecondsPerTick();
+		updateActors(friendlyUnits, deltaSeconds);
+		updateActors(enemyUnits, deltaSeconds);
+		userProjectiles.integrate(deltaSeconds);
+		enemyProjectiles.integrate(deltaSeconds);
+	}
+
+	private void updateActors(List<ActiveActorDestructible> actors, double deltaSeconds) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).updateActor(deltaSeconds);
+		}
+	}
+
+	/**
+	 * Records where every actor starts the tick, so frames drawn before the next tick
+	 * can interpolate from there to where the tick leaves it.
+	 */
+	private void savePreviousPositions() {
+		savePreviousPositions(friendlyUnits);
+		savePreviousPositions(enemyUnits);
+		userProjectiles.savePreviousPositions();
+		enemyProjectiles.savePreviousPositions();
+	}
+
+	private void savePreviousPositions(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).savePreviousPosition();
+		}
+	}
+
+	/**
+	 * Removes destroyed planes from the corresponding lists and tells the actor listener which planes
+	 * left, then compacts the projectile stores.
+	 * Each list and store is compacted in place and the listener gets one batch per tick,
+	 * so the cost is linear in the number of actors.
+	 */
+	void removeAllDestroyedActors() {
+		removalBatch.collectFrom(friendlyUnits);
+		removalBatch.collectFrom(enemyUnits);
+		if (actorListener != null && !removalBatch.isEmpty()) {
+			actorListener.actorsRemoved(removalBatch);
+		}
+		removalBatch.clear();
+		int userProjectilesRemoved = userProjectiles.removeDestroyed();
+		int enemyProjectilesRemoved = enemyProjectiles.removeDestroyed();
+		if (metrics != null) {
+			metrics.projectilesDestroyed(userProjectilesRemoved, enemyProjectilesRemoved);
+		}
+	}
+
+	/**
+	 * Handles the collision between friendly units and enemy units.
+	 */
+	void handlePlaneCollisions() {
+		handleCollisions(TickPhase.PLANE_COLLISIONS, friendlyUnits, enemyUnits);
+	}
+
+	/**
+	 * Handles the collisions between user projectiles and enemy units.
+	 */
+	void handleUserProjectileCollisions() {
+		handleCollisions(TickPhase.USER_PROJECTILE_COLLISIONS, userProjectiles, enemyUnits);
+	}
+
+	/**
+	 * Handles the collisions between enemy projectiles and friendly units.
+	 */
+	void handleEnemyProjectileCollisions() {
+		handleCollisions(TickPhase.ENEMY_PROJECTILE_COLLISIONS, enemyProjectiles, friendlyUnits);
+	}
+
+	/**
+	 * Handles collision detection between a projectile store and a list of targets. Every projectile
+	 * whose hitbox intersects a target's hitbox damages the target and is destroyed.
+	 * The projectiles are hashed into a uniform grid straight from the store's arrays, so only
+	 * projectiles sharing a grid cell with a target reach the exact intersection test.
+	 *
+	 * @param pass        The pass, named in the pass's {@link CollisionPassEvent}.
+	 * @param projectiles The projectiles involved in potential collisions.
+	 * @param targets     The actors the projectiles can hit.
+	 */
+	private void handleCollisions(TickPhase pass, EntityStore projectiles, List<ActiveActorDestructible> targets) {
+		CollisionPassEvent event = CollisionPassEvent.beginIfEnabled();
+		int pairsTested = 0;
+		int hits = 0;
+		collisionGrid.clear();
+		int projectileCount = projectiles.size();
+		for (int i = 0; i < projectileCount; i++) {
+			collisionGrid.insert(i, projectiles.getHitboxX(i), projectiles.getHitboxY(i),
+					projectiles.getHitboxMaxX(i), projectiles.getHitboxMaxY(i));
+		}
+		for (int t = 0; t < targets.size(); t++) {
+			ActiveActorDestructible target = targets.get(t);
+			Aabb hitbox = target.getHitbox();
+			int candidateCount = collisionGrid.query(hitbox.getX(), hitbox.getY(), hitbox.getMaxX(), hitbox.getMaxY());
+			pairsTested += candidateCount;
+			for (int c = 0; c < candidateCount; c++) {
+				int projectile = collisionGrid.getCandidate(c);
+				if (hitbox.intersects(projectiles.getHitboxX(projectile), projectiles.getHitboxY(projectile),
+						projectiles.getHitboxMaxX(projectile), projectiles.getHitboxMaxY(projectile))) {
+					target.takeDamage();
+					projectiles.takeDamage(projectile);
+					hits++;
+				}
+			}
+		}
+		if (event != null) {
+			event.finish(pass.name(), projectileCount, targets.size(), pairsTested, hits);
+		}
+		if (metrics != null) {
+			metrics.collisionPass(pass, pairsTested, hits);
+		}
+	}
+
+	/**
+	 * Handles collision detection between two lists of actors, checking if their hitboxes intersect.
+	 * If a collision is detected, the involved actors take damage.
+	 * The first list is hashed into a uniform grid each call, so only actors sharing a grid cell
+	 * reach the exact intersection test instead of every pair of actors.
+	 *
+	 * @param pass    The pass, named in the pass's {@link CollisionPassEvent}.
+	 * @param actors1 The first list of actors involved in potential collisions.
+	 * @param actors2 The second list of actors involved in potential collisions.
+	 */
+	private void handleCollisions(TickPhase pass, List<ActiveActorDestructible> actors1,
+								  List<ActiveActorDestructible> actors2) {
+		CollisionPassEvent event = CollisionPassEvent.beginIfEnabled();
+		int pairsTested = 0;
+		int hits = 0;
+		collisionGrid.clear();
+		for (int i = 0; i < actors1.size(); i++) {
+			Aabb hitbox = actors1.get(i).getHitbox();
+			collisionGrid.insert(i, hitbox.getX(), hitbox.getY(), hitbox.getMaxX(), hitbox.getMaxY());
+		}
+		for (ActiveActorDestructible actor : actors2) {
+			Aabb hitbox = actor.getHitbox();
+			int candidateCount = collisionGrid.query(hitbox.getX(), hitbox.getY(), hitbox.getMaxX(), hitbox.getMaxY());
+			pairsTested += candidateCount;
+			for (int i = 0; i < candidateCount; i++) {
+				ActiveActorDestructible otherActor = actors1.get(collisionGrid.getCandidate(i));
+				if (hitbox.intersects(otherActor.getHitbox())) {
+					actor.takeDamage();
+					otherActor.takeDamage();
+					hits++;
+				}
+			}
+		}
+		if (event != null) {
+			event.finish(pass.name(), actors1.size(), actors2.size(), pairsTested, hits);
+		}
+		if (metrics != null) {
+			metrics.collisionPass(pass, pairsTested, hits);
+		}
+	}
+
+	/**
+	 * Retires every actor whose hitbox has left the playfield, so missed projectiles stop being
+	 * updated and collision-tested. An enemy that leaves the playfield
+	 * has flown past the player's defenses and costs the player one health point.
+	 */
+	private void handleActorsLeavingPlayfield() {
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			ActiveActorDestructible enemy = enemyUnits.get(i);
+			if (!enemy.isDestroyed() && playfield.hasLeft(enemy.getHitbox())) {
+				user.takeDamage();
+				enemy.destroy();
+			}
+		}
+		userProjectiles.destroyOutside(playfield);
+		enemyProjectiles.destroyOutside(playfield);
+	}
+
+	/**
+	 * Updates the kill count and related game statistics.
+	 */
+	protected void updateKillCount() {
+		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
+			user.incrementKillCount();
+		}
+	}
+
+	/**
+	 * Ends the level with the player having beaten the final level.
+	 */
+	protected void winGame() {
+		endLevel(LevelState.WON);
+	}
+
+	/**
+	 * Ends the level with the player's plane destroyed.
+	 */
+	protected void loseGame() {
+		endLevel(LevelState.LOST);
+	}
+
+	/**
+	 * Ends the level with its goal met, naming the level the player moves on to.
+	 *
+	 * @param nextLevelClassName the class name of the next level.
+	 */
+	protected void completeLevel(String nextLevelClassName) {
+		this.nextLevelClassName = nextLevelClassName;
+		this.nextLevelSeed = random.nextLong();
+		endLevel(LevelState.CLEARED);
+	}
+
+	/**
+	 * Stops the level in its final state. No further ticks run, every pending timer is cancelled and
+	 * the burst can no longer be used.
+	 *
+	 * @param finalState the state the level ends in.
+	 */
+	private void endLevel(LevelState finalState) {
+		state = finalState;
+		canShoot = false;
+		burstShotsRemaining = 0;
+		timers.clear();
+	}
+
+	/**
+	 * Returns the stage the level is in.
+	 *
+	 * @return the level state.
+	 */
+	public LevelState getState() {
+		return state;
+	}
+
+	/**
+	 * Returns the class name of the level to play next once this level is cleared.
+	 *
+	 * @return the next level's class name, or {@code null} if the level has not been cleared.
+	 */
+	public String getNextLevelClassName() {
+		return nextLevelClassName;
+	}
+
+	/**
+	 * Returns the seed the level's random generator started from.
+	 *
+	 * @return the level's seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the seed for the level to play next, drawn from this level's generator when it was
+	 * cleared, so a whole run follows from the first level's seed.
+	 *
+	 * @return the next level's seed, or 0 if the level has not been cleared.
+	 */
+	public long getNextLevelSeed() {
+		return nextLevelSeed;
+	}
+
+	/**
+	 * Returns the level's random generator, for the level's own decisions and for its actors.
+	 *
+	 * @return the level's random generator.
+	 */
+	protected RandomGenerator getRandom() {
+		return random;
+	}
+
+	/**
+	 * Returns the user-controlled plane in the game.
+	 *
+	 * @return the user's plane.
+	 */
+	public UserPlane getUser() {
+		return user;
+	}
+
+	/**
+	 * Gets the current number of active enemy units in the game.
+	 *
+	 * @return the number of enemy units.
+	 */
+	public int getCurrentNumberOfEnemies() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * Gets the number of friendly units, the player's plane included.
+	 *
+	 * @return the number of friendly units.
+	 */
+	public int getFriendlyUnitCount() {
+		return friendlyUnits.size();
+	}
+
+	/**
+	 * Gets the number of user projectiles currently in flight.
+	 *
+	 * @return the number of user projectiles.
+	 */
+	public int getUserProjectileCount() {
+		return userProjectiles.size();
+	}
+
+	/**
+	 * Gets the number of enemy projectiles currently in flight.
+	 *
+	 * @return the number of enemy projectiles.
+	 */
+	public int getEnemyProjectileCount() {
+		return enemyProjectiles.size();
+	}
+
+	/**
+	 * Returns the store holding the user's projectiles, for a client to draw them from.
+	 *
+	 * @return the user projectile store.
+	 */
+	public EntityStore getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Returns the store holding the enemies' projectiles, for a client to draw them from.
+	 *
+	 * @return the enemy projectile store.
+	 */
+	public EntityStore getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	/**
+	 * Gets the number of actors currently in the level, including the user's plane.
+	 *
+	 * @return the number of live actors.
+	 */
+	public int getActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
+	}
+
+	/**
+	 * Adds a new enemy unit to the game, applying the fire rate overrides of the level's tuning.
+	 *
+	 * @param enemy the enemy unit to add.
+	 */
+	protected void addEnemyUnit(ActiveActorDestructible enemy) {
+		if (enemy instanceof EnemyPlane plane && tuning.enemyFireRate() >= 0) {
+			plane.setFireRate(tuning.enemyFireRate());
+		} else if (enemy instanceof Boss boss && tuning.bossFireRate() >= 0) {
+			boss.setFireRate(tuning.bossFireRate());
+		}
+		addActor(enemyUnits, enemy);
+		if (SpawnEvent.isTypeEnabled()) {
+			SpawnEvent.record(enemy.getClass().getSimpleName(), enemy.getPositionX(), enemy.getPositionY());
+		}
+	}
+
+	/**
+	 * Returns the maximum Y position an enemy can reach in the game.
+	 *
+	 * @return the maximum Y position for enemies.
+	 */
+	protected double getEnemyMaximumYPosition() {
+		return enemyMaximumYPosition;
+	}
+
+	public double getScreenWidth() {
+		return screenWidth;
+	}
+
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
+	/**
+	 * Checks if the user's plane has been destroyed.
+	 *
+	 * @return true if the user's plane is destroyed, false otherwise.
+	 */
+	protected boolean userIsDestroyed() {
+		return user.isDestroyed();
+	}
+
+	/**
+	 * Updates the count of active enemy units in the game.
+	 */
+	private void updateNumberOfEnemies() {
+		currentNumberOfEnemies = enemyUnits.size();
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.demo.levels;
+
+/**
+ * The stages a level goes through. A level runs ticks while {@link #PLAYING} and ends in exactly one
+ * of the other states; a client watches for the change to show the matching screen.
+ */
+public enum LevelState {
+
+	/** The level is running. */
+	PLAYING,
+
+	/** The player has met the level's goal and moves on to the next level. */
+	CLEARED,
+
+	/** The player has beaten the final level. */
+	WON,
+
+	/** The player's plane has been destroyed. */
+	LOST
+}
@@ -0,0 +1,68 @@
+package com.example.demo.levels;
+
+/**
+ * Overrides for a level's enemy count and fire rates and extra bosses, so a stress scenario can
+ * load any level far beyond its normal numbers. A negative value keeps the level's or plane's own
+ * setting; {@link #DEFAULT} keeps them all.
+ *
+ * @param totalEnemies  the most enemy planes a wave level keeps in play ({@code TOTAL_ENEMIES})
+ * @param enemyFireRate the chance an enemy plane fires each tick ({@code FIRE_RATE})
+ * @param bossFireRate  the chance a boss fires each tick ({@code BOSS_FIRE_RATE})
+ * @param extraBosses   the number of bosses added in the level's first tick, on top of its own;
+ *                      they count towards a wave level's enemy limit
+ */
+public record LevelTuning(int totalEnemies, double enemyFireRate, double bossFireRate, int extraBosses) {
+
+	/** The tuning that changes nothing. */
+	public static final LevelTuning DEFAULT = new LevelTuning(-1, -1, -1, 0);
+
+	/**
+	 * Returns the enemy limit a wave level should use.
+	 *
+	 * @param levelTotalEnemies the level's own limit
+	 * @return the override, or the level's own limit if there is none
+	 */
+	public int totalEnemiesOr(int levelTotalEnemies) {
+		return totalEnemies < 0 ? levelTotalEnemies : totalEnemies;
+	}
+
+	/**
+	 * Returns a copy with a different enemy limit.
+	 *
+	 * @param totalEnemies the most enemy planes a wave level keeps in play
+	 * @return the new tuning
+	 */
+	public LevelTuning withTotalEnemies(int totalEnemies) {
+		return new LevelTuning(totalEnemies, enemyFireRate, bossFireRate, extraBosses);
+	}
+
+	/**
+	 * Returns a copy with a different enemy fire rate.
+	 *
+	 * @param enemyFireRate the chance an enemy plane fires each tick
+	 * @return the new tuning
+	 */
+	public LevelTuning withEnemyFireRate(double enemyFireRate) {
+		return new LevelTuning(totalEnemies, enemyFireRate, bossFireRate, extraBosses);
+	}
+
+	/**
+	 * Returns a copy with a different boss fire rate.
+	 *
+	 * @param bossFireRate the chance a boss fires each tick
+	 * @return the new tuning
+	 */
+	public LevelTuning withBossFireRate(double bossFireRate) {
+		return new LevelTuning(totalEnemies, enemyFireRate, bossFireRate, extraBosses);
+	}
+
+	/**
+	 * Returns a copy with a different number of extra bosses.
+	 *
+	 * @param extraBosses the number of bosses added in the level's first tick
+	 * @return the new tuning
+	 */
+	public LevelTuning withExtraBosses(int extraBosses) {
+		return new LevelTuning(totalEnemies, enemyFireRate, bossFireRate, extraBosses);
+	}
+}
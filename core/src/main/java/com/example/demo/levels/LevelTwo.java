@@ -0,0 +1,86 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.ActiveActorDestructible;
+import com.example.demo.objects.EnemyPlane;
+
+/**
+ * Represents Level Two of the game. This level includes specific configurations
+ * such as enemy spawn probabilities and player health.
+ * Implements functionality to transition to the next level upon meeting kill requirements.
+ */
+public class LevelTwo extends LevelParent {
+
+    /** Fully qualified name of the next level to transition to. */
+    private static final String NEXT_LEVEL = "com.example.demo.levels.LevelThree";
+
+    /** Total number of enemies in this level. */
+    private static final int TOTAL_ENEMIES = 7;
+
+    /** Number of kills required to advance to the next level. */
+    private static final int KILLS_TO_ADVANCE = 20;
+
+    /** Probability of spawning an enemy during a single iteration. */
+    private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
+
+    /** Initial health of the player in this level. */
+    private static final int PLAYER_INITIAL_HEALTH = 5;
+
+    /**
+     * Constructs Level Two with specified screen dimensions.
+     *
+     * @param screenHeight the height of the game screen
+     * @param screenWidth  the width of the game screen
+     */
+    public LevelTwo(double screenHeight, double screenWidth) {
+        super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+    }
+
+    /**
+     * Constructs Level Two with specified screen dimensions and random seed.
+     *
+     * @param screenHeight the height of the screen.
+     * @param screenWidth the width of the screen.
+     * @param seed the seed of the level's random generator.
+     */
+    public LevelTwo(double screenHeight, double screenWidth, long seed) {
+        super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+    }
+
+    /**
+     * Checks the current game state to determine if the game is over or the level is cleared.
+     * The level is cleared, moving on to the next level, once the kill target is met.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            loseGame();
+        } else if (userHasReachedKillTarget()) {
+            completeLevel(NEXT_LEVEL);
+        }
+    }
+
+    /**
+     * Spawns enemy units on the screen based on the predefined probability and maximum number of enemies.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+        int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+        int totalEnemies = getTuning().totalEnemiesOr(TOTAL_ENEMIES);
+        for (int i = 0; i < totalEnemies - currentNumberOfEnemies; i++) {
+            if (getRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+                double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+                ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, getRandom());
+                addEnemyUnit(newEnemy);
+            }
+        }
+    }
+
+    /**
+     * Checks if the user has achieved the required kill count to advance to the next level.
+     *
+     * @return true if the user has reached the kill target, false otherwise
+     */
+    private boolean userHasReachedKillTarget() {
+        return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE;
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.demo.levels;
+
+import java.util.Arrays;
+
+/**
+ * A fingerprint of a level's state after one tick, filled in by {@link LevelParent#hashState(StateHash)}.
+ * Every entity gets its own 64-bit hash over its position, health and destroyed flag (and, for a boss,
+ * its shield), and the world hash combines those with the level-wide values such as the kill count.
+ * Two runs that agree on every world hash agree on the whole simulation; where they do not, the entity
+ * hashes tell which entity went first.
+ * <p>
+ * Values are folded in as primitives and the entity arrays are reused, so hashing a tick does not
+ * allocate once the arrays have grown.
+ */
+public final class StateHash {
+
+	/** The lists an entity can belong to, in the order they are hashed. */
+	public enum Group {
+
+		/** The user's plane and any other friendly planes. */
+		FRIENDLY_UNIT,
+
+		/** Enemy planes and bosses. */
+		ENEMY_UNIT,
+
+		/** Projectiles fired by the user. */
+		USER_PROJECTILE,
+
+		/** Projectiles fired by enemies. */
+		ENEMY_PROJECTILE;
+
+		/** The groups by ordinal, so a stored group maps back without copying {@link #values()}. */
+		private static final Group[] GROUPS = values();
+
+		/**
+		 * Returns the group a stored ordinal stands for.
+		 *
+		 * @param ordinal the stored ordinal
+		 * @return the group
+		 * @throws IllegalArgumentException if no group has the ordinal
+		 */
+		public static Group ofOrdinal(int ordinal) {
+			if (ordinal < 0 || ordinal >= GROUPS.length) {
+				throw new IllegalArgumentException("Unknown entity group: " + ordinal);
+			}
+			return GROUPS[ordinal];
+		}
+	}
+
+	private static final long SEED = 0x2545F4914F6CDD1DL;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private long tick;
+	private long globalHash;
+	private long entityHash;
+	private boolean inEntity;
+	private int entityCount;
+	private long[] entityHashes = new long[INITIAL_CAPACITY];
+	private byte[] entityGroups = new byte[INITIAL_CAPACITY];
+
+	/**
+	 * Starts hashing the state after a tick, forgetting the previous tick's hashes.
+	 *
+	 * @param tick the number of ticks the level has run
+	 */
+	public void begin(long tick) {
+		this.tick = tick;
+		globalHash = mix(SEED, tick);
+		inEntity = false;
+		entityCount = 0;
+	}
+
+	/**
+	 * Starts hashing an entity. Values added until {@link #endEntity()} go into its own hash.
+	 *
+	 * @param group the list the entity belongs to
+	 */
+	public void beginEntity(Group group) {
+		if (entityCount == entityHashes.length) {
+			entityHashes = Arrays.copyOf(entityHashes, entityCount * 2);
+			entityGroups = Arrays.copyOf(entityGroups, entityCount * 2);
+		}
+		entityGroups[entityCount] = (byte) group.ordinal();
+		entityHash = mix(SEED, group.ordinal());
+		inEntity = true;
+	}
+
+	/**
+	 * Finishes the current entity.
+	 */
+	public void endEntity() {
+		entityHashes[entityCount++] = entityHash;
+		inEntity = false;
+	}
+
+	/**
+	 * Folds a value into the current entity's hash, or into the level-wide hash outside an entity.
+	 *
+	 * @param value the value
+	 */
+	public void add(long value) {
+		if (inEntity) {
+			entityHash = mix(entityHash, value);
+		} else {
+			globalHash = mix(globalHash, value);
+		}
+	}
+
+	/**
+	 * Folds a value into the current entity's hash, or into the level-wide hash outside an entity.
+	 * Doubles are hashed by their bits, so any difference at all shows up.
+	 *
+	 * @param value the value
+	 */
+	public void add(double value) {
+		add(Double.doubleToLongBits(value));
+	}
+
+	/**
+	 * Folds a flag into the current entity's hash, or into the level-wide hash outside an entity.
+	 *
+	 * @param value the flag
+	 */
+	public void add(boolean value) {
+		add(value ? 1L : 0L);
+	}
+
+	/**
+	 * Returns the number of ticks the level had run when it was hashed.
+	 *
+	 * @return the tick
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Returns the hash over the level-wide values only.
+	 *
+	 * @return the level-wide hash
+	 */
+	public long getGlobalHash() {
+		return globalHash;
+	}
+
+	/**
+	 * Returns the hash over the whole state: the level-wide values and every entity in order.
+	 *
+	 * @return the world hash
+	 */
+	public long getWorldHash() {
+		long hash = mix(globalHash, entityCount);
+		for (int i = 0; i < entityCount; i++) {
+			hash = mix(hash, entityHashes[i]);
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the number of entities hashed.
+	 *
+	 * @return the entity count
+	 */
+	public int getEntityCount() {
+		return entityCount;
+	}
+
+	/**
+	 * Returns an entity's hash.
+	 *
+	 * @param entity the entity's index in hashing order
+	 * @return the entity's hash
+	 */
+	public long getEntityHash(int entity) {
+		return entityHashes[entity];
+	}
+
+	/**
+	 * Returns the list an entity belongs to.
+	 *
+	 * @param entity the entity's index in hashing order
+	 * @return the entity's group
+	 */
+	public Group getEntityGroup(int entity) {
+		return Group.ofOrdinal(entityGroups[entity]);
+	}
+
+	private static long mix(long hash, long value) {
+		hash ^= value * 0x9E3779B97F4A7C15L;
+		hash = Long.rotateLeft(hash, 31) * 0xBF58476D1CE4E5B9L;
+		return hash ^ (hash >>> 29);
+	}
+}
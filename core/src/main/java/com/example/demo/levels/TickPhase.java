@@ -0,0 +1,49 @@
+package com.example.demo.levels;
+
+/**
+ * The phases of a level tick, in the order {@link LevelParent#updateScene()} runs them.
+ */
+public enum TickPhase {
+
+	/** Saving where every actor starts the tick and spawning enemy units. */
+	SPAWN,
+	/** Advancing the player's burst and moving every actor. */
+	UPDATE,
+	/** Letting the enemies fire. */
+	FIRE,
+	/** Retiring actors that have left the playfield. */
+	PLAYFIELD,
+	/** Testing the player's projectiles against the enemies. */
+	USER_PROJECTILE_COLLISIONS,
+	/** Testing the enemies' projectiles against the player. */
+	ENEMY_PROJECTILE_COLLISIONS,
+	/** Testing the player's plane against the enemy planes. */
+	PLANE_COLLISIONS,
+	/** Sweeping out destroyed actors. */
+	REMOVAL,
+	/** Counting the kills the sweep made. */
+	KILL_COUNT,
+	/** Checking whether the level has ended; always the last phase of a tick. */
+	GAME_OVER;
+
+	private static final TickPhase[] VALUES = values();
+
+	/**
+	 * Returns the phase with the given ordinal without copying the values array.
+	 *
+	 * @param ordinal the ordinal
+	 * @return the phase
+	 */
+	public static TickPhase ofOrdinal(int ordinal) {
+		return VALUES[ordinal];
+	}
+
+	/**
+	 * Returns the number of phases.
+	 *
+	 * @return the phase count
+	 */
+	public static int count() {
+		return VALUES.length;
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.demo.levels;
+
+/**
+ * Receives how long each phase of a level tick took, e.g. to profile the simulation. The level only
+ * reads the clock while a listener is attached.
+ */
+public interface TickPhaseListener {
+
+	/**
+	 * Called as each phase of a tick ends.
+	 *
+	 * @param phase the phase that has just run
+	 * @param nanos how long it took, in nanoseconds
+	 */
+	void phaseTimed(TickPhase phase, long nanos);
+}
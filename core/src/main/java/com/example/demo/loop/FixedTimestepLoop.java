@@ -0,0 +1,180 @@
+package com.example.demo.loop;
+
+/**
+ * Runs a simulation at a fixed tick rate, independent of how often frames arrive.
+ * Each frame adds the real time elapsed since the previous frame to an accumulator and runs as
+ * many whole ticks as fit into it. The leftover fraction of a tick is exposed as
+ * {@link #getAlpha()} for rendering. A late frame catches up by running several ticks, but never
+ * more than {@code maxTicksPerFrame}; anything beyond that is dropped so a slow machine does not
+ * fall further and further behind.
+ */
+public class FixedTimestepLoop {
+
+	/** The number of nanoseconds in a second. */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/** Marks that no frame has been seen since the loop was started. */
+	private static final long NO_FRAME = Long.MIN_VALUE;
+
+	/** The simulation step run once per tick. */
+	private final Runnable tick;
+
+	/** The maximum number of ticks run for a single frame. */
+	private final int maxTicksPerFrame;
+
+	/** The number of ticks per second of simulated time. */
+	private double ticksPerSecond;
+
+	/** The length of a tick in nanoseconds. */
+	private long nanosPerTick;
+
+	/** The timestamp of the previous frame, or {@link #NO_FRAME}. */
+	private long previousFrameNanos = NO_FRAME;
+
+	/** Real time not yet consumed by ticks. */
+	private long accumulatedNanos;
+
+	/** Whether frames currently advance the simulation. */
+	private boolean running;
+
+	/** The number of ticks run since construction. */
+	private long tickCount;
+
+	/** The number of ticks skipped because a frame hit the catch-up limit. */
+	private long droppedTicks;
+
+	/**
+	 * Constructs a stopped FixedTimestepLoop.
+	 *
+	 * @param ticksPerSecond   the number of simulation ticks per second
+	 * @param maxTicksPerFrame the maximum number of ticks run for one frame
+	 * @param tick             the simulation step to run once per tick
+	 */
+	public FixedTimestepLoop(double ticksPerSecond, int maxTicksPerFrame, Runnable tick) {
+		if (maxTicksPerFrame < 1) {
+			throw new IllegalArgumentException("maxTicksPerFrame must be at least 1: " + maxTicksPerFrame);
+		}
+		this.tick = tick;
+		this.maxTicksPerFrame = maxTicksPerFrame;
+		setTicksPerSecond(ticksPerSecond);
+	}
+
+	/**
+	 * Starts advancing the simulation. Time that passed while the loop was stopped is not caught up.
+	 */
+	public void start() {
+		running = true;
+		previousFrameNanos = NO_FRAME;
+		accumulatedNanos = 0;
+	}
+
+	/**
+	 * Stops advancing the simulation. A tick that stops the loop ends the current frame's catch-up,
+	 * and the whole ticks still owed to that frame are discarded, so the alpha stays below 1.
+	 */
+	public void stop() {
+		running = false;
+	}
+
+	/**
+	 * Checks whether the loop is currently advancing the simulation.
+	 *
+	 * @return {@code true} if the loop is running
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Advances the simulation to a frame timestamp, running every tick that has come due.
+	 *
+	 * @param nowNanos the frame timestamp in nanoseconds
+	 * @return the number of ticks run
+	 */
+	public int advance(long nowNanos) {
+		if (!running) {
+			return 0;
+		}
+		if (previousFrameNanos == NO_FRAME) {
+			previousFrameNanos = nowNanos;
+			return 0;
+		}
+		accumulatedNanos += Math.max(0, nowNanos - previousFrameNanos);
+		previousFrameNanos = nowNanos;
+		int ticksRun = 0;
+		while (running && accumulatedNanos >= nanosPerTick) {
+			if (ticksRun == maxTicksPerFrame) {
+				droppedTicks += accumulatedNanos / nanosPerTick;
+				accumulatedNanos %= nanosPerTick;
+				break;
+			}
+			tick.run();
+			accumulatedNanos -= nanosPerTick;
+			ticksRun++;
+			tickCount++;
+		}
+		if (!running) {
+			accumulatedNanos %= nanosPerTick;
+		}
+		return ticksRun;
+	}
+
+	/**
+	 * Returns how far the simulation has progressed into the next tick, for rendering between ticks.
+	 *
+	 * @return the leftover fraction of a tick, from 0 inclusive to 1 exclusive
+	 */
+	public double getAlpha() {
+		return (double) accumulatedNanos / nanosPerTick;
+	}
+
+	/**
+	 * Changes the tick rate. Velocities are expressed per second, so movement runs at the same
+	 * speed at any rate; anything the simulation counts in ticks runs faster or slower with it.
+	 *
+	 * @param ticksPerSecond the new number of ticks per second
+	 */
+	public void setTicksPerSecond(double ticksPerSecond) {
+		if (!(ticksPerSecond > 0)) {
+			throw new IllegalArgumentException("ticksPerSecond must be positive: " + ticksPerSecond);
+		}
+		this.ticksPerSecond = ticksPerSecond;
+		this.nanosPerTick = Math.max(1, Math.round(NANOS_PER_SECOND / ticksPerSecond));
+	}
+
+	/**
+	 * Returns the number of ticks per second.
+	 *
+	 * @return the tick rate
+	 */
+	public double getTicksPerSecond() {
+		return ticksPerSecond;
+	}
+
+	/**
+	 * Returns the length of a tick in seconds of simulated time.
+	 *
+	 * @return the seconds per tick
+	 */
+	public double getSecondsPerTick() {
+		return 1.0 / ticksPerSecond;
+	}
+
+	/**
+	 * Returns the number of ticks run since construction.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Returns the number of ticks skipped because frames hit the catch-up limit.
+	 *
+	 * @return the dropped tick count
+	 */
+	public long getDroppedTicks() {
+		return droppedTicks;
+	}
+}
@@ -0,0 +1,246 @@
+package com.example.demo.loop;
+
+/**
+ * Schedules delayed and repeating events in simulation ticks. Timers live in a hierarchy of
+ * wheels of {@value #SLOTS} slots each: the first wheel holds the timers due within
+ * {@value #SLOTS} ticks, one slot per tick, and each further wheel covers {@value #SLOTS} times
+ * the span of the one below. When the lower wheel comes round, the due slot of the wheel above is
+ * cascaded down into it. Every slot is a circular list of its timers, so scheduling and
+ * cancelling a timer are constant-time, and advancing a tick only touches the timers that are due
+ * or being cascaded.
+ * <p>
+ * Time only passes when {@link #advance()} is called, once per simulation tick, so timers freeze
+ * with the simulation. A {@link Timer} can be rescheduled as often as needed without allocating.
+ */
+public final class TimerWheel {
+
+	/** The number of slots in each wheel. */
+	public static final int SLOTS = 64;
+
+	/** The number of wheels. */
+	private static final int WHEELS = 4;
+
+	/** The number of bits of a tick that index one wheel. */
+	private static final int SLOT_BITS = Integer.numberOfTrailingZeros(SLOTS);
+
+	private static final int SLOT_MASK = SLOTS - 1;
+
+	/** The longest delay that can be scheduled, in ticks. */
+	public static final long MAX_DELAY = (1L << (SLOT_BITS * WHEELS)) - 1;
+
+	/**
+	 * An event scheduled on a wheel. A timer is created for one wheel and one task, and can be
+	 * scheduled, cancelled and scheduled again any number of times.
+	 */
+	public static final class Timer {
+
+		private final TimerWheel wheel;
+		private final Runnable task;
+		private Timer previous;
+		private Timer next;
+		private long dueTick;
+		private long period;
+
+		private Timer(TimerWheel wheel, Runnable task) {
+			this.wheel = wheel;
+			this.task = task;
+		}
+
+		/**
+		 * Stops the timer from firing. Does nothing if it is not scheduled.
+		 */
+		public void cancel() {
+			if (isScheduled()) {
+				unlink();
+				wheel.size--;
+			}
+		}
+
+		/**
+		 * Checks whether the timer is waiting to fire.
+		 *
+		 * @return true if the timer is scheduled
+		 */
+		public boolean isScheduled() {
+			return next != null;
+		}
+
+		/**
+		 * Returns the number of ticks until the timer fires.
+		 *
+		 * @return the remaining delay, or 0 if the timer is not scheduled
+		 */
+		public long getRemainingTicks() {
+			return isScheduled() ? dueTick - wheel.tick : 0;
+		}
+
+		private void unlink() {
+			previous.next = next;
+			next.previous = previous;
+			previous = null;
+			next = null;
+		}
+
+		private void linkBefore(Timer head) {
+			previous = head.previous;
+			next = head;
+			head.previous.next = this;
+			head.previous = this;
+		}
+	}
+
+	/** The list heads of every slot, wheel by wheel. */
+	private final Timer[][] slots = new Timer[WHEELS][SLOTS];
+
+	/** The number of ticks advanced. */
+	private long tick;
+
+	/** The number of scheduled timers. */
+	private int size;
+
+	/**
+	 * Constructs an empty TimerWheel at tick 0.
+	 */
+	public TimerWheel() {
+		for (Timer[] wheel : slots) {
+			for (int i = 0; i < SLOTS; i++) {
+				Timer head = new Timer(this, null);
+				head.previous = head;
+				head.next = head;
+				wheel[i] = head;
+			}
+		}
+	}
+
+	/**
+	 * Creates a timer on this wheel. The timer is not scheduled until {@link #schedule} or
+	 * {@link #scheduleRepeating} is called with it.
+	 *
+	 * @param task what to run when the timer fires
+	 * @return the new timer
+	 */
+	public Timer newTimer(Runnable task) {
+		return new Timer(this, task);
+	}
+
+	/**
+	 * Schedules a timer to fire once, replacing any schedule it already had.
+	 *
+	 * @param timer      a timer created by this wheel
+	 * @param delayTicks the number of ticks until it fires; 1 fires on the next tick
+	 * @throws IllegalArgumentException if the timer belongs to another wheel or the delay is out of range
+	 */
+	public void schedule(Timer timer, long delayTicks) {
+		scheduleRepeating(timer, delayTicks, 0);
+	}
+
+	/**
+	 * Schedules a timer to fire after a delay and then every period, until it is cancelled,
+	 * replacing any schedule it already had. A repeating timer may cancel itself from its task.
+	 *
+	 * @param timer       a timer created by this wheel
+	 * @param delayTicks  the number of ticks until it first fires; 1 fires on the next tick
+	 * @param periodTicks the number of ticks between firings, or 0 to fire only once
+	 * @throws IllegalArgumentException if the timer belongs to another wheel, or the delay or the period is out of range
+	 */
+	public void scheduleRepeating(Timer timer, long delayTicks, long periodTicks) {
+		if (timer.wheel != this) {
+			throw new IllegalArgumentException("Timer belongs to another wheel");
+		}
+		if (delayTicks < 1 || delayTicks > MAX_DELAY || periodTicks < 0 || periodTicks > MAX_DELAY) {
+			throw new IllegalArgumentException("Delay must be 1 to " + MAX_DELAY + " ticks and period 0 to "
+					+ MAX_DELAY + ": " + delayTicks + ", " + periodTicks);
+		}
+		timer.cancel();
+		timer.dueTick = tick + delayTicks;
+		timer.period = periodTicks;
+		place(timer);
+		size++;
+	}
+
+	/**
+	 * Advances the wheel by one tick and runs the tasks of the timers due on it, in the order they
+	 * were placed into the tick's slot. A task may schedule or cancel any timer, itself included.
+	 */
+	public void advance() {
+		tick++;
+		cascade();
+		Timer head = slots[0][(int) (tick & SLOT_MASK)];
+		while (head.next != head) {
+			Timer timer = head.next;
+			timer.unlink();
+			size--;
+			if (timer.period > 0) {
+				timer.dueTick = tick + timer.period;
+				place(timer);
+				size++;
+			}
+			timer.task.run();
+		}
+	}
+
+	/**
+	 * Cancels every scheduled timer.
+	 */
+	public void clear() {
+		for (Timer[] wheel : slots) {
+			for (Timer head : wheel) {
+				while (head.next != head) {
+					head.next.unlink();
+				}
+			}
+		}
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of ticks the wheel has advanced.
+	 *
+	 * @return the current tick
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Returns the number of scheduled timers.
+	 *
+	 * @return the number of timers waiting to fire
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Moves the timers of each higher wheel whose slot has come round down into the wheels below,
+	 * the highest wheel first, so its timers can land in a slot that is cascaded next.
+	 */
+	private void cascade() {
+		int top = 0;
+		while (top < WHEELS - 1 && ((tick >>> (SLOT_BITS * top)) & SLOT_MASK) == 0) {
+			top++;
+		}
+		for (int level = top; level > 0; level--) {
+			Timer head = slots[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+			while (head.next != head) {
+				Timer timer = head.next;
+				timer.unlink();
+				place(timer);
+			}
+		}
+	}
+
+	/**
+	 * Links a timer into the slot of the lowest wheel whose span covers its remaining delay. A timer
+	 * due on the current tick, which only happens while cascading, goes into the current slot of the
+	 * first wheel, which is run straight after.
+	 */
+	private void place(Timer timer) {
+		long delay = timer.dueTick - tick;
+		int level = 0;
+		while (level < WHEELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+			level++;
+		}
+		timer.linkBefore(slots[level][(int) ((timer.dueTick >>> (SLOT_BITS * level)) & SLOT_MASK)]);
+	}
+}
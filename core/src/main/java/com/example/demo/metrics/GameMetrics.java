@@ -0,0 +1,171 @@
+package com.example.demo.metrics;
+
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.TickPhase;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of the game loop, shared by every level of a session and read by a
+ * {@link MetricsServer}: ticks and their durations, the size of each of the current level's actor
+ * lists, projectiles fired and destroyed, collision pairs and hits per pass, the current level and
+ * how long level transitions take. The game thread only adds to {@link LongAdder}s and writes
+ * volatile gauges, so it never blocks on, or is slowed by, a scrape.
+ */
+public final class GameMetrics {
+
+	private static final TickPhase[] COLLISION_PASSES = {
+			TickPhase.USER_PROJECTILE_COLLISIONS, TickPhase.ENEMY_PROJECTILE_COLLISIONS, TickPhase.PLANE_COLLISIONS};
+
+	private final LongAdder ticks = new LongAdder();
+	private final PrometheusHistogram tickDurations = new PrometheusHistogram("skybattle_tick_duration_seconds",
+			"Time spent running one level tick.",
+			0.000_05, 0.000_1, 0.000_25, 0.000_5, 0.001, 0.002, 0.005, 0.010, 0.016, 0.033, 0.1);
+	private final PrometheusHistogram transitionDurations = new PrometheusHistogram(
+			"skybattle_level_transition_seconds", "Time spent loading the next level after one is cleared.",
+			0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5);
+	private final LongAdder userProjectilesFired = new LongAdder();
+	private final LongAdder enemyProjectilesFired = new LongAdder();
+	private final LongAdder userProjectilesDestroyed = new LongAdder();
+	private final LongAdder enemyProjectilesDestroyed = new LongAdder();
+	private final LongAdder[] pairsTested = new LongAdder[TickPhase.count()];
+	private final LongAdder[] hits = new LongAdder[TickPhase.count()];
+	private volatile String levelClassName = "";
+	private volatile int friendlyUnits;
+	private volatile int enemyUnits;
+	private volatile int userProjectiles;
+	private volatile int enemyProjectiles;
+
+	/**
+	 * Creates metrics with every counter at zero.
+	 */
+	public GameMetrics() {
+		for (TickPhase pass : COLLISION_PASSES) {
+			pairsTested[pass.ordinal()] = new LongAdder();
+			hits[pass.ordinal()] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records a tick and the size of the level's actor lists at its end.
+	 *
+	 * @param level the level that ticked
+	 * @param nanos how long the tick took, in nanoseconds
+	 */
+	public void tickEnded(LevelParent level, long nanos) {
+		ticks.increment();
+		tickDurations.record(nanos);
+		friendlyUnits = level.getFriendlyUnitCount();
+		enemyUnits = level.getCurrentNumberOfEnemies();
+		userProjectiles = level.getUserProjectileCount();
+		enemyProjectiles = level.getEnemyProjectileCount();
+	}
+
+	/**
+	 * Records a shot.
+	 *
+	 * @param byUser true if the player fired, false if an enemy did
+	 */
+	public void projectileFired(boolean byUser) {
+		(byUser ? userProjectilesFired : enemyProjectilesFired).increment();
+	}
+
+	/**
+	 * Records projectiles swept out of a store, whether they hit something or left the playfield.
+	 *
+	 * @param userProjectiles  the number of user projectiles destroyed
+	 * @param enemyProjectiles the number of enemy projectiles destroyed
+	 */
+	public void projectilesDestroyed(int userProjectiles, int enemyProjectiles) {
+		userProjectilesDestroyed.add(userProjectiles);
+		enemyProjectilesDestroyed.add(enemyProjectiles);
+	}
+
+	/**
+	 * Records one collision pass.
+	 *
+	 * @param pass        the pass
+	 * @param pairsTested the number of pairs given the exact intersection test
+	 * @param hits        the number of pairs that intersected
+	 */
+	public void collisionPass(TickPhase pass, int pairsTested, int hits) {
+		this.pairsTested[pass.ordinal()].add(pairsTested);
+		this.hits[pass.ordinal()].add(hits);
+	}
+
+	/**
+	 * Records the level now being played.
+	 *
+	 * @param level the level
+	 */
+	public void levelStarted(LevelParent level) {
+		levelClassName = level.getClass().getName();
+	}
+
+	/**
+	 * Records how long loading the next level took.
+	 *
+	 * @param nanos the load time, in nanoseconds
+	 */
+	public void levelTransitioned(long nanos) {
+		transitionDurations.record(nanos);
+	}
+
+	/**
+	 * Returns the number of ticks recorded.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicks() {
+		return ticks.sum();
+	}
+
+	/**
+	 * Writes every metric in the Prometheus text exposition format.
+	 *
+	 * @return the metrics text
+	 */
+	public String scrape() {
+		StringBuilder out = new StringBuilder(4096);
+		counter(out, "skybattle_ticks_total", "Level ticks run; its rate is the tick rate.", ticks.sum());
+		tickDurations.writeTo(out);
+		header(out, "skybattle_actors", "Actors in each of the current level's lists.", "gauge");
+		sample(out, "skybattle_actors", "list", "friendlyUnits", friendlyUnits);
+		sample(out, "skybattle_actors", "list", "enemyUnits", enemyUnits);
+		sample(out, "skybattle_actors", "list", "userProjectiles", userProjectiles);
+		sample(out, "skybattle_actors", "list", "enemyProjectiles", enemyProjectiles);
+		header(out, "skybattle_projectiles_fired_total", "Projectiles fired.", "counter");
+		sample(out, "skybattle_projectiles_fired_total", "side", "user", userProjectilesFired.sum());
+		sample(out, "skybattle_projectiles_fired_total", "side", "enemy", enemyProjectilesFired.sum());
+		header(out, "skybattle_projectiles_destroyed_total", "Projectiles swept out after a hit or leaving the playfield.", "counter");
+		sample(out, "skybattle_projectiles_destroyed_total", "side", "user", userProjectilesDestroyed.sum());
+		sample(out, "skybattle_projectiles_destroyed_total", "side", "enemy", enemyProjectilesDestroyed.sum());
+		header(out, "skybattle_collision_pairs_tested_total", "Pairs given the exact intersection test, per pass.", "counter");
+		for (TickPhase pass : COLLISION_PASSES) {
+			sample(out, "skybattle_collision_pairs_tested_total", "pass", pass.name(), pairsTested[pass.ordinal()].sum());
+		}
+		header(out, "skybattle_collision_hits_total", "Pairs that intersected, per pass.", "counter");
+		for (TickPhase pass : COLLISION_PASSES) {
+			sample(out, "skybattle_collision_hits_total", "pass", pass.name(), hits[pass.ordinal()].sum());
+		}
+		header(out, "skybattle_level_info", "The level being played.", "gauge");
+		sample(out, "skybattle_level_info", "level", levelClassName, 1);
+		transitionDurations.writeTo(out);
+		return out.toString();
+	}
+
+	private static void counter(StringBuilder out, String name, String help, long value) {
+		header(out, name, help, "counter");
+		out.append(name).append(' ').append(value).append('\n');
+	}
+
+	private static void header(StringBuilder out, String name, String help, String type) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+	private static void sample(StringBuilder out, String name, String label, String labelValue, long value) {
+		out.append(name).append('{').append(label).append("=\"").append(labelValue).append("\"} ")
+				.append(value).append('\n');
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.demo.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves a {@link GameMetrics} as Prometheus text at {@code /metrics}, on the loopback interface
+ * only. Scrapes are answered on one daemon thread of the server's own, away from the game thread,
+ * and the server never keeps the JVM alive once the game has closed.
+ */
+public final class MetricsServer implements Closeable {
+
+	/** The path the metrics are served at. */
+	public static final String PATH = "/metrics";
+
+	private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private final HttpServer server;
+
+	private MetricsServer(HttpServer server) {
+		this.server = server;
+	}
+
+	/**
+	 * Starts serving metrics on a localhost port.
+	 *
+	 * @param metrics the metrics to serve
+	 * @param port    the port, or 0 for any free one
+	 * @return the running server
+	 * @throws IOException if the port cannot be bound
+	 */
+	public static MetricsServer start(GameMetrics metrics, int port) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext(PATH, exchange -> respond(exchange, metrics));
+		server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "metrics-scrape");
+			thread.setDaemon(true);
+			return thread;
+		}));
+		// The server's dispatcher thread takes its daemon status from the thread that starts it.
+		Thread starter = new Thread(server::start, "metrics-start");
+		starter.setDaemon(true);
+		starter.start();
+		try {
+			starter.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return new MetricsServer(server);
+	}
+
+	/**
+	 * Returns the port the server listens on.
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Stops the server.
+	 */
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private static void respond(HttpExchange exchange, GameMetrics metrics) throws IOException {
+		try (exchange) {
+			if (!"GET".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			byte[] body = metrics.scrape().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		}
+	}
+}
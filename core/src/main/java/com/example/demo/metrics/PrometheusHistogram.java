@@ -0,0 +1,86 @@
+package com.example.demo.metrics;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations over fixed upper bounds, written in the Prometheus text format. Each
+ * bucket is a {@link LongAdder}, so the game thread records without ever contending with, or
+ * waiting for, a scrape running at the same time.
+ */
+final class PrometheusHistogram {
+
+	private final String name;
+	private final String help;
+	private final String[] upperBoundLabels;
+	private final long[] upperBoundsNanos;
+	private final LongAdder[] buckets;
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sumNanos = new LongAdder();
+
+	/**
+	 * Creates an empty histogram.
+	 *
+	 * @param name               the metric name
+	 * @param help               the metric's help text
+	 * @param upperBoundsSeconds the bucket upper bounds, ascending, in seconds; a {@code +Inf}
+	 *                           bucket is always added
+	 */
+	PrometheusHistogram(String name, String help, double... upperBoundsSeconds) {
+		this.name = name;
+		this.help = help;
+		this.upperBoundLabels = new String[upperBoundsSeconds.length + 1];
+		this.upperBoundsNanos = new long[upperBoundsSeconds.length];
+		this.buckets = new LongAdder[upperBoundsSeconds.length + 1];
+		for (int i = 0; i < upperBoundsSeconds.length; i++) {
+			upperBoundsNanos[i] = (long) (upperBoundsSeconds[i] * 1e9);
+			upperBoundLabels[i] = BigDecimal.valueOf(upperBoundsSeconds[i]).toPlainString();
+		}
+		upperBoundLabels[upperBoundsSeconds.length] = "+Inf";
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records one duration.
+	 *
+	 * @param nanos the duration, in nanoseconds
+	 */
+	void record(long nanos) {
+		int bucket = 0;
+		while (bucket < upperBoundsNanos.length && nanos > upperBoundsNanos[bucket]) {
+			bucket++;
+		}
+		buckets[bucket].increment();
+		count.increment();
+		sumNanos.add(nanos);
+	}
+
+	/**
+	 * Returns the number of durations recorded.
+	 *
+	 * @return the count
+	 */
+	long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Writes the histogram's cumulative buckets, sum and count.
+	 *
+	 * @param out the buffer to write to
+	 */
+	void writeTo(StringBuilder out) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(" histogram\n");
+		long cumulative = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			cumulative += buckets[i].sum();
+			out.append(name).append("_bucket{le=\"").append(upperBoundLabels[i]).append("\"} ")
+					.append(cumulative).append('\n');
+		}
+		out.append(name).append("_sum ").append(sumNanos.sum() / 1e9).append('\n');
+		out.append(name).append("_count ").append(cumulative).append('\n');
+	}
+}
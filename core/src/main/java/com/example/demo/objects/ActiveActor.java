@@ -0,0 +1,247 @@
+package com.example.demo.objects;
+
+/**
+ * Abstract base class for active actors in the game world.
+ * This class provides functionality for initializing an actor with a sprite and position
+ * and includes methods for horizontal and vertical movement.
+ * An actor is pure simulation state: the sprite is only named here, and a client shows it at
+ * a position interpolated between the last two ticks with {@link #getRenderX(double)} and
+ * {@link #getRenderY(double)}.
+ */
+public abstract class ActiveActor {
+
+	/**
+	 * The tick length the game's speeds were tuned at, in seconds. Speeds are given in pixels per
+	 * second, as the pixels moved in one such tick divided by this length, so they do not change
+	 * when the tick length does.
+	 */
+	public static final double LEGACY_SECONDS_PER_TICK = 0.030;
+
+	/**
+	 * The base directory for image resources.
+	 */
+	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	/** The classpath resource path of the actor's sprite. */
+	private final String imagePath;
+
+	/** The height the sprite is shown at; its aspect ratio is preserved. */
+	private final int imageHeight;
+
+	/** The X-axis position the actor moves from. */
+	private double layoutX;
+
+	/** The Y-axis position the actor moves from. */
+	private double layoutY;
+
+	/** The simulated horizontal distance moved from the layout position. */
+	private double offsetX;
+
+	/** The simulated vertical distance moved from the layout position. */
+	private double offsetY;
+
+	/** The horizontal offset at the start of the current tick. */
+	private double previousOffsetX;
+
+	/** The vertical offset at the start of the current tick. */
+	private double previousOffsetY;
+
+	/** The client-side view showing this actor, or {@code null}. */
+	private Object view;
+
+	/**
+	 * Constructs an {@code ActiveActor} with the specified image, size, and initial position.
+	 *
+	 * @param imageName    the name of the image file to use for this actor
+	 * @param imageHeight  the desired height of the image (aspect ratio is preserved)
+	 * @param initialXPos  the initial X position of the actor
+	 * @param initialYPos  the initial Y position of the actor
+	 */
+	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
+		this.imagePath = IMAGE_LOCATION + imageName;
+		this.imageHeight = imageHeight;
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+	}
+
+	/**
+	 * Updates the position of the actor. Subclasses must provide the implementation
+	 * to define how the position is updated.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
+	 */
+	public abstract void updatePosition(double deltaSeconds);
+
+	/**
+	 * Moves the actor horizontally by a specified amount.
+	 *
+	 * @param horizontalMove the amount to move the actor horizontally
+	 */
+	protected void moveHorizontally(double horizontalMove) {
+		offsetX += horizontalMove;
+	}
+
+	/**
+	 * Moves the actor vertically by a specified amount.
+	 *
+	 * @param verticalMove the amount to move the actor vertically
+	 */
+	protected void moveVertically(double verticalMove) {
+		offsetY += verticalMove;
+	}
+
+	/**
+	 * Returns the simulated vertical distance the actor has moved from its layout position.
+	 *
+	 * @return the vertical offset
+	 */
+	protected double getOffsetY() {
+		return offsetY;
+	}
+
+	/**
+	 * Sets the simulated vertical distance from the layout position, e.g. to undo a move that left the bounds.
+	 *
+	 * @param offsetY the new vertical offset
+	 */
+	protected void setOffsetY(double offsetY) {
+		this.offsetY = offsetY;
+	}
+
+	/**
+	 * Places the actor at a new layout position with no movement and nothing to interpolate from.
+	 *
+	 * @param layoutX the new X-axis layout position
+	 * @param layoutY the new Y-axis layout position
+	 */
+	protected void resetPosition(double layoutX, double layoutY) {
+		this.layoutX = layoutX;
+		this.layoutY = layoutY;
+		offsetX = 0;
+		offsetY = 0;
+		previousOffsetX = 0;
+		previousOffsetY = 0;
+	}
+
+	/**
+	 * Returns the X-axis position the actor moves from.
+	 *
+	 * @return the layout X position
+	 */
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	/**
+	 * Sets the X-axis position the actor moves from.
+	 *
+	 * @param layoutX the new layout X position
+	 */
+	public void setLayoutX(double layoutX) {
+		this.layoutX = layoutX;
+	}
+
+	/**
+	 * Returns the Y-axis position the actor moves from.
+	 *
+	 * @return the layout Y position
+	 */
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	/**
+	 * Sets the Y-axis position the actor moves from.
+	 *
+	 * @param layoutY the new layout Y position
+	 */
+	public void setLayoutY(double layoutY) {
+		this.layoutY = layoutY;
+	}
+
+	/**
+	 * Returns the simulated X-axis position of the actor.
+	 *
+	 * @return the layout X position plus the simulated horizontal offset
+	 */
+	public double getPositionX() {
+		return layoutX + offsetX;
+	}
+
+	/**
+	 * Returns the simulated Y-axis position of the actor.
+	 *
+	 * @return the layout Y position plus the simulated vertical offset
+	 */
+	public double getPositionY() {
+		return layoutY + offsetY;
+	}
+
+	/**
+	 * Remembers the current simulated position as the starting point for interpolation.
+	 * The level calls this at the start of every tick, before anything moves.
+	 */
+	public void savePreviousPosition() {
+		previousOffsetX = offsetX;
+		previousOffsetY = offsetY;
+	}
+
+	/**
+	 * Returns the X-axis position to draw the actor at, between its previous and current
+	 * simulated positions. The simulated position is left untouched.
+	 *
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 * @return the interpolated X position
+	 */
+	public double getRenderX(double alpha) {
+		return layoutX + previousOffsetX + (offsetX - previousOffsetX) * alpha;
+	}
+
+	/**
+	 * Returns the Y-axis position to draw the actor at, between its previous and current
+	 * simulated positions. The simulated position is left untouched.
+	 *
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 * @return the interpolated Y position
+	 */
+	public double getRenderY(double alpha) {
+		return layoutY + previousOffsetY + (offsetY - previousOffsetY) * alpha;
+	}
+
+	/**
+	 * Returns the classpath resource path of the actor's sprite.
+	 *
+	 * @return the sprite resource path
+	 */
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	/**
+	 * Returns the height the sprite is shown at.
+	 *
+	 * @return the sprite height
+	 */
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Returns the client-side view showing this actor. The simulation never reads it;
+	 * it lets a client keep one view per plane for the plane's whole life.
+	 *
+	 * @return the attached view, or {@code null} if none has been attached
+	 */
+	public Object getView() {
+		return view;
+	}
+
+	/**
+	 * Attaches a client-side view to this actor.
+	 *
+	 * @param view the view showing this actor
+	 */
+	public void setView(Object view) {
+		this.view = view;
+	}
+}
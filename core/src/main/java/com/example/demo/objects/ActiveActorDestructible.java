@@ -1,7 +1,6 @@
 package com.example.demo.objects;
 
-import com.example.demo.Destructible;
-import javafx.scene.shape.Rectangle;
+import com.example.demo.collision.Aabb;
 
 /**
  * Abstract base class for destructible active actors.
@@ -31,15 +30,19 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	/**
 	 * Updates the position of the actor. Subclasses must provide the implementation
 	 * to define how the position is updated.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
 	 */
 	@Override
-	public abstract void updatePosition();
+	public abstract void updatePosition(double deltaSeconds);
 
 	/**
 	 * Updates the state of the actor. Subclasses must provide the implementation
 	 * to define how the actor's state changes.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
 	 */
-	public abstract void updateActor();
+	public abstract void updateActor(double deltaSeconds);
 
 	/**
 	 * Applies damage to the actor. Subclasses must provide the implementation
@@ -78,7 +81,7 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 * Retrieves the hitbox of the actor. Subclasses must provide the implementation
 	 * to define the shape and size of the hitbox.
 	 *
-	 * @return the {@link Rectangle} representing the actor's hitbox
+	 * @return the {@link Aabb} representing the actor's hitbox
 	 */
-	public abstract Rectangle getHitbox();
+	public abstract Aabb getHitbox();
 }
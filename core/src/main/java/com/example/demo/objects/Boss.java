@@ -1,10 +1,8 @@
 package com.example.demo.objects;
 
-import com.example.demo.display.HealthBar;
-import com.example.demo.display.ShieldImage;
-import javafx.scene.shape.Rectangle;
+import com.example.demo.collision.Aabb;
 
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the boss enemy in the game, which is a type of fighter plane.
@@ -16,11 +14,15 @@ public class Boss extends FighterPlane {
 	private static final String IMAGE_NAME = "bossplane.png";
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400;
+	private static final double PROJECTILE_X_POSITION = 950.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
 	private static final double BOSS_FIRE_RATE = .04;
 	private static final double BOSS_SHIELD_PROBABILITY = .002;
 	private static final int IMAGE_HEIGHT = 300;
-	private static final int VERTICAL_VELOCITY = 8;
+	/** The distance the boss moves vertically in one legacy tick, in pixels. */
+	private static final double PIXELS_PER_LEGACY_TICK = 8.0;
+	/** The vertical velocity of the boss, in pixels per second (8 pixels every 30 ms). */
+	private static final double VERTICAL_VELOCITY = PIXELS_PER_LEGACY_TICK / LEGACY_SECONDS_PER_TICK;
 	private static final int HEALTH = 100;
 	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
 	private static final int ZERO = 0;
@@ -28,104 +30,128 @@ public class Boss extends FighterPlane {
 	private static final int Y_POSITION_UPPER_BOUND = -50;
 	private static final int Y_POSITION_LOWER_BOUND = 400;
 	private static final int MAX_FRAMES_WITH_SHIELD = 500;
-	private final List<Integer> movePattern;
+	private final int[] movePattern;
+	private final RandomGenerator random;
+	private double fireRate = BOSS_FIRE_RATE;
 	private boolean isShielded;
 	private int consecutiveMovesInSameDirection;
 	private int indexOfCurrentMove;
 	private int framesWithShieldActivated;
-	private final ShieldImage shieldImage;
-	private final Rectangle hitbox;
+	private final Aabb hitbox;
 	private static final double HITBOX_OFFSET_Y=50;
-	private final HealthBar healthBar;
 
 	/**
 	 * Constructs a new Boss with its initial properties, including
-	 * position, health, movement pattern, shield, hitbox, and health bar.
+	 * position, health, movement pattern, shield, and hitbox.
+	 *
+	 * @param random the generator behind the boss's moves, fire and shield, usually the level's
 	 */
-	public Boss() {
+	public Boss(RandomGenerator random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
-		movePattern = new ArrayList<>();
+		this.random = random;
+		movePattern = new int[MOVE_FREQUENCY_PER_CYCLE * 3];
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
 		framesWithShieldActivated = 0;
 		isShielded = false;
 		initializeMovePattern();
-		hitbox= new Rectangle(INITIAL_X_POSITION,INITIAL_Y_POSITION,213,85);
-
-		shieldImage = new ShieldImage(getLayoutX(),getLayoutY());
-		healthBar = new HealthBar(200, 15);
-		healthBar.setLayoutX(getLayoutX() + 5);
-		healthBar.setTranslateY(40);
-
+		hitbox = new Aabb(INITIAL_X_POSITION,INITIAL_Y_POSITION,213,85);
 	}
 
-	/** Updates the position of the boss based on its movement pattern. */
+	/**
+	 * Updates the position of the boss based on its movement pattern.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
+	 */
 	@Override
-	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
-		double currentPosition = getLayoutY() + getTranslateY();
+	public void updatePosition(double deltaSeconds) {
+		double initialOffsetY = getOffsetY();
+		moveVertically(getNextMove() * VERTICAL_VELOCITY * deltaSeconds);
+		double currentPosition = getPositionY();
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-			setTranslateY(initialTranslateY);
+			setOffsetY(initialOffsetY);
 		}
 		updateHitbox();
 	}
 
-	/** Updates the boss's state, including position, shield, and health bar. */
+	/**
+	 * Updates the boss's state, including position and shield.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
+	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 		updateShield();
-		updateHealthBar();
 	}
 
 	/**
-	 * Fires a projectile if the boss's fire probability condition is met.
+	 * Nudges the boss vertically outside its own move pattern, e.g. to keep two bosses apart.
 	 *
-	 * @return A new BossProjectile object or null if no projectile is fired.
+	 * @param verticalMove the amount to move the boss vertically
+	 */
+	public void nudgeVertically(double verticalMove) {
+		moveVertically(verticalMove);
+	}
+
+	/**
+	 * Fires a fireball if the boss's fire probability condition is met.
+	 *
+	 * @param projectiles the store the fireball is spawned into
+	 * @return True if a fireball was fired, false otherwise.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+	public boolean fireProjectile(EntityStore projectiles) {
+		if (!bossFiresInCurrentFrame()) {
+			return false;
+		}
+		ProjectileType.BOSS.spawn(projectiles, PROJECTILE_X_POSITION, getProjectileInitialPosition());
+		return true;
 	}
 
 
+	/**
+	 * Overrides the probability of firing in each frame, e.g. for a stress scenario.
+	 *
+	 * @param fireRate the probability, from 0 to 1
+	 */
+	public void setFireRate(double fireRate) {
+		this.fireRate = fireRate;
+	}
+
 	/** Reduces the boss's health when it takes damage, unless the shield is active. */
 	@Override
 	public void takeDamage() {
 		if (!isShielded) {
 			super.takeDamage();
-			if (getHealth() <= 0) {
-				healthBar.updateHealth(0, HEALTH);
-				healthBar.setVisible(false);
-			}
 		}
 	}
 
 	/** Initializes the movement pattern for the boss. */
 	private void initializeMovePattern() {
 		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
-			movePattern.add(ZERO);
+			movePattern[3 * i] = 1;
+			movePattern[3 * i + 1] = -1;
+			movePattern[3 * i + 2] = ZERO;
 		}
-		Collections.shuffle(movePattern);
+		shuffleMovePattern();
 	}
 
-	/** Updates the boss's shield state and visual representation. */
-	public void updateShield() {
-		double offsetX= -65;
-		double offsetY= 50;
-		shieldImage.setLayoutX(getLayoutX() + getTranslateX() +offsetX);
-		shieldImage.setLayoutY(getLayoutY() + getTranslateY()+offsetY);
-
-		shieldImage.showShield();
+	/** Shuffles the movement pattern in place with the boss's generator (Fisher-Yates). */
+	private void shuffleMovePattern() {
+		for (int i = movePattern.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int move = movePattern[i];
+			movePattern[i] = movePattern[j];
+			movePattern[j] = move;
+		}
+	}
 
+	/** Updates the boss's shield state. */
+	public void updateShield() {
 		if (isShielded) {
 			framesWithShieldActivated++;
-			shieldImage.showShield();
 		} else {
-			shieldImage.hideShield();
 			if (shieldShouldBeActivated()) activateShield();
 		}
 		if (shieldExhausted()) deactivateShield();
@@ -134,17 +160,17 @@ public class Boss extends FighterPlane {
 	/**
 	 * Retrieves the next movement direction based on the movement pattern.
 	 *
-	 * @return The vertical movement value.
+	 * @return The vertical direction: 1 for down, -1 for up, 0 to hold position.
 	 */
 	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
+		int currentMove = movePattern[indexOfCurrentMove];
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			shuffleMovePattern();
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
-		if (indexOfCurrentMove == movePattern.size()) {
+		if (indexOfCurrentMove == movePattern.length) {
 			indexOfCurrentMove = 0;
 		}
 		return currentMove;
@@ -156,7 +182,7 @@ public class Boss extends FighterPlane {
 	 * @return True if the boss fires a projectile, false otherwise.
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return random.nextDouble() < fireRate;
 	}
 
 	/**
@@ -165,7 +191,7 @@ public class Boss extends FighterPlane {
 	 * @return The y-coordinate for the projectile's starting position.
 	 */
 	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+		return getPositionY() + PROJECTILE_Y_POSITION_OFFSET;
 	}
 
 	/**
@@ -174,7 +200,7 @@ public class Boss extends FighterPlane {
 	 * @return True if the shield should activate, false otherwise.
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return random.nextDouble() < BOSS_SHIELD_PROBABILITY;
 	}
 
 
@@ -200,45 +226,36 @@ public class Boss extends FighterPlane {
 	}
 
 	/**
-	 * Gets the ShieldImage associated with the boss.
+	 * Checks whether the boss's shield is currently up.
 	 *
-	 * @return The ShieldImage instance.
+	 * @return True if the shield is active, false otherwise.
 	 */
-	public ShieldImage getShieldImage() {
-		return shieldImage;
+	public boolean isShielded() {
+		return isShielded;
 	}
 
+	/**
+	 * Gets the health the boss starts with, e.g. to scale a health bar.
+	 *
+	 * @return The boss's maximum health.
+	 */
+	public int getMaxHealth() {
+		return HEALTH;
+	}
 
 	/** Updates the hitbox's position based on the boss's current layout and translation. */
 	private void updateHitbox(){
-		hitbox.setX(getLayoutX()+getTranslateX());
-		hitbox.setY(getLayoutY()+getTranslateY()+HITBOX_OFFSET_Y);
+		hitbox.setPosition(getPositionX(), getPositionY()+HITBOX_OFFSET_Y);
 	}
 
 	/**
 	 * Retrieves the hitbox for collision detection.
 	 *
-	 * @return The boss's hitbox as a Rectangle.
+	 * @return The boss's hitbox as an Aabb.
 	 */
 	@Override
-	public Rectangle getHitbox(){
+	public Aabb getHitbox(){
 		return hitbox;
 	}
 
-	/** Updates the health bar's position and value. */
-	private void updateHealthBar() {
-		healthBar.setLayoutX(getLayoutX() + getTranslateX() + 5);
-		healthBar.setLayoutY(getLayoutY() + getTranslateY() + 10);
-		healthBar.updateHealth(Math.max(getHealth(), 0), HEALTH);
-	}
-
-	/**
-	 * Gets the HealthBar associated with the boss.
-	 *
-	 * @return The HealthBar instance.
-	 */
-	public HealthBar getHealthBar() {
-		return healthBar;
-	}
-
-}
\ No newline at end of file
+}
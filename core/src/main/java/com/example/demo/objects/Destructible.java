@@ -1,4 +1,4 @@
-package com.example.demo;
+package com.example.demo.objects;
 
 /**
  * An interface representing destructible objects in the game.
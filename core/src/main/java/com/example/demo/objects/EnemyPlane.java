@@ -1,6 +1,8 @@
 package com.example.demo.objects;
 
-import javafx.scene.shape.Rectangle;
+import com.example.demo.collision.Aabb;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Represents an enemy plane in the game.
@@ -14,8 +16,11 @@ public class EnemyPlane extends FighterPlane {
 	/** The height of the enemy plane image. */
 	private static final int IMAGE_HEIGHT = 150;
 
-	/** The horizontal velocity of the enemy plane. */
-	private static final int HORIZONTAL_VELOCITY = -6;
+	/** The distance the enemy plane moves left in one legacy tick, in pixels. */
+	private static final double PIXELS_PER_LEGACY_TICK = 6.0;
+
+	/** The horizontal velocity of the enemy plane, in pixels per second (6 pixels every 30 ms). */
+	private static final double HORIZONTAL_VELOCITY = -PIXELS_PER_LEGACY_TICK / LEGACY_SECONDS_PER_TICK;
 
 	/** X-axis offset for the position of fired projectiles. */
 	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
@@ -33,67 +38,89 @@ public class EnemyPlane extends FighterPlane {
 	private static final double HITBOX_OFFSET_Y = 20;
 
 	/** The hitbox for collision detection. */
-	private final Rectangle hitbox;
+	private final Aabb hitbox;
+
+	/** The generator deciding when the plane fires. */
+	private final RandomGenerator random;
+
+	/** Probability of firing during each update, {@link #FIRE_RATE} unless a level overrides it. */
+	private double fireRate = FIRE_RATE;
 
 	/**
 	 * Constructs an EnemyPlane with specified initial X and Y positions.
 	 *
 	 * @param initialXPos the initial X-axis position of the enemy plane
 	 * @param initialYPos the initial Y-axis position of the enemy plane
+	 * @param random      the generator deciding when the plane fires, usually the level's
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos) {
+	public EnemyPlane(double initialXPos, double initialYPos, RandomGenerator random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
-		hitbox = new Rectangle(initialXPos, initialYPos, 110, 30);
+		hitbox = new Aabb(initialXPos, initialYPos, 110, 30);
+		this.random = random;
 	}
 
 	/**
 	 * Updates the position of the enemy plane by moving it horizontally
 	 * and updating its hitbox.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
 	 */
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double deltaSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * deltaSeconds);
 		updateHitbox();
 	}
 
 	/**
-	 * Fires a projectile from the enemy plane with a certain probability.
+	 * Fires an enemy projectile from the enemy plane with a certain probability.
 	 *
-	 * @return a new {@code EnemyProjectile} if fired; otherwise {@code null}
+	 * @param projectiles the store the projectile is spawned into
+	 * @return {@code true} if a projectile was fired
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+	public boolean fireProjectile(EntityStore projectiles) {
+		if (random.nextDouble() < fireRate) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPosition);
+			ProjectileType.ENEMY.spawn(projectiles, projectileXPosition, projectileYPosition);
+			return true;
 		}
-		return null;
+		return false;
+	}
+
+	/**
+	 * Overrides the probability of firing during each update, e.g. for a stress scenario.
+	 *
+	 * @param fireRate the probability, from 0 to 1
+	 */
+	public void setFireRate(double fireRate) {
+		this.fireRate = fireRate;
 	}
 
 	/**
 	 * Updates the actor's state, including its position and hitbox.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 
 	/**
 	 * Updates the hitbox position to align with the enemy plane's current location.
 	 */
 	private void updateHitbox() {
-		hitbox.setX(getLayoutX() + getTranslateX());
-		hitbox.setY(getLayoutY() + getTranslateY() + HITBOX_OFFSET_Y);
+		hitbox.setPosition(getPositionX(), getPositionY() + HITBOX_OFFSET_Y);
 	}
 
 	/**
 	 * Returns the hitbox of the enemy plane for collision detection.
 	 *
-	 * @return the {@code Rectangle} representing the enemy plane's hitbox
+	 * @return the {@link Aabb} representing the enemy plane's hitbox
 	 */
 	@Override
-	public Rectangle getHitbox() {
+	public Aabb getHitbox() {
 		return hitbox;
 	}
 }
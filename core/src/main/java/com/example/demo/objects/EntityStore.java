@@ -0,0 +1,337 @@
+package com.example.demo.objects;
+
+import com.example.demo.collision.Playfield;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for simple moving entities such as projectiles. Position, velocity,
+ * hitbox extents, health and flags live in parallel primitive arrays indexed by entity id, so a tick
+ * moves, bounds-checks and compacts every entity in tight loops without touching an object per entity.
+ * <p>
+ * Ids are dense: entity {@code i} is the {@code i}-th live entity in spawn order. Removing destroyed
+ * entities shifts the survivors down, keeping their order, so ids are only stable within a tick.
+ * The arrays grow on demand and are reused afterwards, so a steady stream of spawns does not allocate.
+ */
+public final class EntityStore {
+
+	/** Flag bit set on an entity once it has been destroyed. */
+	public static final int DESTROYED = 1;
+
+	/** Initial capacity of the arrays. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	private int size;
+	private int[] kind;
+	private double[] x;
+	private double[] y;
+	private double[] previousX;
+	private double[] previousY;
+	private double[] velocityX;
+	private double[] velocityY;
+	private double[] hitboxOffsetX;
+	private double[] hitboxOffsetY;
+	private double[] hitboxWidth;
+	private double[] hitboxHeight;
+	private int[] health;
+	private int[] flags;
+
+	/**
+	 * Constructs an empty store.
+	 */
+	public EntityStore() {
+		allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Adds an entity.
+	 *
+	 * @param kind          what the entity is, e.g. a {@link ProjectileType} ordinal
+	 * @param x             the initial X position
+	 * @param y             the initial Y position
+	 * @param velocityX     the horizontal velocity, in pixels per second
+	 * @param velocityY     the vertical velocity, in pixels per second
+	 * @param hitboxOffsetX the hitbox's horizontal offset from the position
+	 * @param hitboxOffsetY the hitbox's vertical offset from the position
+	 * @param hitboxWidth   the hitbox width
+	 * @param hitboxHeight  the hitbox height
+	 * @param health        the hits the entity can take before it is destroyed
+	 * @return the new entity's id
+	 */
+	public int spawn(int kind, double x, double y, double velocityX, double velocityY,
+					 double hitboxOffsetX, double hitboxOffsetY, double hitboxWidth, double hitboxHeight, int health) {
+		if (size == this.x.length) {
+			allocate(size * 2);
+		}
+		int id = size++;
+		this.kind[id] = kind;
+		this.x[id] = x;
+		this.y[id] = y;
+		this.previousX[id] = x;
+		this.previousY[id] = y;
+		this.velocityX[id] = velocityX;
+		this.velocityY[id] = velocityY;
+		this.hitboxOffsetX[id] = hitboxOffsetX;
+		this.hitboxOffsetY[id] = hitboxOffsetY;
+		this.hitboxWidth[id] = hitboxWidth;
+		this.hitboxHeight[id] = hitboxHeight;
+		this.health[id] = health;
+		this.flags[id] = 0;
+		return id;
+	}
+
+	/**
+	 * Remembers every entity's current position as the starting point for interpolation.
+	 */
+	public void savePreviousPositions() {
+		System.arraycopy(x, 0, previousX, 0, size);
+		System.arraycopy(y, 0, previousY, 0, size);
+	}
+
+	/**
+	 * Moves every entity by its velocity.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
+	 */
+	public void integrate(double deltaSeconds) {
+		for (int i = 0; i < size; i++) {
+			x[i] += velocityX[i] * deltaSeconds;
+			y[i] += velocityY[i] * deltaSeconds;
+		}
+	}
+
+	/**
+	 * Destroys every entity whose hitbox has left the playfield.
+	 *
+	 * @param playfield the area entities may occupy
+	 */
+	public void destroyOutside(Playfield playfield) {
+		for (int i = 0; i < size; i++) {
+			double left = x[i] + hitboxOffsetX[i];
+			double top = y[i] + hitboxOffsetY[i];
+			if (playfield.hasLeft(left, top, left + hitboxWidth[i], top + hitboxHeight[i])) {
+				flags[i] |= DESTROYED;
+			}
+		}
+	}
+
+	/**
+	 * Takes one point of health from an entity, destroying it when none is left.
+	 *
+	 * @param id the entity id
+	 */
+	public void takeDamage(int id) {
+		if (--health[id] <= 0) {
+			flags[id] |= DESTROYED;
+		}
+	}
+
+	/**
+	 * Destroys an entity. It stays in the store until {@link #removeDestroyed()}.
+	 *
+	 * @param id the entity id
+	 */
+	public void destroy(int id) {
+		flags[id] |= DESTROYED;
+	}
+
+	/**
+	 * Drops every destroyed entity, shifting the survivors down in their original order.
+	 *
+	 * @return the number of entities removed
+	 */
+	public int removeDestroyed() {
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			if ((flags[i] & DESTROYED) == 0) {
+				if (kept != i) {
+					move(i, kept);
+				}
+				kept++;
+			}
+		}
+		int removed = size - kept;
+		size = kept;
+		return removed;
+	}
+
+	/**
+	 * Drops every entity. The arrays keep their capacity.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of entities in the store, destroyed or not.
+	 *
+	 * @return the entity count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns how many entities fit in the arrays before they grow.
+	 *
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return x.length;
+	}
+
+	/**
+	 * Returns what an entity is.
+	 *
+	 * @param id the entity id
+	 * @return the kind it was spawned with
+	 */
+	public int getKind(int id) {
+		return kind[id];
+	}
+
+	/**
+	 * Returns an entity's simulated X position.
+	 *
+	 * @param id the entity id
+	 * @return the X position
+	 */
+	public double getX(int id) {
+		return x[id];
+	}
+
+	/**
+	 * Returns an entity's simulated Y position.
+	 *
+	 * @param id the entity id
+	 * @return the Y position
+	 */
+	public double getY(int id) {
+		return y[id];
+	}
+
+	/**
+	 * Returns the X position to draw an entity at, between its previous and current positions.
+	 *
+	 * @param id    the entity id
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 * @return the interpolated X position
+	 */
+	public double getRenderX(int id, double alpha) {
+		return previousX[id] + (x[id] - previousX[id]) * alpha;
+	}
+
+	/**
+	 * Returns the Y position to draw an entity at, between its previous and current positions.
+	 *
+	 * @param id    the entity id
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 * @return the interpolated Y position
+	 */
+	public double getRenderY(int id, double alpha) {
+		return previousY[id] + (y[id] - previousY[id]) * alpha;
+	}
+
+	/**
+	 * Returns the left edge of an entity's hitbox.
+	 *
+	 * @param id the entity id
+	 * @return the minimum X coordinate of the hitbox
+	 */
+	public double getHitboxX(int id) {
+		return x[id] + hitboxOffsetX[id];
+	}
+
+	/**
+	 * Returns the top edge of an entity's hitbox.
+	 *
+	 * @param id the entity id
+	 * @return the minimum Y coordinate of the hitbox
+	 */
+	public double getHitboxY(int id) {
+		return y[id] + hitboxOffsetY[id];
+	}
+
+	/**
+	 * Returns the right edge of an entity's hitbox.
+	 *
+	 * @param id the entity id
+	 * @return the maximum X coordinate of the hitbox
+	 */
+	public double getHitboxMaxX(int id) {
+		return x[id] + hitboxOffsetX[id] + hitboxWidth[id];
+	}
+
+	/**
+	 * Returns the bottom edge of an entity's hitbox.
+	 *
+	 * @param id the entity id
+	 * @return the maximum Y coordinate of the hitbox
+	 */
+	public double getHitboxMaxY(int id) {
+		return y[id] + hitboxOffsetY[id] + hitboxHeight[id];
+	}
+
+	/**
+	 * Returns an entity's remaining health.
+	 *
+	 * @param id the entity id
+	 * @return the health
+	 */
+	public int getHealth(int id) {
+		return health[id];
+	}
+
+	/**
+	 * Checks whether an entity has been destroyed.
+	 *
+	 * @param id the entity id
+	 * @return {@code true} if the entity is destroyed
+	 */
+	public boolean isDestroyed(int id) {
+		return (flags[id] & DESTROYED) != 0;
+	}
+
+	/**
+	 * Copies one entity's state over another slot.
+	 *
+	 * @param from the slot to copy from
+	 * @param to   the slot to copy to
+	 */
+	private void move(int from, int to) {
+		kind[to] = kind[from];
+		x[to] = x[from];
+		y[to] = y[from];
+		previousX[to] = previousX[from];
+		previousY[to] = previousY[from];
+		velocityX[to] = velocityX[from];
+		velocityY[to] = velocityY[from];
+		hitboxOffsetX[to] = hitboxOffsetX[from];
+		hitboxOffsetY[to] = hitboxOffsetY[from];
+		hitboxWidth[to] = hitboxWidth[from];
+		hitboxHeight[to] = hitboxHeight[from];
+		health[to] = health[from];
+		flags[to] = flags[from];
+	}
+
+	/**
+	 * Grows, or first creates, every array to the given capacity, keeping the stored entities.
+	 *
+	 * @param capacity the new capacity
+	 */
+	private void allocate(int capacity) {
+		kind = kind == null ? new int[capacity] : Arrays.copyOf(kind, capacity);
+		x = x == null ? new double[capacity] : Arrays.copyOf(x, capacity);
+		y = y == null ? new double[capacity] : Arrays.copyOf(y, capacity);
+		previousX = previousX == null ? new double[capacity] : Arrays.copyOf(previousX, capacity);
+		previousY = previousY == null ? new double[capacity] : Arrays.copyOf(previousY, capacity);
+		velocityX = velocityX == null ? new double[capacity] : Arrays.copyOf(velocityX, capacity);
+		velocityY = velocityY == null ? new double[capacity] : Arrays.copyOf(velocityY, capacity);
+		hitboxOffsetX = hitboxOffsetX == null ? new double[capacity] : Arrays.copyOf(hitboxOffsetX, capacity);
+		hitboxOffsetY = hitboxOffsetY == null ? new double[capacity] : Arrays.copyOf(hitboxOffsetY, capacity);
+		hitboxWidth = hitboxWidth == null ? new double[capacity] : Arrays.copyOf(hitboxWidth, capacity);
+		hitboxHeight = hitboxHeight == null ? new double[capacity] : Arrays.copyOf(hitboxHeight, capacity);
+		health = health == null ? new int[capacity] : Arrays.copyOf(health, capacity);
+		flags = flags == null ? new int[capacity] : Arrays.copyOf(flags, capacity);
+	}
+}
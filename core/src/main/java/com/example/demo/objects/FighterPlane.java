@@ -25,12 +25,13 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	}
 
 	/**
-	 * Fires a projectile from the fighter plane.
+	 * Fires a projectile from the fighter plane by spawning it into the level's projectile store.
 	 * This method must be implemented by subclasses.
 	 *
-	 * @return the fired {@code ActiveActorDestructible} projectile
+	 * @param projectiles the store the projectile is spawned into
+	 * @return {@code true} if a projectile was fired
 	 */
-	public abstract ActiveActorDestructible fireProjectile();
+	public abstract boolean fireProjectile(EntityStore projectiles);
 
 	/**
 	 * Reduces the health of the fighter plane by one.
@@ -51,7 +52,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return the calculated X-axis position
 	 */
 	protected double getProjectileXPosition(double xPositionOffset) {
-		return getLayoutX() + getTranslateX() + xPositionOffset;
+		return getPositionX() + xPositionOffset;
 	}
 
 	/**
@@ -61,7 +62,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return the calculated Y-axis position
 	 */
 	protected double getProjectileYPosition(double yPositionOffset) {
-		return getLayoutY() + getTranslateY() + yPositionOffset;
+		return getPositionY() + yPositionOffset;
 	}
 
 	/**
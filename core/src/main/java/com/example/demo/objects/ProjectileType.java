@@ -0,0 +1,86 @@
+package com.example.demo.objects;
+
+/**
+ * The kinds of projectile in the game. A projectile is not an object of its own: it is an entity in an
+ * {@link EntityStore}, and its type supplies the sprite, speed and hitbox it is spawned with.
+ */
+public enum ProjectileType {
+
+	/** The user's shot, flying right at 15 pixels every 30 ms. */
+	USER("userfire.png", 125, 15.0 / ActiveActor.LEGACY_SECONDS_PER_TICK, 30, 37),
+
+	/** An enemy plane's shot, flying left at 10 pixels every 30 ms. */
+	ENEMY("enemyFire.png", 50, -10.0 / ActiveActor.LEGACY_SECONDS_PER_TICK, 25, 25),
+
+	/** The boss's fireball, flying left at 15 pixels every 30 ms. */
+	BOSS("fireball.png", 75, -15.0 / ActiveActor.LEGACY_SECONDS_PER_TICK, 55, 40);
+
+	/** The base directory for image resources. */
+	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	/** The types by ordinal, so a stored kind maps back without copying {@link #values()}. */
+	private static final ProjectileType[] TYPES = values();
+
+	private final String imagePath;
+	private final int imageHeight;
+	private final double horizontalVelocity;
+	private final double hitboxWidth;
+	private final double hitboxHeight;
+
+	ProjectileType(String imageName, int imageHeight, double horizontalVelocity, double hitboxWidth, double hitboxHeight) {
+		this.imagePath = IMAGE_LOCATION + imageName;
+		this.imageHeight = imageHeight;
+		this.horizontalVelocity = horizontalVelocity;
+		this.hitboxWidth = hitboxWidth;
+		this.hitboxHeight = hitboxHeight;
+	}
+
+	/**
+	 * Spawns a projectile of this type into a store. Projectiles are destroyed by their first hit.
+	 *
+	 * @param projectiles the store to spawn into
+	 * @param x           the initial X position
+	 * @param y           the initial Y position
+	 * @return the new projectile's entity id
+	 */
+	public int spawn(EntityStore projectiles, double x, double y) {
+		return projectiles.spawn(ordinal(), x, y, horizontalVelocity, 0, 0, 0, hitboxWidth, hitboxHeight, 1);
+	}
+
+	/**
+	 * Returns the type a stored kind stands for.
+	 *
+	 * @param kind the kind stored with an entity
+	 * @return the projectile type
+	 */
+	public static ProjectileType ofKind(int kind) {
+		return TYPES[kind];
+	}
+
+	/**
+	 * Returns the classpath resource path of the projectile's sprite.
+	 *
+	 * @return the sprite resource path
+	 */
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	/**
+	 * Returns the height the sprite is shown at; its aspect ratio is preserved.
+	 *
+	 * @return the sprite height
+	 */
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Returns the horizontal velocity, in pixels per second.
+	 *
+	 * @return the horizontal velocity
+	 */
+	public double getHorizontalVelocity() {
+		return horizontalVelocity;
+	}
+}
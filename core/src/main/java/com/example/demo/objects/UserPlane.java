@@ -1,6 +1,6 @@
 package com.example.demo.objects;
 
-import javafx.scene.shape.Rectangle;
+import com.example.demo.collision.Aabb;
 
 /**
  * Represents the user's fighter plane in the game.
@@ -27,8 +27,11 @@ public class UserPlane extends FighterPlane {
 	/** The height of the user plane image. */
 	private static final int IMAGE_HEIGHT = 150;
 
-	/** The vertical velocity of the user plane. */
-	private static final int VERTICAL_VELOCITY = 8;
+	/** The distance the user plane moves vertically in one legacy tick, in pixels. */
+	private static final double PIXELS_PER_LEGACY_TICK = 8.0;
+
+	/** The vertical velocity of the user plane, in pixels per second (8 pixels every 30 ms). */
+	private static final double VERTICAL_VELOCITY = PIXELS_PER_LEGACY_TICK / LEGACY_SECONDS_PER_TICK;
 
 	/** The X-axis position of the projectile when fired. */
 	private static final int PROJECTILE_X_POSITION = 110;
@@ -49,7 +52,7 @@ public class UserPlane extends FighterPlane {
 	private int numberOfKills;
 
 	/** The hitbox for collision detection. */
-	private final Rectangle hitbox;
+	private final Aabb hitbox;
 
 	/**
 	 * Constructs a UserPlane with the specified initial health.
@@ -59,21 +62,23 @@ public class UserPlane extends FighterPlane {
 	public UserPlane(int initialHealth) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
 		velocityMultiplier = 0;
-		hitbox = new Rectangle(INITIAL_X_POSITION, INITIAL_Y_POSITION, 100, 30);
+		hitbox = new Aabb(INITIAL_X_POSITION, INITIAL_Y_POSITION, 100, 30);
 	}
 
 	/**
 	 * Updates the position of the user plane, ensuring it stays within bounds,
 	 * and updates its hitbox.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
 	 */
 	@Override
-	public void updatePosition() {
+	public void updatePosition(double deltaSeconds) {
 		if (isMoving()) {
-			double initialTranslateY = getTranslateY();
-			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier);
-			double newPosition = getLayoutY() + getTranslateY();
+			double initialOffsetY = getOffsetY();
+			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier * deltaSeconds);
+			double newPosition = getPositionY();
 			if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
-				this.setTranslateY(initialTranslateY);
+				this.setOffsetY(initialOffsetY);
 			}
 		}
 		updateHitbox();
@@ -81,20 +86,24 @@ public class UserPlane extends FighterPlane {
 
 	/**
 	 * Updates the actor's state, including its position and hitbox.
+	 *
+	 * @param deltaSeconds the simulated time covered by this update, in seconds
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 
 	/**
-	 * Fires a projectile from the user plane.
+	 * Fires a user projectile from the user plane.
 	 *
-	 * @return a new {@code UserProjectile} representing the fired projectile
+	 * @param projectiles the store the projectile is spawned into
+	 * @return always {@code true}
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+	public boolean fireProjectile(EntityStore projectiles) {
+		ProjectileType.USER.spawn(projectiles, PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+		return true;
 	}
 
 	/**
@@ -139,17 +148,16 @@ public class UserPlane extends FighterPlane {
 	 * Updates the hitbox position to align with the user plane's current location.
 	 */
 	private void updateHitbox() {
-		hitbox.setX(getLayoutX() + getTranslateX() + HITBOX_OFFSET_X);
-		hitbox.setY(getLayoutY() + getTranslateY() + HITBOX_OFFSET_Y);
+		hitbox.setPosition(getPositionX() + HITBOX_OFFSET_X, getPositionY() + HITBOX_OFFSET_Y);
 	}
 
 	/**
 	 * Returns the hitbox of the user plane for collision detection.
 	 *
-	 * @return the {@code Rectangle} representing the user plane's hitbox
+	 * @return the {@link Aabb} representing the user plane's hitbox
 	 */
 	@Override
-	public Rectangle getHitbox() {
+	public Aabb getHitbox() {
 		return hitbox;
 	}
 }
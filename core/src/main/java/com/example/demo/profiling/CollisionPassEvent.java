@@ -0,0 +1,73 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event covering one collision pass of a tick: how many entities went in, how
+ * many pairs survived the grid and were tested exactly, and how many of those hit.
+ */
+@Name("com.example.demo.CollisionPass")
+@Label("Collision Pass")
+@Description("One collision pass of a level tick")
+@Category({"Sky Battle", "Simulation"})
+@StackTrace(false)
+public final class CollisionPassEvent extends Event {
+
+	private static final EventType TYPE = EventType.getEventType(CollisionPassEvent.class);
+
+	@Label("Pass")
+	String pass;
+
+	@Label("Gridded Entities")
+	int griddedEntities;
+
+	@Label("Targets")
+	int targets;
+
+	@Label("Pairs Tested")
+	int pairsTested;
+
+	@Label("Hits")
+	int hits;
+
+	/**
+	 * Starts timing a collision pass if a recording has collision pass events enabled.
+	 *
+	 * @return the started event, or {@code null} if collision pass events are not being recorded
+	 */
+	public static CollisionPassEvent beginIfEnabled() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		CollisionPassEvent event = new CollisionPassEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends the pass and commits the event if it passes the recording's threshold.
+	 *
+	 * @param pass            the name of the pass
+	 * @param griddedEntities the number of entities hashed into the grid
+	 * @param targets         the number of targets queried against the grid
+	 * @param pairsTested     the number of pairs given the exact intersection test
+	 * @param hits            the number of pairs that intersected
+	 */
+	public void finish(String pass, int griddedEntities, int targets, int pairsTested, int hits) {
+		end();
+		if (shouldCommit()) {
+			this.pass = pass;
+			this.griddedEntities = griddedEntities;
+			this.targets = targets;
+			this.pairsTested = pairsTested;
+			this.hits = hits;
+			commit();
+		}
+	}
+}
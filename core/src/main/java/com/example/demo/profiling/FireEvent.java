@@ -0,0 +1,52 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event marking a plane firing a projectile.
+ */
+@Name("com.example.demo.Fire")
+@Label("Projectile Fired")
+@Description("A plane firing a projectile")
+@Category({"Sky Battle", "Simulation"})
+@StackTrace(false)
+public final class FireEvent extends Event {
+
+	private static final EventType TYPE = EventType.getEventType(FireEvent.class);
+
+	@Label("Shooter")
+	String shooter;
+
+	@Label("Projectile")
+	String projectile;
+
+	/**
+	 * Checks whether a recording has fire events enabled, so nothing is created when none has.
+	 *
+	 * @return true if fire events are being recorded
+	 */
+	public static boolean isTypeEnabled() {
+		return TYPE.isEnabled();
+	}
+
+	/**
+	 * Records a shot.
+	 *
+	 * @param shooter    the kind of plane that fired, e.g. its class name
+	 * @param projectile the kind of projectile fired
+	 */
+	public static void record(String shooter, String projectile) {
+		FireEvent event = new FireEvent();
+		if (event.shouldCommit()) {
+			event.shooter = shooter;
+			event.projectile = projectile;
+			event.commit();
+		}
+	}
+}
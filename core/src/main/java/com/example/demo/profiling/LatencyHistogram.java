@@ -0,0 +1,115 @@
+package com.example.demo.profiling;
+
+import java.util.Arrays;
+
+/**
+ * A latency histogram over fixed, log-linear buckets: values below 8 ns get a bucket each, and
+ * every power of two above that is split into 8 buckets, so a reported percentile is within 12.5%
+ * of the true value across the whole range of {@code long}. All buckets are allocated up front, and
+ * recording a sample only increments counters, so the histogram can run inside the game loop.
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKET_COUNT];
+	private long count;
+	private long total;
+	private long max;
+
+	/**
+	 * Records one sample. Negative samples, which a clock adjustment could produce, count as zero.
+	 *
+	 * @param nanos the sample, in nanoseconds
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts[bucketOf(value)]++;
+		count++;
+		total += value;
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Returns the value below which the given percentage of the samples fall, rounded up to the top of
+	 * its bucket and never above the largest sample.
+	 *
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the value, in nanoseconds, or 0 if nothing has been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			seen += counts[bucket];
+			if (seen >= rank) {
+				return Math.min(highestValueIn(bucket), max);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the number of samples recorded.
+	 *
+	 * @return the sample count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the largest sample recorded.
+	 *
+	 * @return the largest sample, in nanoseconds
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Returns the mean of the samples recorded.
+	 *
+	 * @return the mean, in nanoseconds, or 0 if nothing has been recorded
+	 */
+	public double getMean() {
+		return count == 0 ? 0 : (double) total / count;
+	}
+
+	/**
+	 * Forgets every sample, keeping the buckets.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		total = 0;
+		max = 0;
+	}
+
+	private static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long lowestValueIn(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = bucket % SUB_BUCKETS;
+		return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+	}
+
+	private static long highestValueIn(int bucket) {
+		return bucket + 1 < BUCKET_COUNT ? lowestValueIn(bucket + 1) - 1 : Long.MAX_VALUE;
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event covering the load of the next level once the transition screen has
+ * been shown: creating the level and its screen and starting its game loop.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Description("Loading the next level after a level is cleared")
+@Category({"Sky Battle", "Client"})
+public final class LevelTransitionEvent extends Event {
+
+	private static final EventType TYPE = EventType.getEventType(LevelTransitionEvent.class);
+
+	@Label("From Level")
+	String fromLevel;
+
+	@Label("To Level")
+	String toLevel;
+
+	@Label("Seed")
+	long seed;
+
+	/**
+	 * Starts timing a level load if a recording has transition events enabled.
+	 *
+	 * @return the started event, or {@code null} if transition events are not being recorded
+	 */
+	public static LevelTransitionEvent beginIfEnabled() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		LevelTransitionEvent event = new LevelTransitionEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends the load and commits the event if it passes the recording's threshold.
+	 *
+	 * @param fromLevel the class name of the level that was cleared
+	 * @param toLevel   the class name of the level loaded
+	 * @param seed      the seed of the level loaded
+	 */
+	public void finish(String fromLevel, String toLevel, long seed) {
+		end();
+		if (shouldCommit()) {
+			this.fromLevel = fromLevel;
+			this.toLevel = toLevel;
+			this.seed = seed;
+			commit();
+		}
+	}
+}
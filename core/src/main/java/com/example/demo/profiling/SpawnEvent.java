@@ -0,0 +1,57 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event marking an enemy unit joining a level.
+ */
+@Name("com.example.demo.Spawn")
+@Label("Enemy Spawn")
+@Description("An enemy unit joining a level")
+@Category({"Sky Battle", "Simulation"})
+@StackTrace(false)
+public final class SpawnEvent extends Event {
+
+	private static final EventType TYPE = EventType.getEventType(SpawnEvent.class);
+
+	@Label("Unit")
+	String unit;
+
+	@Label("X")
+	double x;
+
+	@Label("Y")
+	double y;
+
+	/**
+	 * Checks whether a recording has spawn events enabled, so nothing is created when none has.
+	 *
+	 * @return true if spawn events are being recorded
+	 */
+	public static boolean isTypeEnabled() {
+		return TYPE.isEnabled();
+	}
+
+	/**
+	 * Records a spawn.
+	 *
+	 * @param unit the kind of unit, e.g. its class name
+	 * @param x    where the unit appeared horizontally
+	 * @param y    where the unit appeared vertically
+	 */
+	public static void record(String unit, double x, double y) {
+		SpawnEvent event = new SpawnEvent();
+		if (event.shouldCommit()) {
+			event.unit = unit;
+			event.x = x;
+			event.y = y;
+			event.commit();
+		}
+	}
+}
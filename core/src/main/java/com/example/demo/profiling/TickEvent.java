@@ -0,0 +1,79 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event covering one level tick, with the level's entity counts at its end.
+ * Levels only create it while a recording has it enabled; see {@link #beginIfEnabled()}.
+ */
+@Name("com.example.demo.Tick")
+@Label("Level Tick")
+@Description("One fixed simulation tick of a level")
+@Category({"Sky Battle", "Simulation"})
+@StackTrace(false)
+public final class TickEvent extends Event {
+
+	private static final EventType TYPE = EventType.getEventType(TickEvent.class);
+
+	@Label("Level")
+	String level;
+
+	@Label("Tick")
+	long tick;
+
+	@Label("Friendly Units")
+	int friendlyUnits;
+
+	@Label("Enemy Units")
+	int enemyUnits;
+
+	@Label("User Projectiles")
+	int userProjectiles;
+
+	@Label("Enemy Projectiles")
+	int enemyProjectiles;
+
+	/**
+	 * Starts timing a tick if a recording has tick events enabled.
+	 *
+	 * @return the started event, or {@code null} if tick events are not being recorded
+	 */
+	public static TickEvent beginIfEnabled() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		TickEvent event = new TickEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends the tick and commits the event if it passes the recording's threshold.
+	 *
+	 * @param level            the level's class name
+	 * @param tick             the index of the tick
+	 * @param friendlyUnits    the number of friendly units after the tick
+	 * @param enemyUnits       the number of enemy units after the tick
+	 * @param userProjectiles  the number of user projectiles after the tick
+	 * @param enemyProjectiles the number of enemy projectiles after the tick
+	 */
+	public void finish(String level, long tick, int friendlyUnits, int enemyUnits, int userProjectiles,
+					   int enemyProjectiles) {
+		end();
+		if (shouldCommit()) {
+			this.level = level;
+			this.tick = tick;
+			this.friendlyUnits = friendlyUnits;
+			this.enemyUnits = enemyUnits;
+			this.userProjectiles = userProjectiles;
+			this.enemyProjectiles = enemyProjectiles;
+			commit();
+		}
+	}
+}
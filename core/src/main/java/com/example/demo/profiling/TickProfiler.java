@@ -0,0 +1,136 @@
+package com.example.demo.profiling;
+
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.TickPhase;
+import com.example.demo.levels.TickPhaseListener;
+
+import java.io.PrintStream;
+
+/**
+ * Profiles a level's ticks: one {@link LatencyHistogram} per {@link TickPhase} and one for whole
+ * ticks, filled from the level's phase timings. Attaching the profiler turns the level's timing on
+ * and detaching it turns it off again, so it can be switched at any point in a level; samples
+ * recorded so far are kept until {@link #reset()}.
+ */
+public final class TickProfiler implements TickPhaseListener {
+
+	private final LatencyHistogram[] phases = new LatencyHistogram[TickPhase.count()];
+	private final LatencyHistogram ticks = new LatencyHistogram();
+	private long tickNanos;
+	private LevelParent level;
+
+	/**
+	 * Creates a profiler with empty histograms.
+	 */
+	public TickProfiler() {
+		for (int i = 0; i < phases.length; i++) {
+			phases[i] = new LatencyHistogram();
+		}
+	}
+
+	@Override
+	public void phaseTimed(TickPhase phase, long nanos) {
+		phases[phase.ordinal()].record(nanos);
+		tickNanos += nanos;
+		if (phase == TickPhase.GAME_OVER) {
+			ticks.record(tickNanos);
+			tickNanos = 0;
+		}
+	}
+
+	/**
+	 * Starts profiling a level, replacing its current phase listener.
+	 *
+	 * @param level the level to profile
+	 */
+	public void attach(LevelParent level) {
+		this.level = level;
+		tickNanos = 0;
+		level.setPhaseListener(this);
+	}
+
+	/**
+	 * Stops profiling the level the profiler is attached to, if any.
+	 */
+	public void detach() {
+		if (level != null) {
+			level.setPhaseListener(null);
+			level = null;
+		}
+	}
+
+	/**
+	 * Attaches the profiler to a level, or detaches it if it is already attached.
+	 *
+	 * @param level the level to profile
+	 * @return true if the profiler is now attached
+	 */
+	public boolean toggle(LevelParent level) {
+		if (isAttached()) {
+			detach();
+			return false;
+		}
+		attach(level);
+		return true;
+	}
+
+	/**
+	 * Checks whether the profiler is attached to a level.
+	 *
+	 * @return true if attached
+	 */
+	public boolean isAttached() {
+		return level != null;
+	}
+
+	/**
+	 * Returns the histogram of one phase.
+	 *
+	 * @param phase the phase
+	 * @return the phase's histogram
+	 */
+	public LatencyHistogram getHistogram(TickPhase phase) {
+		return phases[phase.ordinal()];
+	}
+
+	/**
+	 * Returns the histogram of whole ticks.
+	 *
+	 * @return the tick histogram
+	 */
+	public LatencyHistogram getTickHistogram() {
+		return ticks;
+	}
+
+	/**
+	 * Forgets every sample.
+	 */
+	public void reset() {
+		for (LatencyHistogram histogram : phases) {
+			histogram.reset();
+		}
+		ticks.reset();
+		tickNanos = 0;
+	}
+
+	/**
+	 * Prints the mean, p50, p99, p99.9 and maximum of every phase and of whole ticks, in microseconds.
+	 *
+	 * @param title a heading for the table, e.g. the level's name
+	 * @param out   the stream to print to
+	 */
+	public void print(String title, PrintStream out) {
+		out.printf("%s: %d ticks profiled (us)%n", title, ticks.getCount());
+		out.printf("  %-28s %-9s %-9s %-9s %-9s %-9s%n", "phase", "mean", "p50", "p99", "p99.9", "max");
+		for (TickPhase phase : TickPhase.values()) {
+			print(phase.name(), phases[phase.ordinal()], out);
+		}
+		print("TICK", ticks, out);
+	}
+
+	private static void print(String name, LatencyHistogram histogram, PrintStream out) {
+		out.printf("  %-28s %-9.2f %-9.2f %-9.2f %-9.2f %-9.2f%n", name, histogram.getMean() / 1e3,
+				histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(99) / 1e3,
+				histogram.getValueAtPercentile(99.9) / 1e3, histogram.getMax() / 1e3);
+	}
+}
@@ -0,0 +1,90 @@
+package com.example.demo.replay;
+
+import com.example.demo.levels.LevelParent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Plays replay files headless at maximum speed and reports how each run went, so a recorded game
+ * doubles as a regression check and a performance workload. Run it from the core module, e.g.
+ * {@code java -p core/target/classes -m com.example.demo.core/com.example.demo.replay.HeadlessReplay
+ * --runs=20 LevelBoss-42.skyreplay}. With {@code --runs=N} every replay is played N times; the
+ * outcome must be the same every time. With {@code --hashes=<dir>} every run also writes its
+ * per-tick state hashes into the directory, and each run after the first is compared with the first.
+ */
+public final class HeadlessReplay {
+
+	private static final String RUNS_OPTION = "--runs=";
+	private static final String HASHES_OPTION = "--hashes=";
+
+	private HeadlessReplay() {
+	}
+
+	/**
+	 * Plays every replay file named on the command line.
+	 *
+	 * @param args the replay files, optionally preceded by {@code --runs=N} and {@code --hashes=<dir>}
+	 * @throws IOException                  if a replay cannot be read or a hash file cannot be written
+	 * @throws ReflectiveOperationException if a replay's level cannot be created
+	 */
+	public static void main(String[] args) throws IOException, ReflectiveOperationException {
+		int runs = 1;
+		Path hashDirectory = null;
+		System.out.printf("%-40s %-8s %-10s %-12s %-8s %-6s %-6s%n",
+				"replay", "ticks", "ms", "ticks/s", "state", "kills", "health");
+		for (String arg : args) {
+			if (arg.startsWith(RUNS_OPTION)) {
+				runs = Integer.parseInt(arg.substring(RUNS_OPTION.length()));
+				continue;
+			}
+			if (arg.startsWith(HASHES_OPTION)) {
+				hashDirectory = Files.createDirectories(Path.of(arg.substring(HASHES_OPTION.length())));
+				continue;
+			}
+			Path replayFile = Path.of(arg);
+			Replay replay = Replay.read(replayFile);
+			for (int run = 0; run < runs; run++) {
+				Path hashFile = hashDirectory == null ? null
+						: hashDirectory.resolve(replayFile.getFileName() + "-" + run + StateHashWriter.FILE_EXTENSION);
+				ReplayPlayer player = ReplayPlayer.of(replay);
+				long start = System.nanoTime();
+				long ticks = hashFile == null ? player.playToEnd() : playHashed(player, hashFile);
+				double millis = (System.nanoTime() - start) / 1e6;
+				LevelParent level = player.getLevel();
+				System.out.printf("%-40s %-8d %-10.1f %-12.0f %-8s %-6d %-6d%n", arg, ticks, millis,
+						ticks / (millis / 1000), level.getState(), level.getUser().getNumberOfKills(),
+						level.getUser().getHealth());
+				if (hashFile != null && run > 0) {
+					Path firstRun = hashDirectory.resolve(replayFile.getFileName() + "-0" + StateHashWriter.FILE_EXTENSION);
+					StateHashComparison.Divergence divergence = StateHashComparison.compare(firstRun, hashFile);
+					if (divergence != null) {
+						System.out.println("  run " + run + " diverged from run 0 after tick "
+								+ divergence.tick() + ": " + divergence.description());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Plays the rest of a replay, writing the state hash after every tick.
+	 *
+	 * @param player   the replay player
+	 * @param hashFile the file to write the hashes to
+	 * @return the number of ticks run
+	 * @throws IOException if the hash file cannot be written
+	 */
+	private static long playHashed(ReplayPlayer player, Path hashFile) throws IOException {
+		LevelParent level = player.getLevel();
+		long start = level.getTickCount();
+		try (StateHashWriter hashes = StateHashWriter.create(hashFile)) {
+			while (!player.isFinished()) {
+				player.tick();
+				hashes.record(level);
+			}
+		}
+		return level.getTickCount() - start;
+	}
+}
@@ -0,0 +1,271 @@
+package com.example.demo.replay;
+
+import com.example.demo.levels.InputCommand;
+import com.example.demo.levels.LevelParent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A recorded level: what is needed to rebuild the level exactly (its class, screen size, seed and
+ * tick length) and every player command with the tick it arrived before.
+ * <p>
+ * The binary form is a header followed by the commands. The header is the magic number
+ * {@code SKYR}, a format version byte, the level class name, the screen height and width as
+ * doubles, the seed, the tick length in seconds as a double and the number of ticks recorded. Each command is then stored as the number of
+ * ticks since the previous command, as an unsigned variable-length integer, and the command's ordinal
+ * as one byte, so a typical command takes two bytes.
+ */
+public final class Replay {
+
+	/** The file extension replays are saved with. */
+	public static final String FILE_EXTENSION = ".skyreplay";
+
+	/** "SKYR" in ASCII. */
+	private static final int MAGIC = 0x534B5952;
+	private static final int VERSION = 2;
+
+	private final String levelClassName;
+	private final double screenHeight;
+	private final double screenWidth;
+	private final long seed;
+	private final double secondsPerTick;
+	private final long tickCount;
+	private final long[] ticks;
+	private final byte[] commands;
+
+	/**
+	 * Constructs a replay. The arrays are owned by the replay from now on.
+	 *
+	 * @param levelClassName the fully qualified class name of the recorded level
+	 * @param screenHeight   the screen height the level was created with
+	 * @param screenWidth    the screen width the level was created with
+	 * @param seed           the level's seed
+	 * @param secondsPerTick the simulated time each tick covered, in seconds
+	 * @param tickCount      the number of ticks recorded
+	 * @param ticks          the tick each command arrived before, in recording order
+	 * @param commands       the ordinal of each command
+	 */
+	Replay(String levelClassName, double screenHeight, double screenWidth, long seed, double secondsPerTick,
+		   long tickCount, long[] ticks, byte[] commands) {
+		this.levelClassName = levelClassName;
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.seed = seed;
+		this.secondsPerTick = secondsPerTick;
+		this.tickCount = tickCount;
+		this.ticks = ticks;
+		this.commands = commands;
+	}
+
+	/**
+	 * Reads a replay from a file.
+	 *
+	 * @param file the replay file
+	 * @return the replay
+	 * @throws IOException if the file cannot be read or is not a replay
+	 */
+	public static Replay read(Path file) throws IOException {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			return read(in);
+		}
+	}
+
+	/**
+	 * Reads a replay from a stream.
+	 *
+	 * @param in the stream holding the replay
+	 * @return the replay
+	 * @throws IOException if the stream cannot be read or does not hold a replay
+	 */
+	public static Replay read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(in);
+		if (data.readInt() != MAGIC) {
+			throw new IOException("Not a replay");
+		}
+		int version = data.readUnsignedByte();
+		if (version != VERSION) {
+			throw new IOException("Unsupported replay version " + version);
+		}
+		String levelClassName = data.readUTF();
+		double screenHeight = data.readDouble();
+		double screenWidth = data.readDouble();
+		long seed = data.readLong();
+		double secondsPerTick = data.readDouble();
+		long tickCount = data.readLong();
+		int eventCount = data.readInt();
+		long[] ticks = new long[eventCount];
+		byte[] commands = new byte[eventCount];
+		long tick = 0;
+		for (int i = 0; i < eventCount; i++) {
+			tick += readVarLong(data);
+			ticks[i] = tick;
+			commands[i] = data.readByte();
+			InputCommand.ofOrdinal(commands[i]);
+		}
+		return new Replay(levelClassName, screenHeight, screenWidth, seed, secondsPerTick, tickCount, ticks, commands);
+	}
+
+	/**
+	 * Writes the replay to a file, replacing any existing file.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path file) throws IOException {
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+			write(out);
+		}
+	}
+
+	/**
+	 * Writes the replay to a stream.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the stream cannot be written
+	 */
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(MAGIC);
+		data.writeByte(VERSION);
+		data.writeUTF(levelClassName);
+		data.writeDouble(screenHeight);
+		data.writeDouble(screenWidth);
+		data.writeLong(seed);
+		data.writeDouble(secondsPerTick);
+		data.writeLong(tickCount);
+		data.writeInt(ticks.length);
+		long previousTick = 0;
+		for (int i = 0; i < ticks.length; i++) {
+			writeVarLong(data, ticks[i] - previousTick);
+			data.writeByte(commands[i]);
+			previousTick = ticks[i];
+		}
+		data.flush();
+	}
+
+	/**
+	 * Creates a fresh level to play this replay on: the recorded level class with the recorded
+	 * screen size, seed and tick length.
+	 *
+	 * @return the new level
+	 * @throws ReflectiveOperationException if the level cannot be created
+	 */
+	public LevelParent createLevel() throws ReflectiveOperationException {
+		LevelParent level = (LevelParent) Class.forName(levelClassName)
+				.getConstructor(double.class, double.class, long.class)
+				.newInstance(screenHeight, screenWidth, seed);
+		level.setSecondsPerTick(secondsPerTick);
+		return level;
+	}
+
+	/**
+	 * Returns the fully qualified class name of the recorded level.
+	 *
+	 * @return the level class name
+	 */
+	public String getLevelClassName() {
+		return levelClassName;
+	}
+
+	/**
+	 * Returns the screen height the level was created with.
+	 *
+	 * @return the screen height
+	 */
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
+	/**
+	 * Returns the screen width the level was created with.
+	 *
+	 * @return the screen width
+	 */
+	public double getScreenWidth() {
+		return screenWidth;
+	}
+
+	/**
+	 * Returns the seed the level was created with.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the simulated time each recorded tick covered.
+	 *
+	 * @return the seconds per tick
+	 */
+	public double getSecondsPerTick() {
+		return secondsPerTick;
+	}
+
+	/**
+	 * Returns the number of ticks recorded.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Returns the number of recorded commands.
+	 *
+	 * @return the command count
+	 */
+	public int getEventCount() {
+		return ticks.length;
+	}
+
+	/**
+	 * Returns the tick a recorded command arrived before.
+	 *
+	 * @param event the command's index in recording order
+	 * @return the tick
+	 */
+	public long getTick(int event) {
+		return ticks[event];
+	}
+
+	/**
+	 * Returns a recorded command.
+	 *
+	 * @param event the command's index in recording order
+	 * @return the command
+	 */
+	public InputCommand getCommand(int event) {
+		return InputCommand.ofOrdinal(commands[event]);
+	}
+
+	private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			data.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		data.writeByte((int) value);
+	}
+
+	private static long readVarLong(DataInputStream data) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			int b = data.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed tick delta");
+	}
+}
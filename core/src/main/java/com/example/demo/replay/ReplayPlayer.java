@@ -0,0 +1,93 @@
+package com.example.demo.replay;
+
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelState;
+
+/**
+ * Plays a {@link Replay} back on a fresh level: before every tick it gives the level the commands
+ * recorded for that tick, in their recorded order, then runs the tick. The level does not know it
+ * is being replayed, so the same simulation runs as when the replay was recorded.
+ */
+public final class ReplayPlayer {
+
+	private final Replay replay;
+	private final LevelParent level;
+	private int nextEvent;
+
+	/**
+	 * Constructs a player for a replay and the level to play it on.
+	 *
+	 * @param replay the replay
+	 * @param level  a fresh level built from the replay, see {@link Replay#createLevel()}
+	 */
+	public ReplayPlayer(Replay replay, LevelParent level) {
+		this.replay = replay;
+		this.level = level;
+	}
+
+	/**
+	 * Creates the replay's level and a player for it.
+	 *
+	 * @param replay the replay
+	 * @return the player
+	 * @throws ReflectiveOperationException if the level cannot be created
+	 */
+	public static ReplayPlayer of(Replay replay) throws ReflectiveOperationException {
+		return new ReplayPlayer(replay, replay.createLevel());
+	}
+
+	/**
+	 * Gives the level the commands recorded for its next tick and runs the tick. Once the replay is
+	 * finished the level simply keeps ticking with no further input.
+	 */
+	public void tick() {
+		long tick = level.getTickCount();
+		while (nextEvent < replay.getEventCount() && replay.getTick(nextEvent) <= tick) {
+			level.apply(replay.getCommand(nextEvent++));
+		}
+		level.updateScene();
+	}
+
+	/**
+	 * Plays the rest of the replay as fast as possible, without any rendering.
+	 *
+	 * @return the number of ticks run
+	 */
+	public long playToEnd() {
+		long start = level.getTickCount();
+		while (!isFinished()) {
+			tick();
+		}
+		return level.getTickCount() - start;
+	}
+
+	/**
+	 * Checks whether every recorded tick has been played, or the level has ended. A replay that
+	 * leaves the level paused with no commands left is finished too, as no further tick can run.
+	 *
+	 * @return {@code true} if the replay is finished
+	 */
+	public boolean isFinished() {
+		boolean commandsLeft = nextEvent < replay.getEventCount();
+		return level.getState() != LevelState.PLAYING
+				|| (!commandsLeft && (level.isPaused() || level.getTickCount() >= replay.getTickCount()));
+	}
+
+	/**
+	 * Returns the level the replay is played on.
+	 *
+	 * @return the level
+	 */
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the replay being played.
+	 *
+	 * @return the replay
+	 */
+	public Replay getReplay() {
+		return replay;
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.demo.replay;
+
+import com.example.demo.levels.InputCommand;
+import com.example.demo.levels.InputListener;
+import com.example.demo.levels.LevelParent;
+
+import java.util.Arrays;
+
+/**
+ * Records a level's player commands as they are given, for saving as a {@link Replay}. Commands are
+ * kept in two growing primitive arrays, so recording does not allocate per command.
+ * The recorder has to be attached before the level's first tick for the replay to be complete.
+ */
+public final class ReplayRecorder implements InputListener {
+
+	/** Initial capacity of the command arrays. */
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final LevelParent level;
+	private long[] ticks = new long[INITIAL_CAPACITY];
+	private byte[] commands = new byte[INITIAL_CAPACITY];
+	private int size;
+
+	/**
+	 * Constructs a recorder and attaches it to a level as its input listener.
+	 *
+	 * @param level the level to record
+	 */
+	public ReplayRecorder(LevelParent level) {
+		this.level = level;
+		level.setInputListener(this);
+	}
+
+	@Override
+	public void inputGiven(long tick, InputCommand command) {
+		if (size == ticks.length) {
+			ticks = Arrays.copyOf(ticks, size * 2);
+			commands = Arrays.copyOf(commands, size * 2);
+		}
+		ticks[size] = tick;
+		commands[size] = (byte) command.ordinal();
+		size++;
+	}
+
+	/**
+	 * Returns the number of commands recorded so far.
+	 *
+	 * @return the command count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns what has been recorded so far, up to the level's current tick.
+	 *
+	 * @return the replay
+	 */
+	public Replay toReplay() {
+		return new Replay(level.getClass().getName(), level.getScreenHeight(), level.getScreenWidth(),
+				level.getSeed(), level.getSecondsPerTick(), level.getTickCount(), Arrays.copyOf(ticks, size), Arrays.copyOf(commands, size));
+	}
+}
@@ -0,0 +1,174 @@
+package com.example.demo.replay;
+
+import com.example.demo.levels.StateHash;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Compares two state hash streams written by {@link StateHashWriter} and reports the first tick at
+ * which the runs differ, and the first entity that differs in it. Run it from the core module, e.g.
+ * {@code java -p core/target/classes -m com.example.demo.core/com.example.demo.replay.StateHashComparison
+ * first.skyhash second.skyhash}.
+ */
+public final class StateHashComparison {
+
+	/**
+	 * Where two runs first differ.
+	 *
+	 * @param tick        the tick after which the states differ
+	 * @param description what differs
+	 */
+	public record Divergence(long tick, String description) {
+	}
+
+	private StateHashComparison() {
+	}
+
+	/**
+	 * Compares the two hash files named on the command line and prints the first divergence.
+	 *
+	 * @param args the two hash files
+	 * @throws IOException if a file cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.out.println("Usage: StateHashComparison <first.skyhash> <second.skyhash>");
+			return;
+		}
+		Divergence divergence = compare(Path.of(args[0]), Path.of(args[1]));
+		if (divergence == null) {
+			System.out.println("The runs are identical.");
+		} else {
+			System.out.println("First divergence after tick " + divergence.tick() + ": " + divergence.description());
+		}
+	}
+
+	/**
+	 * Compares two hash files.
+	 *
+	 * @param first  the first file
+	 * @param second the second file
+	 * @return the first divergence, or {@code null} if the runs are identical
+	 * @throws IOException if a file cannot be read or is not a hash stream
+	 */
+	public static Divergence compare(Path first, Path second) throws IOException {
+		try (InputStream a = Files.newInputStream(first); InputStream b = Files.newInputStream(second)) {
+			return compare(a, b);
+		}
+	}
+
+	/**
+	 * Compares two hash streams.
+	 *
+	 * @param first  the first stream
+	 * @param second the second stream
+	 * @return the first divergence, or {@code null} if the runs are identical
+	 * @throws IOException if a stream cannot be read or is not a hash stream
+	 */
+	public static Divergence compare(InputStream first, InputStream second) throws IOException {
+		TickRecord a = new TickRecord(first);
+		TickRecord b = new TickRecord(second);
+		long lastTick = 0;
+		while (true) {
+			boolean hasA = a.next();
+			boolean hasB = b.next();
+			if (!hasA || !hasB) {
+				if (hasA == hasB) {
+					return null;
+				}
+				return new Divergence(lastTick, (hasA ? "the second" : "the first") + " run ends here");
+			}
+			if (a.tick != b.tick) {
+				return new Divergence(lastTick, "the next ticks differ: " + a.tick + " and " + b.tick);
+			}
+			lastTick = a.tick;
+			if (a.worldHash != b.worldHash) {
+				return new Divergence(a.tick, describeDifference(a, b));
+			}
+		}
+	}
+
+	private static String describeDifference(TickRecord a, TickRecord b) {
+		if (a.globalHash != b.globalHash) {
+			return "level-wide state (tick count, outcome, kills, enemy count or burst)";
+		}
+		int common = Math.min(a.entityCount, b.entityCount);
+		for (int i = 0; i < common; i++) {
+			if (a.groups[i] != b.groups[i] || a.hashes[i] != b.hashes[i]) {
+				return describeEntity(a, i) + (a.groups[i] != b.groups[i] ? " / " + describeEntity(b, i) : "");
+			}
+		}
+		return "entity count " + a.entityCount + " and " + b.entityCount
+				+ (a.entityCount > b.entityCount ? ", first extra " + describeEntity(a, common)
+				: ", first extra " + describeEntity(b, common));
+	}
+
+	private static String describeEntity(TickRecord record, int entity) {
+		int indexInGroup = 0;
+		for (int i = 0; i < entity; i++) {
+			if (record.groups[i] == record.groups[entity]) {
+				indexInGroup++;
+			}
+		}
+		return StateHash.Group.ofOrdinal(record.groups[entity]) + " #" + indexInGroup;
+	}
+
+	/**
+	 * One tick's record, read in place from a hash stream. The arrays are reused between records.
+	 */
+	private static final class TickRecord {
+
+		private final DataInputStream in;
+		private long tick;
+		private long worldHash;
+		private long globalHash;
+		private int entityCount;
+		private byte[] groups = new byte[64];
+		private long[] hashes = new long[64];
+
+		TickRecord(InputStream in) throws IOException {
+			this.in = new DataInputStream(new BufferedInputStream(in));
+			if (this.in.readInt() != StateHashWriter.MAGIC) {
+				throw new IOException("Not a state hash stream");
+			}
+			int version = this.in.readUnsignedByte();
+			if (version != StateHashWriter.VERSION) {
+				throw new IOException("Unsupported state hash version " + version);
+			}
+		}
+
+		/**
+		 * Reads the next record. A record cut short, e.g. by a game that was killed mid-write, counts
+		 * as the end of the stream.
+		 *
+		 * @return true if a whole record was read
+		 * @throws IOException if the stream cannot be read
+		 */
+		boolean next() throws IOException {
+			try {
+				tick = in.readLong();
+				worldHash = in.readLong();
+				globalHash = in.readLong();
+				entityCount = in.readInt();
+				if (entityCount > groups.length) {
+					groups = Arrays.copyOf(groups, Math.max(entityCount, groups.length * 2));
+					hashes = Arrays.copyOf(hashes, groups.length);
+				}
+				for (int i = 0; i < entityCount; i++) {
+					groups[i] = in.readByte();
+					hashes[i] = in.readLong();
+				}
+				return true;
+			} catch (EOFException e) {
+				return false;
+			}
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.demo.replay;
+
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.StateHash;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes a level's {@link StateHash} after every tick to a side stream, for comparing two runs with
+ * {@link StateHashComparison}. The stream is the magic number {@code SKYH} and a format version byte,
+ * then one record per tick: the tick, the world hash and the level-wide hash as longs, the entity
+ * count as an int, and each entity's group as a byte and hash as a long.
+ */
+public final class StateHashWriter implements Closeable {
+
+	/** The file extension hash streams are saved with. */
+	public static final String FILE_EXTENSION = ".skyhash";
+
+	/** "SKYH" in ASCII. */
+	static final int MAGIC = 0x534B5948;
+	static final int VERSION = 1;
+
+	private final DataOutputStream out;
+	private final StateHash hash = new StateHash();
+
+	/**
+	 * Constructs a writer on a stream and writes the stream header.
+	 *
+	 * @param out the stream to write to; closed with the writer
+	 * @throws IOException if the header cannot be written
+	 */
+	public StateHashWriter(OutputStream out) throws IOException {
+		this.out = new DataOutputStream(new BufferedOutputStream(out));
+		this.out.writeInt(MAGIC);
+		this.out.writeByte(VERSION);
+	}
+
+	/**
+	 * Constructs a writer on a new file, replacing any existing file.
+	 *
+	 * @param file the file to write
+	 * @return the writer
+	 * @throws IOException if the file cannot be created
+	 */
+	public static StateHashWriter create(Path file) throws IOException {
+		return new StateHashWriter(Files.newOutputStream(file));
+	}
+
+	/**
+	 * Hashes the level's current state and writes it as one record. Call it after every tick.
+	 *
+	 * @param level the level to hash
+	 * @throws IOException if the record cannot be written
+	 */
+	public void record(LevelParent level) throws IOException {
+		level.hashState(hash);
+		out.writeLong(hash.getTick());
+		out.writeLong(hash.getWorldHash());
+		out.writeLong(hash.getGlobalHash());
+		int entityCount = hash.getEntityCount();
+		out.writeInt(entityCount);
+		for (int i = 0; i < entityCount; i++) {
+			out.writeByte(hash.getEntityGroup(i).ordinal());
+			out.writeLong(hash.getEntityHash(i));
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+}
@@ -0,0 +1,165 @@
+package com.example.demo.stress;
+
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.TickPhase;
+import com.example.demo.levels.TickPhaseListener;
+
+import java.io.PrintStream;
+
+/**
+ * Collects the timings of a stress run: the time spent in each tick phase, the slowest tick, how
+ * many ticks overran the frame budget and how many actors the level held. It is attached to every
+ * level of the run as its phase listener, and records into preallocated counters only.
+ */
+public final class StressReport implements TickPhaseListener {
+
+	private final String scenario;
+	private final long frameBudgetNanos;
+	private final long[] phaseNanos = new long[TickPhase.count()];
+	private long tickNanos;
+	private long ticks;
+	private long slowestTickNanos;
+	private long ticksOverBudget;
+	private long actorTicks;
+	private int mostActors;
+	private int restarts;
+	private long wallNanos;
+
+	/**
+	 * Creates an empty report.
+	 *
+	 * @param scenario         a description of the scenario, printed as the report's title
+	 * @param frameBudgetNanos the time a tick must fit in, in nanoseconds
+	 */
+	StressReport(String scenario, long frameBudgetNanos) {
+		this.scenario = scenario;
+		this.frameBudgetNanos = frameBudgetNanos;
+	}
+
+	@Override
+	public void phaseTimed(TickPhase phase, long nanos) {
+		phaseNanos[phase.ordinal()] += nanos;
+		tickNanos += nanos;
+	}
+
+	/**
+	 * Records the end of a tick, summing the phases timed since the previous one.
+	 *
+	 * @param level the level that has just ticked
+	 */
+	void tickEnded(LevelParent level) {
+		ticks++;
+		slowestTickNanos = Math.max(slowestTickNanos, tickNanos);
+		if (tickNanos > frameBudgetNanos) {
+			ticksOverBudget++;
+		}
+		tickNanos = 0;
+		int actors = level.getActorCount();
+		actorTicks += actors;
+		mostActors = Math.max(mostActors, actors);
+	}
+
+	/**
+	 * Records that the level ended and a fresh one took its place.
+	 */
+	void levelRestarted() {
+		restarts++;
+	}
+
+	/**
+	 * Records how long the whole run took, including the driver's own work.
+	 *
+	 * @param wallNanos the run's wall-clock time, in nanoseconds
+	 */
+	void finished(long wallNanos) {
+		this.wallNanos = wallNanos;
+	}
+
+	/**
+	 * Returns the number of ticks run.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Returns the total time spent in a phase.
+	 *
+	 * @param phase the phase
+	 * @return the time, in nanoseconds
+	 */
+	public long getPhaseNanos(TickPhase phase) {
+		return phaseNanos[phase.ordinal()];
+	}
+
+	/**
+	 * Returns the time taken by the slowest tick.
+	 *
+	 * @return the time, in nanoseconds
+	 */
+	public long getSlowestTickNanos() {
+		return slowestTickNanos;
+	}
+
+	/**
+	 * Returns the number of ticks that took longer than the frame budget.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicksOverBudget() {
+		return ticksOverBudget;
+	}
+
+	/**
+	 * Returns the mean number of actors in the level after each tick.
+	 *
+	 * @return the mean actor count
+	 */
+	public double getMeanActors() {
+		return ticks == 0 ? 0 : (double) actorTicks / ticks;
+	}
+
+	/**
+	 * Returns the most actors the level held after any tick.
+	 *
+	 * @return the actor count
+	 */
+	public int getMostActors() {
+		return mostActors;
+	}
+
+	/**
+	 * Returns the number of times the level ended and was started again.
+	 *
+	 * @return the restart count
+	 */
+	public int getRestarts() {
+		return restarts;
+	}
+
+	/**
+	 * Prints the report: throughput, budget overruns and the time spent in each phase.
+	 *
+	 * @param out the stream to print to
+	 */
+	public void print(PrintStream out) {
+		double wallMillis = wallNanos / 1e6;
+		long simulatedNanos = 0;
+		for (long nanos : phaseNanos) {
+			simulatedNanos += nanos;
+		}
+		out.println(scenario);
+		out.printf("  %d ticks in %.1f ms, %.0f ticks/s, %d restarts%n",
+				ticks, wallMillis, ticks / (wallMillis / 1000), restarts);
+		out.printf("  actors mean %.0f, most %d; slowest tick %.3f ms; %d ticks over the %.1f ms budget%n",
+				getMeanActors(), mostActors, slowestTickNanos / 1e6, ticksOverBudget, frameBudgetNanos / 1e6);
+		out.printf("  %-28s %-10s %-10s %-6s%n", "phase", "total ms", "mean us", "share");
+		for (TickPhase phase : TickPhase.values()) {
+			long nanos = phaseNanos[phase.ordinal()];
+			out.printf("  %-28s %-10.1f %-10.2f %-5.1f%%%n", phase, nanos / 1e6,
+					ticks == 0 ? 0 : nanos / 1e3 / ticks, simulatedNanos == 0 ? 0 : 100.0 * nanos / simulatedNanos);
+		}
+	}
+}
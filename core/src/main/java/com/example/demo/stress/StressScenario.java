@@ -0,0 +1,165 @@
+package com.example.demo.stress;
+
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelState;
+import com.example.demo.levels.LevelTuning;
+
+/**
+ * A headless stress run: any level, loaded past its normal enemy count and fire rates, with extra
+ * bosses and a player firing at a fixed rate, stepped for a fixed number of ticks while every tick
+ * phase is timed. Raising the load between runs shows where {@link LevelParent#updateScene()} stops
+ * fitting in the frame budget. A level that ends is started again with the next seed, so the load
+ * holds for the whole run. Run it from the core module, e.g.
+ * {@code java -p core/target/classes -m com.example.demo.core/com.example.demo.stress.StressScenario
+ * --level=LevelThree --enemies=50,100,200,400 --fire-rate=0.05 --spam=2 --ticks=20000}.
+ */
+public final class StressScenario {
+
+	private static final String LEVEL_PACKAGE = "com.example.demo.levels.";
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final String LEVEL_OPTION = "--level=";
+	private static final String TICKS_OPTION = "--ticks=";
+	private static final String ENEMIES_OPTION = "--enemies=";
+	private static final String FIRE_RATE_OPTION = "--fire-rate=";
+	private static final String BOSS_FIRE_RATE_OPTION = "--boss-fire-rate=";
+	private static final String BOSSES_OPTION = "--bosses=";
+	private static final String SPAM_OPTION = "--spam=";
+	private static final String SEED_OPTION = "--seed=";
+	private static final String BUDGET_OPTION = "--budget-ms=";
+	private static final int DEFAULT_TICKS = 10_000;
+	private static final double DEFAULT_BUDGET_MILLIS = 1000.0 / 60;
+	private static final long DEFAULT_SEED = 2024;
+
+	private final String levelClassName;
+	private final LevelTuning tuning;
+	private final int ticks;
+	private final double shotsPerTick;
+	private final long seed;
+	private final long frameBudgetNanos;
+
+	/**
+	 * Creates a stress scenario.
+	 *
+	 * @param levelClassName   the level to run, fully qualified or relative to the levels package
+	 * @param tuning           the overrides applied to every level of the run
+	 * @param ticks            the number of ticks to run
+	 * @param shotsPerTick     how many shots the player fires per tick; fractions spread shots over ticks
+	 * @param seed             the seed of the first level; each restart uses the next one
+	 * @param frameBudgetNanos the time a tick must fit in, in nanoseconds
+	 */
+	public StressScenario(String levelClassName, LevelTuning tuning, int ticks, double shotsPerTick,
+						  long seed, long frameBudgetNanos) {
+		this.levelClassName = levelClassName.contains(".") ? levelClassName : LEVEL_PACKAGE + levelClassName;
+		this.tuning = tuning;
+		this.ticks = ticks;
+		this.shotsPerTick = shotsPerTick;
+		this.seed = seed;
+		this.frameBudgetNanos = frameBudgetNanos;
+	}
+
+	/**
+	 * Runs the scenarios described on the command line and prints a report for each. Every value
+	 * given to {@code --enemies} is a separate run, so one command can sweep the enemy count.
+	 *
+	 * @param args {@code --level=}, {@code --ticks=}, {@code --enemies=} (comma-separated),
+	 *             {@code --fire-rate=}, {@code --boss-fire-rate=}, {@code --bosses=}, {@code --spam=}
+	 *             (player shots per tick), {@code --seed=} and {@code --budget-ms=}
+	 * @throws ReflectiveOperationException if the level cannot be created
+	 */
+	public static void main(String[] args) throws ReflectiveOperationException {
+		String level = "LevelOne";
+		int ticks = DEFAULT_TICKS;
+		String[] enemyCounts = {"-1"};
+		LevelTuning tuning = LevelTuning.DEFAULT;
+		double shotsPerTick = 0;
+		long seed = DEFAULT_SEED;
+		double budgetMillis = DEFAULT_BUDGET_MILLIS;
+		for (String arg : args) {
+			if (arg.startsWith(LEVEL_OPTION)) {
+				level = arg.substring(LEVEL_OPTION.length());
+			} else if (arg.startsWith(TICKS_OPTION)) {
+				ticks = Integer.parseInt(arg.substring(TICKS_OPTION.length()));
+			} else if (arg.startsWith(ENEMIES_OPTION)) {
+				enemyCounts = arg.substring(ENEMIES_OPTION.length()).split(",");
+			} else if (arg.startsWith(FIRE_RATE_OPTION)) {
+				tuning = tuning.withEnemyFireRate(Double.parseDouble(arg.substring(FIRE_RATE_OPTION.length())));
+			} else if (arg.startsWith(BOSS_FIRE_RATE_OPTION)) {
+				tuning = tuning.withBossFireRate(Double.parseDouble(arg.substring(BOSS_FIRE_RATE_OPTION.length())));
+			} else if (arg.startsWith(BOSSES_OPTION)) {
+				tuning = tuning.withExtraBosses(Integer.parseInt(arg.substring(BOSSES_OPTION.length())));
+			} else if (arg.startsWith(SPAM_OPTION)) {
+				shotsPerTick = Double.parseDouble(arg.substring(SPAM_OPTION.length()));
+			} else if (arg.startsWith(SEED_OPTION)) {
+				seed = Long.parseLong(arg.substring(SEED_OPTION.length()));
+			} else if (arg.startsWith(BUDGET_OPTION)) {
+				budgetMillis = Double.parseDouble(arg.substring(BUDGET_OPTION.length()));
+			} else {
+				System.out.println("Unknown option: " + arg);
+				return;
+			}
+		}
+		for (String enemyCount : enemyCounts) {
+			LevelTuning runTuning = tuning.withTotalEnemies(Integer.parseInt(enemyCount.trim()));
+			new StressScenario(level, runTuning, ticks, shotsPerTick, seed, (long) (budgetMillis * 1e6))
+					.run()
+					.print(System.out);
+		}
+	}
+
+	/**
+	 * Runs the scenario.
+	 *
+	 * @return the timings of the run
+	 * @throws ReflectiveOperationException if the level cannot be created
+	 */
+	public StressReport run() throws ReflectiveOperationException {
+		StressReport report = new StressReport(describe(), frameBudgetNanos);
+		long levelSeed = seed;
+		LevelParent level = newLevel(levelSeed++, report);
+		double shotsOwed = 0;
+		long start = System.nanoTime();
+		for (int tick = 0; tick < ticks; tick++) {
+			shotsOwed += shotsPerTick;
+			while (shotsOwed >= 1) {
+				level.fireProjectile();
+				shotsOwed--;
+			}
+			level.updateScene();
+			report.tickEnded(level);
+			if (level.getState() != LevelState.PLAYING) {
+				level = newLevel(levelSeed++, report);
+				report.levelRestarted();
+			}
+		}
+		report.finished(System.nanoTime() - start);
+		return report;
+	}
+
+	private LevelParent newLevel(long levelSeed, StressReport report) throws ReflectiveOperationException {
+		LevelParent level = (LevelParent) Class.forName(levelClassName)
+				.getConstructor(double.class, double.class, long.class)
+				.newInstance(SCREEN_HEIGHT, SCREEN_WIDTH, levelSeed);
+		level.setTuning(tuning);
+		level.setPhaseListener(report);
+		return level;
+	}
+
+	private String describe() {
+		return levelClassName.substring(levelClassName.lastIndexOf('.') + 1)
+				+ ": enemies " + describe(tuning.totalEnemies())
+				+ ", fire rate " + describe(tuning.enemyFireRate())
+				+ ", boss fire rate " + describe(tuning.bossFireRate())
+				+ ", extra bosses " + tuning.extraBosses()
+				+ ", player shots/tick " + shotsPerTick
+				+ ", seed " + seed;
+	}
+
+	private static String describe(int override) {
+		return override < 0 ? "default" : String.valueOf(override);
+	}
+
+	private static String describe(double override) {
+		return override < 0 ? "default" : String.valueOf(override);
+	}
+}
@@ -0,0 +1,13 @@
+module com.example.demo.core {
+    requires jdk.httpserver;
+    requires jdk.jfr;
+
+    exports com.example.demo.collision;
+    exports com.example.demo.levels;
+    exports com.example.demo.loop;
+    exports com.example.demo.metrics;
+    exports com.example.demo.objects;
+    exports com.example.demo.profiling;
+    exports com.example.demo.replay;
+    exports com.example.demo.stress;
+}
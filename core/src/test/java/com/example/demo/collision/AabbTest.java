@@ -0,0 +1,36 @@
+package com.example.demo.collision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AabbTest {
+
+    @Test
+    void setPosition() {
+        Aabb box = new Aabb(0, 0, 30, 37);
+        box.setPosition(110, 320);
+
+        assertEquals(110, box.getX());
+        assertEquals(320, box.getY());
+        assertEquals(140, box.getMaxX());
+        assertEquals(357, box.getMaxY());
+    }
+
+    @Test
+    void intersects() {
+        Aabb plane = new Aabb(100, 100, 110, 30);
+
+        assertTrue(plane.intersects(new Aabb(200, 120, 30, 37)));
+        assertTrue(plane.intersects(new Aabb(120, 110, 5, 5)));
+        assertFalse(plane.intersects(new Aabb(300, 100, 30, 37)));
+    }
+
+    @Test
+    void touchingEdgesDoNotIntersect() {
+        Aabb plane = new Aabb(100, 100, 110, 30);
+
+        assertFalse(plane.intersects(new Aabb(210, 100, 30, 37)));
+        assertFalse(plane.intersects(new Aabb(100, 130, 30, 37)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.collision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayfieldTest {
+
+    private final Playfield playfield = new Playfield(1300, 650, 50);
+
+    @Test
+    void contains() {
+        assertTrue(playfield.contains(new Aabb(600, 300, 30, 37)));
+    }
+
+    @Test
+    void boxInsideMarginIsStillContained() {
+        assertTrue(playfield.contains(new Aabb(1300, 300, 110, 30)));
+        assertTrue(playfield.contains(new Aabb(-100, 300, 110, 30)));
+    }
+
+    @Test
+    void hasLeft() {
+        assertTrue(playfield.hasLeft(new Aabb(1350, 300, 30, 37)));
+        assertTrue(playfield.hasLeft(new Aabb(-161, 300, 110, 30)));
+        assertTrue(playfield.hasLeft(new Aabb(600, 700, 30, 37)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.collision;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashGridTest {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 650;
+
+    @Test
+    void queryFindsOverlappingBox() {
+        SpatialHashGrid grid = new SpatialHashGrid(128, 64);
+        grid.insert(0, 10, 10, 40, 40);
+        grid.insert(1, 900, 500, 950, 540);
+
+        int count = grid.query(30, 30, 60, 60);
+
+        assertEquals(1, count);
+        assertEquals(0, grid.getCandidate(0));
+    }
+
+    @Test
+    void queryReportsBoxSpanningSeveralCellsOnce() {
+        SpatialHashGrid grid = new SpatialHashGrid(32, 64);
+        grid.insert(7, 0, 0, 200, 200);
+
+        assertEquals(1, grid.query(0, 0, 200, 200));
+        assertEquals(7, grid.getCandidate(0));
+    }
+
+    @Test
+    void clear() {
+        SpatialHashGrid grid = new SpatialHashGrid(128, 64);
+        grid.insert(0, 10, 10, 40, 40);
+        grid.clear();
+
+        assertEquals(0, grid.query(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT));
+    }
+
+    @Test
+    void handlesNegativeCoordinates() {
+        SpatialHashGrid grid = new SpatialHashGrid(128, 64);
+        grid.insert(3, -300, -20, -250, 10);
+
+        assertEquals(1, grid.query(-260, 0, -200, 40));
+    }
+
+    @Test
+    void sameHitsAsNestedLoop() {
+        Random random = new Random(42);
+        double[][] projectiles = randomBoxes(random, 500, 30, 37);
+        double[][] enemies = randomBoxes(random, 40, 110, 30);
+        SpatialHashGrid grid = new SpatialHashGrid(128, 1024);
+
+        Set<Long> expected = new HashSet<>();
+        for (int e = 0; e < enemies.length; e++) {
+            for (int p = 0; p < projectiles.length; p++) {
+                if (intersects(enemies[e], projectiles[p])) {
+                    expected.add(((long) e << 32) | p);
+                }
+            }
+        }
+
+        for (int p = 0; p < projectiles.length; p++) {
+            grid.insert(p, projectiles[p][0], projectiles[p][1], projectiles[p][2], projectiles[p][3]);
+        }
+        Set<Long> actual = new HashSet<>();
+        for (int e = 0; e < enemies.length; e++) {
+            int count = grid.query(enemies[e][0], enemies[e][1], enemies[e][2], enemies[e][3]);
+            for (int i = 0; i < count; i++) {
+                int p = grid.getCandidate(i);
+                if (intersects(enemies[e], projectiles[p])) {
+                    actual.add(((long) e << 32) | p);
+                }
+            }
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testsFarFewerPairsThanNestedLoop() {
+        Random random = new Random(7);
+        SpatialHashGrid grid = new SpatialHashGrid(128, 1024);
+        for (int projectileCount : new int[] {100, 1000}) {
+            double[][] projectiles = randomBoxes(random, projectileCount, 30, 37);
+            double[][] enemies = randomBoxes(random, 9, 110, 30);
+            grid.clear();
+            for (int p = 0; p < projectiles.length; p++) {
+                grid.insert(p, projectiles[p][0], projectiles[p][1], projectiles[p][2], projectiles[p][3]);
+            }
+            long gridPairs = 0;
+            for (double[] enemy : enemies) {
+                gridPairs += grid.query(enemy[0], enemy[1], enemy[2], enemy[3]);
+            }
+            long nestedPairs = (long) projectileCount * enemies.length;
+
+            // An enemy covers at most four of the screen's 66 cells, so it sees about a tenth of the projectiles.
+            assertTrue(gridPairs * 4 < nestedPairs,
+                    projectileCount + " projectiles: " + gridPairs + " grid pairs, " + nestedPairs + " nested");
+        }
+    }
+
+    private static double[][] randomBoxes(Random random, int count, double width, double height) {
+        double[][] boxes = new double[count][];
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * (SCREEN_WIDTH - width);
+            double y = random.nextDouble() * (SCREEN_HEIGHT - height);
+            boxes[i] = new double[] {x, y, x + width, y + height};
+        }
+        return boxes;
+    }
+
+    private static boolean intersects(double[] a, double[] b) {
+        return a[0] < b[2] && b[0] < a[2] && a[1] < b[3] && b[1] < a[3];
+    }
+}
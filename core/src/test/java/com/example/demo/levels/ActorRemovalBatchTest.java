@@ -0,0 +1,105 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.ActiveActorDestructible;
+import com.example.demo.objects.EnemyPlane;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorRemovalBatchTest {
+
+    @Test
+    void collectFromKeepsSurvivorsInOrder() {
+        List<ActiveActorDestructible> actors = planes(6);
+        List<ActiveActorDestructible> survivors = List.of(actors.get(0), actors.get(2), actors.get(5));
+        actors.get(1).destroy();
+        actors.get(3).destroy();
+        actors.get(4).destroy();
+
+        ActorRemovalBatch batch = new ActorRemovalBatch();
+        batch.collectFrom(actors);
+
+        assertEquals(survivors, actors);
+        assertEquals(3, batch.size());
+    }
+
+    @Test
+    void removeAllDropsDestroyedActorsOnly() {
+        List<ActiveActorDestructible> actors = planes(4);
+        List<ActiveActorDestructible> shown = new ArrayList<>(actors);
+        actors.get(0).destroy();
+        actors.get(2).destroy();
+
+        ActorRemovalBatch batch = new ActorRemovalBatch();
+        batch.collectFrom(actors);
+        shown.removeAll(batch);
+
+        assertEquals(actors, shown);
+    }
+
+    @Test
+    void containsOnlyCollectedActors() {
+        List<ActiveActorDestructible> actors = planes(3);
+        ActiveActorDestructible collected = actors.get(0);
+        ActiveActorDestructible survivor = actors.get(1);
+        ActiveActorDestructible elsewhere = planes(1).get(0);
+        collected.destroy();
+        elsewhere.destroy();
+
+        ActorRemovalBatch batch = new ActorRemovalBatch();
+        batch.collectFrom(actors);
+
+        assertTrue(batch.contains(collected));
+        assertFalse(batch.contains(survivor));
+        assertFalse(batch.contains(elsewhere));
+        batch.clear();
+        assertFalse(batch.contains(collected));
+    }
+
+    @Test
+    void clearEmptiesBatch() {
+        List<ActiveActorDestructible> actors = planes(3);
+        actors.forEach(ActiveActorDestructible::destroy);
+
+        ActorRemovalBatch batch = new ActorRemovalBatch();
+        batch.collectFrom(actors);
+        batch.clear();
+
+        assertTrue(actors.isEmpty());
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    void sweepsEveryTenthActorAtStressSizes() {
+        ActorRemovalBatch batch = new ActorRemovalBatch();
+        for (int count : new int[] {50, 500, 5000}) {
+            List<ActiveActorDestructible> actors = planes(count);
+            for (int i = 0; i < count; i += 10) {
+                actors.get(i).destroy();
+            }
+            List<ActiveActorDestructible> shown = new ArrayList<>(actors);
+
+            batch.collectFrom(actors);
+            shown.removeAll(batch);
+            int removed = batch.size();
+            batch.clear();
+
+            assertEquals(count / 10, removed);
+            assertEquals(count - count / 10, actors.size());
+            assertEquals(actors, shown);
+        }
+    }
+
+    static List<ActiveActorDestructible> planes(int count) {
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(count);
+        for (int i = 0; i < count; i++) {
+            actors.add(new EnemyPlane(i, i, random));
+        }
+        return actors;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.levels;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Steps every level headless with the scripted player from {@link HeadlessLevelTest} and
+ * counts the bytes the test thread allocates in each tick, once the JIT has had time to compile the
+ * hot path. The steady-state game tick is meant to allocate next to nothing; spawning an enemy is the
+ * only expected allocation. A tick over the per-tick budget, or a mean over the mean budget, fails the
+ * test. Both budgets can be changed with the {@code skybattle.allocation.maxTickBytes} and
+ * {@code skybattle.allocation.meanTickBytes} system properties. Building a new level after one ends
+ * is not counted.
+ */
+class AllocationBudgetTest {
+
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 20_000;
+    private static final long MAX_TICK_BYTES = Long.getLong("skybattle.allocation.maxTickBytes", 2048);
+    private static final long MEAN_TICK_BYTES = Long.getLong("skybattle.allocation.meanTickBytes", 128);
+    private static final long SEED = 2024;
+
+    @Test
+    void steadyStateTicksStayWithinAllocationBudget() throws ReflectiveOperationException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "per-thread allocation counting is not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        for (String levelClassName : HeadlessLevelTest.LEVELS) {
+            long seed = SEED;
+            LevelParent level = HeadlessLevelTest.newLevel(levelClassName, seed++);
+            long totalBytes = 0;
+            long maxBytes = 0;
+            int maxTick = -1;
+            for (int tick = 0; tick < WARMUP_TICKS + MEASURED_TICKS; tick++) {
+                long before = threads.getCurrentThreadAllocatedBytes();
+                HeadlessLevelTest.play(level, tick);
+                level.updateScene();
+                long bytes = threads.getCurrentThreadAllocatedBytes() - before;
+                if (tick >= WARMUP_TICKS) {
+                    totalBytes += bytes;
+                    if (bytes > maxBytes) {
+                        maxBytes = bytes;
+                        maxTick = tick;
+                    }
+                }
+                if (level.getState() != LevelState.PLAYING) {
+                    level = HeadlessLevelTest.newLevel(levelClassName, seed++);
+                }
+            }
+            long meanBytes = totalBytes / MEASURED_TICKS;
+            String name = levelClassName.substring(levelClassName.lastIndexOf('.') + 1);
+            assertTrue(maxBytes <= MAX_TICK_BYTES,
+                    name + " allocated " + maxBytes + " bytes in tick " + maxTick + ", budget " + MAX_TICK_BYTES);
+            assertTrue(meanBytes <= MEAN_TICK_BYTES,
+                    name + " allocated " + meanBytes + " bytes per tick on average, budget " + MEAN_TICK_BYTES);
+        }
+    }
+}
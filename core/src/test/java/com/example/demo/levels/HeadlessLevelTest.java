@@ -0,0 +1,133 @@
+package com.example.demo.levels;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Steps every level from LevelOne to BonusLevel without a client attached, with a scripted player
+ * sweeping up and down and firing constantly, and checks that each level reaches an outcome and
+ * that a cleared level names the next one. A level that ends is started again until its tick
+ * budget is spent. How fast the levels step is measured by the JMH benchmarks, not here.
+ */
+class HeadlessLevelTest {
+
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final int TICKS_PER_LEVEL = 20_000;
+    private static final int TICKS_PER_SWEEP = 40;
+    private static final int TICKS_BETWEEN_SHOTS = 3;
+    private static final long SEED = 2024;
+    static final List<String> LEVELS = List.of(
+            "com.example.demo.levels.LevelOne",
+            "com.example.demo.levels.LevelTwo",
+            "com.example.demo.levels.LevelThree",
+            "com.example.demo.levels.LevelBoss",
+            "com.example.demo.levels.BonusLevel");
+
+    @Test
+    void levelsStepHeadlessAndReachAnOutcome() throws ReflectiveOperationException {
+        for (int i = 0; i < LEVELS.size(); i++) {
+            String levelClassName = LEVELS.get(i);
+            String nextLevelClassName = i + 1 < LEVELS.size() ? LEVELS.get(i + 1) : null;
+            int outcomes = 0;
+            long seed = SEED;
+            LevelParent level = newLevel(levelClassName, seed++);
+            for (int tick = 0; tick < TICKS_PER_LEVEL; tick++) {
+                play(level, tick);
+                level.updateScene();
+                if (level.getState() != LevelState.PLAYING) {
+                    if (level.getState() == LevelState.CLEARED) {
+                        assertEquals(nextLevelClassName, level.getNextLevelClassName());
+                    }
+                    outcomes++;
+                    level = newLevel(levelClassName, seed++);
+                }
+            }
+            assertTrue(outcomes > 0, levelClassName + " never ended");
+        }
+    }
+
+    @Test
+    void levelStopsTickingOnceItEnds() {
+        LevelOne level = new LevelOne(SCREEN_HEIGHT, SCREEN_WIDTH);
+        while (level.getState() == LevelState.PLAYING) {
+            level.getUser().takeDamage();
+            level.updateScene();
+        }
+        int actors = level.getActorCount();
+
+        level.updateScene();
+
+        assertEquals(LevelState.LOST, level.getState());
+        assertEquals(actors, level.getActorCount());
+        assertFalse(level.isBurstReady());
+    }
+
+    @Test
+    void burstFiresFiveShotsOverTicksThenCoolsDown() {
+        LevelBoss level = new LevelBoss(SCREEN_HEIGHT, SCREEN_WIDTH);
+
+        assertTrue(level.shootBurst());
+        assertFalse(level.shootBurst());
+        for (int tick = 0; tick < 20; tick++) {
+            level.updateScene();
+        }
+        assertEquals(5, level.getUserProjectileCount());
+        assertFalse(level.isBurstReady());
+
+        for (int tick = 0; tick < 4.0 / 0.030; tick++) {
+            level.updateScene();
+        }
+        assertTrue(level.isBurstReady());
+    }
+
+    @Test
+    void burstStandsStillWhileThePlayerPauses() {
+        LevelBoss level = new LevelBoss(SCREEN_HEIGHT, SCREEN_WIDTH);
+        assertTrue(level.shootBurst());
+        level.updateScene();
+        assertEquals(1, level.getUserProjectileCount());
+
+        level.togglePause();
+        for (int tick = 0; tick < 1_000; tick++) {
+            level.updateScene();
+        }
+        assertEquals(1, level.getUserProjectileCount());
+        assertFalse(level.isBurstReady());
+
+        level.togglePause();
+        for (int tick = 0; tick < 20; tick++) {
+            level.updateScene();
+        }
+        assertEquals(5, level.getUserProjectileCount());
+        assertFalse(level.isBurstReady());
+    }
+
+    /**
+     * Plays the level like a player who never stops shooting: sweeps the plane up and down,
+     * fires every few ticks and starts a burst whenever it is ready.
+     */
+    static void play(LevelParent level, int tick) {
+        int phase = tick % (2 * TICKS_PER_SWEEP);
+        if (phase == 0) {
+            level.moveUserUp();
+        } else if (phase == TICKS_PER_SWEEP) {
+            level.moveUserDown();
+        }
+        if (tick % TICKS_BETWEEN_SHOTS == 0) {
+            level.fireProjectile();
+        }
+        if (level.isBurstReady()) {
+            level.shootBurst();
+        }
+    }
+
+    static LevelParent newLevel(String levelClassName, long seed) throws ReflectiveOperationException {
+        return (LevelParent) Class.forName(levelClassName)
+                .getConstructor(double.class, double.class, long.class)
+                .newInstance(SCREEN_HEIGHT, SCREEN_WIDTH, seed);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.levels;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelTuningTest {
+
+    @Test
+    void defaultKeepsTheLevelsOwnNumbers() {
+        assertEquals(5, LevelTuning.DEFAULT.totalEnemiesOr(5));
+        assertEquals(40, LevelTuning.DEFAULT.withTotalEnemies(40).totalEnemiesOr(5));
+    }
+
+    @Test
+    void zeroFireRateSilencesTheBoss() {
+        LevelBoss level = new LevelBoss(750, 1300, 3);
+        level.setTuning(LevelTuning.DEFAULT.withBossFireRate(0));
+        for (int tick = 0; tick < 500; tick++) {
+            level.updateScene();
+        }
+
+        assertEquals(0, level.getEnemyProjectileCount());
+    }
+
+    @Test
+    void extraBossesJoinInTheFirstTick() {
+        LevelBoss level = new LevelBoss(750, 1300, 3);
+        level.setTuning(LevelTuning.DEFAULT.withExtraBosses(3));
+        level.updateScene();
+        level.updateScene();
+
+        assertEquals(4, level.getCurrentNumberOfEnemies());
+    }
+
+    @Test
+    void phaseListenerHearsEveryPhaseInOrder() {
+        LevelOne level = new LevelOne(750, 1300, 3);
+        StringBuilder phases = new StringBuilder();
+        level.setPhaseListener((phase, nanos) -> phases.append(phase.ordinal()));
+        level.updateScene();
+
+        assertEquals("0123456789", phases.toString());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.levels;
+
+import com.example.demo.objects.ActiveActorDestructible;
+import com.example.demo.objects.EnemyPlane;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs a level for ten minutes of game time with the player firing constantly and checks that
+ * the number of live actors stays flat instead of growing with every missed shot.
+ */
+class ProjectileLifecycleSoakTest {
+
+    private static final int TICKS_PER_MINUTE = 60_000 / 30;
+    private static final int MINUTES = 10;
+    private static final int TICKS_BETWEEN_SHOTS = 3;
+    private static final int MAX_LIVE_ACTORS = 100;
+
+    @Test
+    void actorCountsStayFlatOverTenMinutes() {
+        SoakLevel level = new SoakLevel();
+        int initialCapacity = level.getUserProjectiles().capacity();
+        int[] peakPerMinute = new int[MINUTES];
+
+        for (int minute = 0; minute < MINUTES; minute++) {
+            for (int tick = 0; tick < TICKS_PER_MINUTE; tick++) {
+                if (tick % TICKS_BETWEEN_SHOTS == 0) {
+                    level.fireProjectile();
+                }
+                level.updateScene();
+                int liveActors = level.getActorCount();
+                peakPerMinute[minute] = Math.max(peakPerMinute[minute], liveActors);
+            }
+        }
+
+        for (int minute = 0; minute < MINUTES; minute++) {
+            assertTrue(peakPerMinute[minute] <= MAX_LIVE_ACTORS,
+                    "live actors grew to " + peakPerMinute[minute] + " in minute " + (minute + 1));
+        }
+        assertEquals(initialCapacity, level.getUserProjectiles().capacity(),
+                "missed shots were not removed from the store");
+    }
+
+    /**
+     * A LevelThree-sized wave that never ends, so the soak run is not cut short by a win or loss.
+     */
+    private static class SoakLevel extends LevelParent {
+
+        private static final int TOTAL_ENEMIES = 9;
+        private static final double ENEMY_SPAWN_PROBABILITY = .20;
+
+        SoakLevel() {
+            super(650, 1300, 5);
+        }
+
+        @Override
+        protected void checkIfGameOver() {
+        }
+
+        @Override
+        protected void spawnEnemyUnits() {
+            int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+            for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
+                if (getRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+                    ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(),
+                            getRandom().nextDouble() * getEnemyMaximumYPosition(), getRandom());
+                    addEnemyUnit(newEnemy);
+                }
+            }
+        }
+    }
+}
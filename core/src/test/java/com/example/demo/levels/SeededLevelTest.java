@@ -0,0 +1,62 @@
+package com.example.demo.levels;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plays every level twice from the same seed with the same scripted input and checks that the two
+ * runs match tick for tick, then checks that a different seed leads somewhere else.
+ */
+class SeededLevelTest {
+
+    private static final int TICKS = 3_000;
+    private static final long SEED = 42;
+
+    @Test
+    void sameSeedReplaysIdentically() throws ReflectiveOperationException {
+        for (String levelClassName : HeadlessLevelTest.LEVELS) {
+            double[] first = run(levelClassName, SEED);
+            double[] second = run(levelClassName, SEED);
+
+            assertArrayEquals(first, second, levelClassName);
+        }
+    }
+
+    @Test
+    void differentSeedsDiverge() throws ReflectiveOperationException {
+        assertFalse(Arrays.equals(run("com.example.demo.levels.LevelOne", SEED),
+                run("com.example.demo.levels.LevelOne", SEED + 1)));
+    }
+
+    @Test
+    void clearedLevelSeedsTheNextOne() {
+        LevelOne first = new LevelOne(750, 1300, SEED);
+        LevelOne second = new LevelOne(750, 1300, SEED);
+        first.completeLevel("com.example.demo.levels.LevelTwo");
+        second.completeLevel("com.example.demo.levels.LevelTwo");
+
+        assertEquals(SEED, first.getSeed());
+        assertEquals(first.getNextLevelSeed(), second.getNextLevelSeed());
+    }
+
+    /**
+     * Plays a level from a seed and records a fingerprint of its state after every tick.
+     */
+    private static double[] run(String levelClassName, long seed) throws ReflectiveOperationException {
+        LevelParent level = HeadlessLevelTest.newLevel(levelClassName, seed);
+        double[] trace = new double[TICKS * 5];
+        for (int tick = 0; tick < TICKS && level.getState() == LevelState.PLAYING; tick++) {
+            HeadlessLevelTest.play(level, tick);
+            level.updateScene();
+            trace[tick * 5] = level.getUser().getHealth();
+            trace[tick * 5 + 1] = level.getUser().getNumberOfKills();
+            trace[tick * 5 + 2] = level.getCurrentNumberOfEnemies();
+            trace[tick * 5 + 3] = level.getEnemyProjectileCount();
+            trace[tick * 5 + 4] = level.getUser().getPositionY();
+        }
+        return trace;
+    }
+}
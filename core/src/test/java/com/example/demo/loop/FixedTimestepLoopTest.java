@@ -0,0 +1,109 @@
+package com.example.demo.loop;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedTimestepLoopTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private int ticks;
+
+    private FixedTimestepLoop newLoop(double ticksPerSecond, int maxTicksPerFrame) {
+        return new FixedTimestepLoop(ticksPerSecond, maxTicksPerFrame, () -> ticks++);
+    }
+
+    @Test
+    void firstFrameOnlyStartsTheClock() {
+        FixedTimestepLoop loop = newLoop(100, 5);
+        loop.start();
+
+        assertEquals(0, loop.advance(5_000 * MILLIS));
+        assertEquals(0, ticks);
+    }
+
+    @Test
+    void runsOneTickPerElapsedStepRegardlessOfFrameRate() {
+        FixedTimestepLoop loop = newLoop(100, 5);
+        loop.start();
+        long now = 0;
+        loop.advance(now);
+        for (int frame = 0; frame < 100; frame++) {
+            now += 4 * MILLIS;
+            loop.advance(now);
+        }
+
+        assertEquals(40, ticks);
+        assertEquals(0.0, loop.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void keepsLeftoverTimeAsAlpha() {
+        FixedTimestepLoop loop = newLoop(100, 5);
+        loop.start();
+        loop.advance(0);
+
+        assertEquals(2, loop.advance(25 * MILLIS));
+        assertEquals(0.5, loop.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void capsCatchUpAndDropsTheBacklog() {
+        FixedTimestepLoop loop = newLoop(100, 5);
+        loop.start();
+        loop.advance(0);
+
+        assertEquals(5, loop.advance(1_005 * MILLIS));
+        assertEquals(95, loop.getDroppedTicks());
+        assertEquals(0.5, loop.getAlpha(), 1e-9);
+        assertEquals(1, loop.advance(1_015 * MILLIS));
+    }
+
+    @Test
+    void stoppingFromATickEndsTheFrame() {
+        FixedTimestepLoop[] holder = new FixedTimestepLoop[1];
+        holder[0] = new FixedTimestepLoop(100, 5, () -> {
+            ticks++;
+            holder[0].stop();
+        });
+        holder[0].start();
+        holder[0].advance(0);
+
+        assertEquals(1, holder[0].advance(45 * MILLIS));
+        assertEquals(0.5, holder[0].getAlpha(), 1e-9);
+        assertEquals(0, holder[0].advance(80 * MILLIS));
+        assertEquals(1, ticks);
+    }
+
+    @Test
+    void restartDoesNotCatchUpStoppedTime() {
+        FixedTimestepLoop loop = newLoop(100, 5);
+        loop.start();
+        loop.advance(0);
+        loop.advance(10 * MILLIS);
+        loop.stop();
+        loop.start();
+        loop.advance(10_000 * MILLIS);
+
+        assertEquals(1, loop.advance(10_010 * MILLIS));
+        assertEquals(2, ticks);
+    }
+
+    @Test
+    void defaultRateStepsThirtyMilliseconds() {
+        FixedTimestepLoop loop = newLoop(1000.0 / 30, 5);
+
+        assertEquals(0.03, loop.getSecondsPerTick());
+        assertEquals(-6.0, -6.0 / 0.030 * loop.getSecondsPerTick());
+        assertEquals(8.0, 8.0 / 0.030 * loop.getSecondsPerTick());
+        assertEquals(-10.0, -10.0 / 0.030 * loop.getSecondsPerTick());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> newLoop(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> newLoop(Double.NaN, 5));
+        assertThrows(IllegalArgumentException.class, () -> newLoop(60, 0));
+    }
+}
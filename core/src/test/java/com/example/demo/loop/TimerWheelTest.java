@@ -0,0 +1,136 @@
+package com.example.demo.loop;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    @Test
+    void firesEachTimerOnItsDueTickAcrossEveryWheel() {
+        TimerWheel wheel = new TimerWheel();
+        long[] delays = {1, 2, 63, 64, 65, 127, 128, 4095, 4096, 4097, 262_143, 262_144, 300_001};
+        long[] firedAt = new long[delays.length];
+        for (int i = 0; i < delays.length; i++) {
+            int index = i;
+            wheel.schedule(wheel.newTimer(() -> firedAt[index] = wheel.getTick()), delays[i]);
+        }
+        assertEquals(delays.length, wheel.size());
+
+        while (wheel.size() > 0) {
+            wheel.advance();
+        }
+
+        assertArrayEquals(delays, firedAt);
+    }
+
+    @Test
+    void randomDelaysScheduledAtRandomTicksFireOnTime() {
+        TimerWheel wheel = new TimerWheel();
+        Random random = new Random(7);
+        List<long[]> fired = new ArrayList<>();
+        for (int tick = 0; tick < 20_000; tick++) {
+            if (random.nextInt(10) == 0) {
+                long due = wheel.getTick() + 1 + random.nextInt(10_000);
+                wheel.schedule(wheel.newTimer(() -> fired.add(new long[] {due, wheel.getTick()})), due - wheel.getTick());
+            }
+            wheel.advance();
+        }
+        while (wheel.size() > 0) {
+            wheel.advance();
+        }
+
+        assertFalse(fired.isEmpty());
+        for (long[] timer : fired) {
+            assertEquals(timer[0], timer[1]);
+        }
+    }
+
+    @Test
+    void cancelledTimerDoesNotFire() {
+        TimerWheel wheel = new TimerWheel();
+        int[] fired = new int[1];
+        TimerWheel.Timer timer = wheel.newTimer(() -> fired[0]++);
+        wheel.schedule(timer, 100);
+        wheel.advance();
+        assertEquals(99, timer.getRemainingTicks());
+
+        timer.cancel();
+        timer.cancel();
+        for (int tick = 0; tick < 200; tick++) {
+            wheel.advance();
+        }
+
+        assertEquals(0, fired[0]);
+        assertFalse(timer.isScheduled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedulingAgainReplacesTheEarlierSchedule() {
+        TimerWheel wheel = new TimerWheel();
+        List<Long> fired = new ArrayList<>();
+        TimerWheel.Timer timer = wheel.newTimer(() -> fired.add(wheel.getTick()));
+        wheel.schedule(timer, 10);
+        wheel.schedule(timer, 70);
+
+        for (int tick = 0; tick < 100; tick++) {
+            wheel.advance();
+        }
+
+        assertEquals(List.of(70L), fired);
+    }
+
+    @Test
+    void repeatingTimerFiresEveryPeriodUntilItCancelsItself() {
+        TimerWheel wheel = new TimerWheel();
+        List<Long> fired = new ArrayList<>();
+        TimerWheel.Timer[] timer = new TimerWheel.Timer[1];
+        timer[0] = wheel.newTimer(() -> {
+            fired.add(wheel.getTick());
+            if (fired.size() == 4) {
+                timer[0].cancel();
+            }
+        });
+        wheel.scheduleRepeating(timer[0], 1, 30);
+
+        for (int tick = 0; tick < 200; tick++) {
+            wheel.advance();
+        }
+
+        assertEquals(List.of(1L, 31L, 61L, 91L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void clearCancelsEveryTimer() {
+        TimerWheel wheel = new TimerWheel();
+        int[] fired = new int[1];
+        for (int delay = 1; delay < 10_000; delay += 97) {
+            wheel.schedule(wheel.newTimer(() -> fired[0]++), delay);
+        }
+
+        wheel.clear();
+        for (int tick = 0; tick < 10_000; tick++) {
+            wheel.advance();
+        }
+
+        assertEquals(0, wheel.size());
+        assertEquals(0, fired[0]);
+    }
+
+    @Test
+    void rejectsDelaysOutOfRangeAndTimersOfOtherWheels() {
+        TimerWheel wheel = new TimerWheel();
+        TimerWheel.Timer timer = wheel.newTimer(() -> { });
+
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(timer, 0));
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(timer, TimerWheel.MAX_DELAY + 1));
+        assertThrows(IllegalArgumentException.class, () -> wheel.scheduleRepeating(timer, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel().schedule(timer, 1));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.metrics;
+
+import com.example.demo.levels.LevelOne;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsServerTest {
+
+    private static final int TICKS = 100;
+
+    @Test
+    void levelUpdatesCountersAndGauges() {
+        GameMetrics metrics = playedLevelOne();
+        String text = metrics.scrape();
+
+        assertEquals(TICKS, metrics.getTicks());
+        assertTrue(text.contains("skybattle_ticks_total " + TICKS + "\n"), text);
+        assertTrue(text.contains("skybattle_tick_duration_seconds_bucket{le=\"+Inf\"} " + TICKS + "\n"), text);
+        assertTrue(text.contains("skybattle_actors{list=\"friendlyUnits\"} 1\n"), text);
+        assertTrue(text.contains("skybattle_projectiles_fired_total{side=\"user\"} 10\n"), text);
+        assertTrue(text.contains("skybattle_collision_pairs_tested_total{pass=\"USER_PROJECTILE_COLLISIONS\"}"), text);
+        assertTrue(text.contains("skybattle_level_info{level=\"com.example.demo.levels.LevelOne\"} 1\n"), text);
+        assertTrue(text.contains("skybattle_level_transition_seconds_count 0\n"), text);
+    }
+
+    @Test
+    void histogramBucketsAreCumulative() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.levelTransitioned(3_000_000);
+        metrics.levelTransitioned(40_000_000);
+        String text = metrics.scrape();
+
+        assertTrue(text.contains("skybattle_level_transition_seconds_bucket{le=\"0.005\"} 1\n"), text);
+        assertTrue(text.contains("skybattle_level_transition_seconds_bucket{le=\"0.025\"} 1\n"), text);
+        assertTrue(text.contains("skybattle_level_transition_seconds_bucket{le=\"0.05\"} 2\n"), text);
+        assertTrue(text.contains("skybattle_level_transition_seconds_count 2\n"), text);
+    }
+
+    @Test
+    void servesMetricsOnLocalhost() throws IOException {
+        GameMetrics metrics = playedLevelOne();
+        try (MetricsServer server = MetricsServer.start(metrics, 0)) {
+            URL url = new URL("http://localhost:" + server.getPort() + MetricsServer.PATH);
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            try (InputStream in = connection.getInputStream()) {
+                String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+
+                assertEquals(200, connection.getResponseCode());
+                assertTrue(connection.getContentType().startsWith("text/plain"));
+                assertTrue(body.contains("skybattle_ticks_total " + TICKS + "\n"), body);
+            }
+        }
+    }
+
+    private static GameMetrics playedLevelOne() {
+        GameMetrics metrics = new GameMetrics();
+        LevelOne level = new LevelOne(750, 1300, 4);
+        level.setMetrics(metrics);
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (tick % 10 == 0) {
+                level.fireProjectile();
+            }
+            level.updateScene();
+        }
+        assertEquals(TICKS, level.getTickCount());
+        return metrics;
+    }
+}
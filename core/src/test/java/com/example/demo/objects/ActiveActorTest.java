@@ -0,0 +1,61 @@
+package com.example.demo.objects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveActorTest {
+
+    private static final double TICK = 0.03;
+    private static final long SEED = 1;
+
+    @Test
+    void updatePosition() {
+    }
+
+    @Test
+    void moveHorizontally() {
+    }
+
+    @Test
+    void moveVertically() {
+    }
+
+    @Test
+    void movingChangesSimulatedPositionOnly() {
+        EnemyPlane plane = new EnemyPlane(500, 100, new SplittableRandom(SEED));
+        plane.savePreviousPosition();
+        plane.updateActor(TICK);
+
+        assertEquals(494.0, plane.getPositionX());
+        assertEquals(500.0, plane.getLayoutX());
+    }
+
+    @Test
+    void renderPositionInterpolatesBetweenTicks() {
+        EnemyPlane plane = new EnemyPlane(500, 100, new SplittableRandom(SEED));
+        plane.savePreviousPosition();
+        plane.updateActor(TICK);
+
+        assertEquals(500.0, plane.getRenderX(0.0));
+        assertEquals(497.0, plane.getRenderX(0.5), 1e-9);
+        assertEquals(494.0, plane.getRenderX(1.0), 1e-9);
+        assertEquals(494.0, plane.getPositionX());
+        assertEquals(494.0, plane.getHitbox().getX());
+    }
+
+    @Test
+    void resetLeavesNothingToInterpolate() {
+        EnemyPlane plane = new EnemyPlane(100, 100, new SplittableRandom(SEED));
+        plane.savePreviousPosition();
+        plane.updateActor(TICK);
+
+        plane.resetPosition(20, 30);
+
+        assertEquals(20.0, plane.getRenderX(0.5));
+        assertEquals(20.0, plane.getPositionX());
+        assertEquals(30.0, plane.getPositionY());
+    }
+}
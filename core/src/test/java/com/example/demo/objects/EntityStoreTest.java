@@ -0,0 +1,102 @@
+package com.example.demo.objects;
+
+import com.example.demo.collision.Aabb;
+import com.example.demo.collision.Playfield;
+import com.example.demo.collision.SpatialHashGrid;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityStoreTest {
+
+    private static final double TICK = 0.03;
+
+    @Test
+    void integrateMovesByVelocity() {
+        EntityStore store = new EntityStore();
+        int id = ProjectileType.USER.spawn(store, 100, 50);
+        store.savePreviousPositions();
+        store.integrate(TICK);
+
+        assertEquals(115.0, store.getX(id), 1e-9);
+        assertEquals(50.0, store.getY(id));
+        assertEquals(107.5, store.getRenderX(id, 0.5), 1e-9);
+        assertEquals(115.0, store.getHitboxX(id), 1e-9);
+        assertEquals(145.0, store.getHitboxMaxX(id), 1e-9);
+        assertEquals(87.0, store.getHitboxMaxY(id), 1e-9);
+    }
+
+    @Test
+    void removeDestroyedKeepsSurvivorsInOrder() {
+        EntityStore store = new EntityStore();
+        for (int i = 0; i < 6; i++) {
+            ProjectileType.ENEMY.spawn(store, i, i);
+        }
+        store.destroy(1);
+        store.takeDamage(3);
+        store.destroy(4);
+
+        assertEquals(3, store.removeDestroyed());
+        assertEquals(3, store.size());
+        assertEquals(0.0, store.getX(0));
+        assertEquals(2.0, store.getX(1));
+        assertEquals(5.0, store.getX(2));
+        assertFalse(store.isDestroyed(2));
+    }
+
+    @Test
+    void destroyOutsideRetiresEntitiesPastTheMargin() {
+        EntityStore store = new EntityStore();
+        int inside = ProjectileType.USER.spawn(store, 500, 300);
+        int outside = ProjectileType.USER.spawn(store, 1400, 300);
+        store.destroyOutside(new Playfield(1300, 650, 50));
+
+        assertFalse(store.isDestroyed(inside));
+        assertTrue(store.isDestroyed(outside));
+    }
+
+    @Test
+    void growsAndReusesCapacity() {
+        EntityStore store = new EntityStore();
+        for (int i = 0; i < 1000; i++) {
+            ProjectileType.BOSS.spawn(store, i, 0);
+        }
+        int capacity = store.capacity();
+        assertEquals(999.0, store.getX(999));
+        assertEquals(ProjectileType.BOSS, ProjectileType.ofKind(store.getKind(999)));
+
+        store.clear();
+        for (int i = 0; i < 1000; i++) {
+            ProjectileType.BOSS.spawn(store, i, 0);
+        }
+        assertEquals(capacity, store.capacity());
+    }
+
+    @Test
+    void gridHitsAreDestroyedAndCompactedAway() {
+        EntityStore store = new EntityStore();
+        int hit = ProjectileType.USER.spawn(store, 500, 300);
+        int miss = ProjectileType.USER.spawn(store, 100, 100);
+        int alsoHit = ProjectileType.USER.spawn(store, 520, 310);
+        Aabb enemy = new Aabb(490, 290, 80, 60);
+        SpatialHashGrid grid = new SpatialHashGrid(128, 16);
+        for (int i = 0; i < store.size(); i++) {
+            grid.insert(i, store.getHitboxX(i), store.getHitboxY(i), store.getHitboxMaxX(i), store.getHitboxMaxY(i));
+        }
+
+        int candidates = grid.query(enemy.getX(), enemy.getY(), enemy.getMaxX(), enemy.getMaxY());
+        for (int c = 0; c < candidates; c++) {
+            int id = grid.getCandidate(c);
+            if (enemy.intersects(store.getHitboxX(id), store.getHitboxY(id), store.getHitboxMaxX(id), store.getHitboxMaxY(id))) {
+                store.destroy(id);
+            }
+        }
+
+        assertTrue(store.isDestroyed(hit));
+        assertTrue(store.isDestroyed(alsoHit));
+        assertFalse(store.isDestroyed(miss));
+        assertEquals(2, store.removeDestroyed());
+        assertEquals(1, store.size());
+        assertEquals(100.0, store.getX(0));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.profiling;
+
+import com.example.demo.levels.LevelOne;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightEventsTest {
+
+    private static final int TICKS = 300;
+
+    @Test
+    void eventsAreOnlyCreatedWhileARecordingWantsThem() {
+        assertNull(TickEvent.beginIfEnabled());
+        assertNull(CollisionPassEvent.beginIfEnabled());
+        assertFalse(SpawnEvent.isTypeEnabled());
+        assertFalse(FireEvent.isTypeEnabled());
+    }
+
+    @Test
+    void recordingGetsTicksCollisionPassesSpawnsAndShots() throws IOException {
+        Path file = Files.createTempFile("skybattle", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TickEvent.class);
+            recording.enable(CollisionPassEvent.class);
+            recording.enable(SpawnEvent.class);
+            recording.enable(FireEvent.class);
+            recording.start();
+            LevelOne level = new LevelOne(750, 1300, 9);
+            for (int tick = 0; tick < TICKS; tick++) {
+                if (tick % 10 == 0) {
+                    level.fireProjectile();
+                }
+                level.updateScene();
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        assertEquals(TICKS, count(events, "com.example.demo.Tick"));
+        assertEquals(3 * TICKS, count(events, "com.example.demo.CollisionPass"));
+        assertTrue(count(events, "com.example.demo.Spawn") > 0);
+        assertTrue(count(events, "com.example.demo.Fire") >= TICKS / 10);
+        RecordedEvent tick = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.demo.Tick"))
+                .findFirst().orElseThrow();
+        assertEquals(LevelOne.class.getName(), tick.getString("level"));
+        assertEquals(1, tick.getInt("friendlyUnits"));
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentilesAreWithinABucketOfTheTrueValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 10);
+        }
+
+        assertWithinBucket(500_000, histogram.getValueAtPercentile(50));
+        assertWithinBucket(990_000, histogram.getValueAtPercentile(99));
+        assertWithinBucket(999_000, histogram.getValueAtPercentile(99.9));
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(500_005, histogram.getMean(), 1e-6);
+    }
+
+    @Test
+    void tailShowsUpInHighPercentilesOnly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 999; i++) {
+            histogram.record(2_000);
+        }
+        histogram.record(40_000_000);
+
+        assertWithinBucket(2_000, histogram.getValueAtPercentile(50));
+        assertWithinBucket(2_000, histogram.getValueAtPercentile(99));
+        assertEquals(40_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(40_000_000, histogram.getMax());
+    }
+
+    @Test
+    void smallAndExtremeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getValueAtPercentile(1));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void resetForgetsSamples() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    private static void assertWithinBucket(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125, actual + " is not within a bucket of " + expected);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.profiling;
+
+import com.example.demo.levels.LevelOne;
+import com.example.demo.levels.TickPhase;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickProfilerTest {
+
+    @Test
+    void recordsEveryPhaseOfEveryTickWhileAttached() {
+        LevelOne level = new LevelOne(750, 1300, 5);
+        TickProfiler profiler = new TickProfiler();
+
+        profiler.attach(level);
+        for (int tick = 0; tick < 100; tick++) {
+            level.updateScene();
+        }
+        assertFalse(profiler.toggle(level));
+        for (int tick = 0; tick < 100; tick++) {
+            level.updateScene();
+        }
+
+        assertEquals(100, profiler.getTickHistogram().getCount());
+        for (TickPhase phase : TickPhase.values()) {
+            assertEquals(100, profiler.getHistogram(phase).getCount(), phase.name());
+        }
+        assertFalse(profiler.isAttached());
+    }
+
+    @Test
+    void printsAPercentileRowPerPhase() {
+        LevelOne level = new LevelOne(750, 1300, 5);
+        TickProfiler profiler = new TickProfiler();
+        profiler.attach(level);
+        level.updateScene();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        profiler.print("LevelOne", new PrintStream(out, true));
+
+        String table = out.toString();
+        assertTrue(table.startsWith("LevelOne: 1 ticks profiled"), table);
+        assertTrue(table.contains("p99.9"));
+        assertTrue(table.contains("USER_PROJECTILE_COLLISIONS"));
+        assertTrue(table.contains("TICK"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.replay;
+
+import com.example.demo.levels.InputCommand;
+import com.example.demo.levels.LevelBoss;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelState;
+import com.example.demo.levels.StateHash;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    private static final long SEED = 7;
+    private static final int TICKS = 4_000;
+
+    @Test
+    void playbackReproducesRecordedRun() throws Exception {
+        LevelBoss recorded = new LevelBoss(750, 1300, SEED);
+        ReplayRecorder recorder = new ReplayRecorder(recorded);
+        for (int tick = 0; tick < TICKS && recorded.getState() == LevelState.PLAYING; tick++) {
+            play(recorded, tick);
+            recorded.updateScene();
+        }
+
+        Replay replay = roundTrip(recorder.toReplay());
+        ReplayPlayer player = ReplayPlayer.of(replay);
+        player.playToEnd();
+        LevelParent replayed = player.getLevel();
+
+        assertEquals(LevelBoss.class.getName(), replay.getLevelClassName());
+        assertEquals(recorded.getTickCount(), replayed.getTickCount());
+        assertEquals(recorded.getState(), replayed.getState());
+        assertEquals(recorded.getUser().getHealth(), replayed.getUser().getHealth());
+        assertEquals(recorded.getUser().getNumberOfKills(), replayed.getUser().getNumberOfKills());
+        assertEquals(recorded.getUser().getPositionY(), replayed.getUser().getPositionY());
+        assertEquals(recorded.getEnemyProjectileCount(), replayed.getEnemyProjectileCount());
+        assertEquals(recorded.getUserProjectileCount(), replayed.getUserProjectileCount());
+    }
+
+    @Test
+    void playbackUsesTheRecordedTickLength() throws Exception {
+        LevelBoss recorded = new LevelBoss(750, 1300, SEED);
+        recorded.setSecondsPerTick(1 / 60.0);
+        ReplayRecorder recorder = new ReplayRecorder(recorded);
+        for (int tick = 0; tick < TICKS && recorded.getState() == LevelState.PLAYING; tick++) {
+            play(recorded, tick);
+            recorded.updateScene();
+        }
+
+        Replay replay = roundTrip(recorder.toReplay());
+        ReplayPlayer player = ReplayPlayer.of(replay);
+        player.playToEnd();
+        LevelParent replayed = player.getLevel();
+
+        assertEquals(1 / 60.0, replay.getSecondsPerTick());
+        assertEquals(recorded.getSecondsPerTick(), replayed.getSecondsPerTick());
+        assertEquals(recorded.getTickCount(), replayed.getTickCount());
+        assertEquals(recorded.getState(), replayed.getState());
+        assertEquals(recorded.getUser().getHealth(), replayed.getUser().getHealth());
+        assertEquals(recorded.getUser().getNumberOfKills(), replayed.getUser().getNumberOfKills());
+        assertEquals(recorded.getUser().getPositionY(), replayed.getUser().getPositionY());
+        StateHash recordedHash = new StateHash();
+        StateHash replayedHash = new StateHash();
+        recorded.hashState(recordedHash);
+        replayed.hashState(replayedHash);
+        assertEquals(recordedHash.getWorldHash(), replayedHash.getWorldHash());
+        assertEquals(recordedHash.getGlobalHash(), replayedHash.getGlobalHash());
+    }
+
+    @Test
+    void commandsTakeAboutTwoBytesEach() throws IOException {
+        LevelBoss level = new LevelBoss(750, 1300, SEED);
+        ReplayRecorder recorder = new ReplayRecorder(level);
+        for (int tick = 0; tick < 1_000; tick++) {
+            level.fireProjectile();
+            level.updateScene();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toReplay().write(out);
+
+        assertEquals(1_000, recorder.size());
+        assertTrue(out.size() < 100 + 2 * 1_000, "replay took " + out.size() + " bytes");
+    }
+
+    @Test
+    void pausedTicksAreNotCounted() throws IOException {
+        LevelBoss level = new LevelBoss(750, 1300, SEED);
+        ReplayRecorder recorder = new ReplayRecorder(level);
+        level.updateScene();
+        level.togglePause();
+        level.updateScene();
+        level.apply(InputCommand.TOGGLE_PAUSE);
+        level.updateScene();
+
+        Replay replay = roundTrip(recorder.toReplay());
+
+        assertEquals(2, replay.getTickCount());
+        assertEquals(2, replay.getEventCount());
+        assertEquals(1, replay.getTick(0));
+        assertEquals(1, replay.getTick(1));
+        assertEquals(InputCommand.TOGGLE_PAUSE, replay.getCommand(1));
+    }
+
+    @Test
+    void burstShotsAreNotRecordedAsCommands() {
+        LevelBoss level = new LevelBoss(750, 1300, SEED);
+        ReplayRecorder recorder = new ReplayRecorder(level);
+        level.shootBurst();
+        for (int tick = 0; tick < 20; tick++) {
+            level.updateScene();
+        }
+
+        assertEquals(1, recorder.size());
+        assertEquals(5, level.getUserProjectileCount());
+    }
+
+    @Test
+    void rejectsOtherFiles() {
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+    }
+
+    private static Replay roundTrip(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return Replay.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static void play(LevelParent level, int tick) {
+        switch (tick % 80) {
+            case 0 -> level.moveUserUp();
+            case 40 -> level.moveUserDown();
+            case 70 -> level.stopUser();
+            default -> {
+            }
+        }
+        if (tick % 3 == 0) {
+            level.fireProjectile();
+        }
+        if (tick % 500 == 250) {
+            level.togglePause();
+            level.togglePause();
+        }
+        if (level.isBurstReady()) {
+            level.shootBurst();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.replay;
+
+import com.example.demo.levels.LevelBoss;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelState;
+import com.example.demo.levels.StateHash;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateHashComparisonTest {
+
+    private static final long SEED = 11;
+    private static final int TICKS = 600;
+
+    @Test
+    void identicalRunsDoNotDiverge() throws IOException {
+        byte[] first = run(SEED, StateHashComparisonTest::play);
+        byte[] second = run(SEED, StateHashComparisonTest::play);
+
+        assertNull(compare(first, second));
+    }
+
+    @Test
+    void reportsFirstTickWhereInputDiffers() throws IOException {
+        byte[] first = run(SEED, StateHashComparisonTest::play);
+        byte[] second = run(SEED, (level, tick) -> {
+            if (tick == 110) {
+                level.moveUserDown();
+            }
+            play(level, tick);
+        });
+
+        StateHashComparison.Divergence divergence = compare(first, second);
+
+        assertNotNull(divergence);
+        assertEquals(111, divergence.tick());
+        assertTrue(divergence.description().startsWith("FRIENDLY_UNIT #0"), divergence.description());
+    }
+
+    @Test
+    void reportsShorterRun() throws IOException {
+        byte[] first = run(SEED, StateHashComparisonTest::play);
+        byte[] second = Arrays.copyOf(first, first.length - 1);
+
+        StateHashComparison.Divergence divergence = compare(first, second);
+
+        assertNotNull(divergence);
+        assertTrue(divergence.description().contains("ends here"), divergence.description());
+    }
+
+    @Test
+    void hashIgnoresNothingButTheTickItIsTakenOn() {
+        LevelBoss first = new LevelBoss(750, 1300, SEED);
+        LevelBoss second = new LevelBoss(750, 1300, SEED);
+        StateHash firstHash = new StateHash();
+        StateHash secondHash = new StateHash();
+
+        first.hashState(firstHash);
+        second.hashState(secondHash);
+        assertEquals(firstHash.getWorldHash(), secondHash.getWorldHash());
+
+        second.getUser().takeDamage();
+        second.hashState(secondHash);
+        assertEquals(firstHash.getGlobalHash(), secondHash.getGlobalHash());
+        assertNotEquals(firstHash.getEntityHash(0), secondHash.getEntityHash(0));
+        assertEquals(StateHash.Group.FRIENDLY_UNIT, secondHash.getEntityGroup(0));
+    }
+
+    private static byte[] run(long seed, ObjIntConsumer<LevelParent> player) throws IOException {
+        LevelBoss level = new LevelBoss(750, 1300, seed);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StateHashWriter hashes = new StateHashWriter(out)) {
+            for (int tick = 0; tick < TICKS && level.getState() == LevelState.PLAYING; tick++) {
+                player.accept(level, tick);
+                level.updateScene();
+                hashes.record(level);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static StateHashComparison.Divergence compare(byte[] first, byte[] second) throws IOException {
+        return StateHashComparison.compare(new ByteArrayInputStream(first), new ByteArrayInputStream(second));
+    }
+
+    private static void play(LevelParent level, int tick) {
+        if (tick % 50 == 0) {
+            level.moveUserUp();
+        } else if (tick % 50 == 25) {
+            level.stopUser();
+        }
+        if (tick % 4 == 0) {
+            level.fireProjectile();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.stress;
+
+import com.example.demo.levels.LevelTuning;
+import com.example.demo.levels.TickPhase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StressScenarioTest {
+
+    private static final long BUDGET_NANOS = 16_666_667;
+
+    @Test
+    void timesEveryPhaseOfEveryTick() throws ReflectiveOperationException {
+        StressReport report = new StressScenario("LevelOne", LevelTuning.DEFAULT, 500, 0.5, 1, BUDGET_NANOS).run();
+
+        assertEquals(500, report.getTicks());
+        for (TickPhase phase : TickPhase.values()) {
+            assertTrue(report.getPhaseNanos(phase) > 0, phase.name());
+        }
+        assertTrue(report.getSlowestTickNanos() > 0);
+    }
+
+    @Test
+    void overridesLoadTheLevelPastItsNormalNumbers() throws ReflectiveOperationException {
+        StressReport normal = new StressScenario("LevelOne", LevelTuning.DEFAULT, 300, 0, 1, BUDGET_NANOS).run();
+        LevelTuning tuning = LevelTuning.DEFAULT.withTotalEnemies(100).withEnemyFireRate(0.2);
+        StressReport loaded = new StressScenario("LevelOne", tuning, 300, 0, 1, BUDGET_NANOS).run();
+
+        assertTrue(loaded.getMostActors() > 10 * normal.getMostActors(),
+                loaded.getMostActors() + " actors against " + normal.getMostActors());
+    }
+
+    @Test
+    void levelThatEndsIsStartedAgain() throws ReflectiveOperationException {
+        LevelTuning tuning = LevelTuning.DEFAULT.withTotalEnemies(50).withEnemyFireRate(1);
+        StressReport report = new StressScenario("com.example.demo.levels.LevelTwo", tuning, 2_000, 0, 1, BUDGET_NANOS).run();
+
+        assertEquals(2_000, report.getTicks());
+        assertTrue(report.getRestarts() > 0);
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * The Controller class manages the flow of the game, including transitioning between levels and handling updates
+ * from observed objects. It utilizes JavaFX for managing the UI and leverages reflection to dynamically load levels.
+ */
+package com.example.demo.controller;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.util.Observable;
+import java.util.Observer;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.stage.Stage;
+import com.example.demo.diagnostics.FrameBudgetTracker;
+import com.example.demo.diagnostics.StallWatchdog;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.metrics.GameMetrics;
+import com.example.demo.metrics.MetricsServer;
+import com.example.demo.replay.Replay;
+import com.example.demo.screens.LevelScreen;
+
+/**
+ * Controller class to manage game execution, level transitions, and UI interaction.
+ */
+public class Controller implements Observer {
+
+	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.levels.LevelOne"; // The class name for Level One.
+	private static final String REPLAY_PROPERTY = "skybattle.replay"; // System property naming a replay file to play.
+	private static final String METRICS_PORT_PROPERTY = "skybattle.metricsPort"; // System property naming the localhost port metrics are served on.
+	private static final String STALL_DEADLINE_PROPERTY = "skybattle.stallDeadlineMs"; // System property naming how long the FX thread may go without a frame before a stall is recorded.
+	private static final String STALL_DUMP_PROPERTY = "skybattle.stallDump"; // System property naming the file recorded stalls are written to.
+	private static final String DEFAULT_STALL_DUMP = "skybattle-stalls.txt"; // The file recorded stalls are written to by default.
+	private static final int KEPT_STALLS = 16; // How many of the most recent stalls are kept in the dump.
+	private static final String FRAME_BUDGET_PROPERTY = "skybattle.frameBudgetMs"; // System property naming the frame budget slow frames are attributed against.
+	private final Stage stage; // The JavaFX stage used to display the game.
+	private final long seed; // The seed of the first level's random generator.
+	private GameMetrics metrics; // The session's live metrics, or null unless they are served.
+	private StallWatchdog watchdog; // The session's FX-thread stall watchdog, or null unless stalls are watched for.
+	private FrameBudgetTracker budgetTracker; // The session's frame budget tracker, or null unless frames are tracked.
+
+	/**
+	 * Constructs a Controller with the specified stage.
+	 *
+	 * @param stage the primary stage for the application
+	 * @param seed  the seed of the first level's random generator; later levels are seeded from it
+	 */
+	public Controller(Stage stage, long seed) {
+		this.stage = stage;
+		this.seed = seed;
+	}
+
+	/**
+	 * Launches the game by initializing and displaying the first level. If the {@code skybattle.replay}
+	 * system property names a replay file, the replay is played back instead.
+	 *
+	 * @throws ClassNotFoundException       if the specified level class cannot be found
+	 * @throws NoSuchMethodException        if the required constructor is not found
+	 * @throws SecurityException            if there is a security violation during reflection
+	 * @throws InstantiationException       if the class cannot be instantiated
+	 * @throws IllegalAccessException       if the constructor is inaccessible
+	 * @throws IllegalArgumentException     if the constructor arguments are invalid
+	 * @throws InvocationTargetException    if the constructor invocation causes an exception
+	 */
+	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
+			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		stage.show();
+		startMetricsServer();
+		startStallWatchdog();
+		startFrameBudgetTracker();
+		String replayFile = System.getProperty(REPLAY_PROPERTY);
+		if (replayFile != null) {
+			try {
+				showScreen(LevelScreen.forReplay(Replay.read(Path.of(replayFile))));
+				return;
+			} catch (IOException | ReflectiveOperationException e) {
+				System.out.println("Error loading replay " + replayFile + ": " + e + ". Starting a new game.");
+			}
+		}
+		goToLevel(LEVEL_ONE_CLASS_NAME, seed);
+	}
+
+	/**
+	 * Transitions to a specific level by dynamically loading its class and showing it on a {@link LevelScreen}.
+	 *
+	 * @param className the fully qualified class name of the level
+	 * @param levelSeed the seed of the level's random generator
+	 * @throws ClassNotFoundException       if the specified level class cannot be found
+	 * @throws NoSuchMethodException        if the required constructor is not found
+	 * @throws SecurityException            if there is a security violation during reflection
+	 * @throws InstantiationException       if the class cannot be instantiated
+	 * @throws IllegalAccessException       if the constructor is inaccessible
+	 * @throws IllegalArgumentException     if the constructor arguments are invalid
+	 * @throws InvocationTargetException    if the constructor invocation causes an exception
+	 */
+	private void goToLevel(String className, long levelSeed) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
+			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		Class<?> myClass = Class.forName(className);
+		Constructor<?> constructor = myClass.getConstructor(double.class, double.class, long.class);
+		LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), levelSeed);
+		myLevel.addObserver(this);
+		showScreen(new LevelScreen(myLevel));
+	}
+
+	/**
+	 * Serves the session's live metrics in the Prometheus text format on localhost, if the
+	 * {@code skybattle.metricsPort} system property names a port. The game runs on without them if
+	 * the port cannot be bound.
+	 */
+	private void startMetricsServer() {
+		String port = System.getProperty(METRICS_PORT_PROPERTY);
+		if (port == null) {
+			return;
+		}
+		try {
+			GameMetrics sessionMetrics = new GameMetrics();
+			MetricsServer server = MetricsServer.start(sessionMetrics, Integer.parseInt(port));
+			metrics = sessionMetrics;
+			System.out.println("Serving metrics at http://localhost:" + server.getPort() + MetricsServer.PATH);
+		} catch (IOException | NumberFormatException e) {
+			System.out.println("Error starting metrics server on port " + port + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Watches the JavaFX application thread for frames that miss the deadline named by the
+	 * {@code skybattle.stallDeadlineMs} system property, if it is set. The stacks of the last stalls are
+	 * written to the file named by {@code skybattle.stallDump}, or to {@code skybattle-stalls.txt}.
+	 */
+	private void startStallWatchdog() {
+		String deadline = System.getProperty(STALL_DEADLINE_PROPERTY);
+		if (deadline == null) {
+			return;
+		}
+		try {
+			Path dumpFile = Path.of(System.getProperty(STALL_DUMP_PROPERTY, DEFAULT_STALL_DUMP));
+			watchdog = StallWatchdog.start(Thread.currentThread(), Long.parseLong(deadline), KEPT_STALLS, dumpFile);
+			System.out.println("Writing FX thread stalls over " + deadline + " ms to " + dumpFile.toAbsolutePath());
+		} catch (IllegalArgumentException e) {
+			System.out.println("Invalid stall deadline " + deadline + ". Stalls are not watched for.");
+		}
+	}
+
+	/**
+	 * Counts the frames that run over the budget named by the {@code skybattle.frameBudgetMs} system
+	 * property, if it is set, and prints what they are attributed to when the game exits.
+	 */
+	private void startFrameBudgetTracker() {
+		String budget = System.getProperty(FRAME_BUDGET_PROPERTY);
+		if (budget == null) {
+			return;
+		}
+		try {
+			FrameBudgetTracker tracker = new FrameBudgetTracker(Double.parseDouble(budget));
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> tracker.print(System.out), "frame-budget-report"));
+			budgetTracker = tracker;
+		} catch (IllegalArgumentException e) {
+			System.out.println("Invalid frame budget " + budget + ". Frames are not tracked.");
+		}
+	}
+
+	/**
+	 * Shows a level screen on the stage and starts its game loop.
+	 *
+	 * @param screen the screen to show
+	 */
+	private void showScreen(LevelScreen screen) {
+		screen.setMetrics(metrics);
+		screen.setStallWatchdog(watchdog);
+		screen.setFrameBudgetTracker(budgetTracker);
+		Scene scene = screen.initializeScene();
+		stage.setScene(scene);
+		screen.startGame();
+	}
+
+	/**
+	 * Handles updates from observed objects, typically for transitioning to a new level.
+	 *
+	 * @param observable the observed level that triggered the update, which seeds the next level
+	 * @param arg        additional data passed with the update, expected to be the class name of the next level
+	 */
+	@Override
+	public void update(Observable observable, Object arg) {
+		try {
+			goToLevel((String) arg, ((LevelParent) observable).getNextLevelSeed());
+		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
+				 | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			Alert alert = new Alert(AlertType.ERROR);
+			alert.setContentText(e.getClass().toString());
+			alert.show();
+		}
+	}
+}
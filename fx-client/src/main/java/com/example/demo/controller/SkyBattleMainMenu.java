@@ -5,6 +5,9 @@
  */
 package com.example.demo.controller;
 
+import com.example.demo.display.ImageCache;
+import com.example.demo.display.TextureAtlas;
+import com.example.demo.levels.LevelParent;
 import javafx.application.Application;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Scene;
@@ -17,12 +20,15 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 import javafx.animation.PauseTransition;
 
+import java.io.IOException;
+
 /**
  * The SkyBattleMainMenu class provides a graphical user interface (GUI) for the main menu of the game.
  */
 public class SkyBattleMainMenu extends Application {
 
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/mainmenu.jpg"; // Path to the background image.
+    private static final String SEED_PARAMETER = "seed"; // Command line option (--seed=N) fixing the game's random seed.
 
     /**
      * Starts the JavaFX application and initializes the main menu.
@@ -36,8 +42,9 @@ public class SkyBattleMainMenu extends Application {
         double screenWidth = 1300;
         double screenHeight = 650;
         primaryStage.setResizable(false);
+        installTextureAtlas();
 
-        Image backgroundImage = new Image(getClass().getResource(BACKGROUND_IMAGE_NAME).toExternalForm());
+        Image backgroundImage = ImageCache.get(BACKGROUND_IMAGE_NAME);
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(screenWidth);
         backgroundView.setFitHeight(screenHeight);
@@ -93,7 +100,7 @@ public class SkyBattleMainMenu extends Application {
                     Duration.seconds(3),
                     () -> {
                         try {
-                            Controller controller = new Controller(primaryStage);
+                            Controller controller = new Controller(primaryStage, gameSeed());
                             controller.launchGame();
                         } catch (Exception e) {
                             e.printStackTrace();
@@ -105,13 +112,33 @@ public class SkyBattleMainMenu extends Application {
         }
     }
 
+    /**
+     * Returns the seed for a new game: the one given on the command line with {@code --seed=N},
+     * or a fresh one. The seed is printed so any game can be reproduced.
+     *
+     * @return the seed of the first level's random generator
+     */
+    private long gameSeed() {
+        long seed = LevelParent.randomSeed();
+        String value = getParameters().getNamed().get(SEED_PARAMETER);
+        if (value != null) {
+            try {
+                seed = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid seed " + value + ". Using a random seed.");
+            }
+        }
+        System.out.println("Seed: " + seed);
+        return seed;
+    }
+
     /**
      * Displays the instructions screen with an option to return to the main menu.
      *
      * @param primaryStage the primary stage of the application
      */
     private void showInstructions(Stage primaryStage) {
-        Image instructionImage = new Image(getClass().getResource("/com/example/demo/images/Instruction.jpg").toExternalForm());
+        Image instructionImage = ImageCache.get("/com/example/demo/images/Instruction.jpg");
         ImageView instructionView = new ImageView(instructionImage);
         instructionView.setFitWidth(primaryStage.getWidth());
         instructionView.setFitHeight(primaryStage.getHeight());
@@ -163,7 +190,7 @@ public class SkyBattleMainMenu extends Application {
      * @param onComplete the action to perform after the transition completes
      */
     private void showTransitionScreen(Stage stage, String imagePath, Duration duration, Runnable onComplete) {
-        ImageView transitionImage = new ImageView(new Image(getClass().getResource(imagePath).toExternalForm()));
+        ImageView transitionImage = new ImageView(ImageCache.get(imagePath));
         transitionImage.setFitWidth(stage.getWidth());
         transitionImage.setFitHeight(stage.getHeight());
         transitionImage.setPreserveRatio(false);
@@ -178,4 +205,16 @@ public class SkyBattleMainMenu extends Application {
         pause.setOnFinished(e -> onComplete.run());
         pause.play();
     }
+
+    /**
+     * Loads the sprite texture atlas, packing and caching it on the first launch.
+     * If the atlas cannot be built, actors fall back to standalone sprite images.
+     */
+    private static void installTextureAtlas() {
+        try {
+            TextureAtlas.install(TextureAtlas.load(TextureAtlas.defaultCacheDirectory()));
+        } catch (IOException e) {
+            System.out.println("Error loading texture atlas: " + e.getMessage() + ". Using standalone sprites.");
+        }
+    }
 }
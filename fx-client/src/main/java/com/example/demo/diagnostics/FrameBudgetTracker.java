@@ -0,0 +1,236 @@
+package com.example.demo.diagnostics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.Closeable;
+import java.io.PrintStream;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the frames whose ticks or rendering ran over a time budget, and attributes each of them
+ * to what most likely caused it: a garbage collection pause during the frame, JIT compilation
+ * during the frame, the loading of a level, or, when none of those apply, the game's own code.
+ * <p>
+ * The tracker subscribes to the collectors' notifications to total up the session's pauses. A
+ * frame is attributed to the collector when a pausing collector's count went up while it ran; the
+ * notifications arrive later on a JMX thread, and their timestamps are on a clock of their own.
+ * Collectors that run alongside the game, such as G1's concurrent cycle, do not pause it and are
+ * ignored. The JVM does not report deoptimizations through its management beans; a frame during
+ * which the compiler threads spent at least a millisecond is counted as a JIT miss instead.
+ * <p>
+ * Frames are counted on the JavaFX application thread; the report may be printed from any thread.
+ */
+public final class FrameBudgetTracker implements Closeable {
+
+	/** What a frame over budget is attributed to, in order of precedence. */
+	public enum MissCause {
+		GC_PAUSE("GC pause"),
+		JIT_COMPILATION("JIT compilation"),
+		LEVEL_TRANSITION("Level transition"),
+		GAME_CODE("Game code");
+
+		private final String label;
+
+		MissCause(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * Returns the name of the cause as shown in the report.
+		 *
+		 * @return the label
+		 */
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+	private final long budgetNanos;
+	private final CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+	private final boolean compilationTimed = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+	private final List<GarbageCollectorMXBean> pausingCollectors = new ArrayList<>();
+	private final List<NotificationEmitter> emitters = new ArrayList<>();
+	private final NotificationListener listener = this::handleNotification;
+
+	private final int[] misses = new int[MissCause.values().length];
+	private long frames;
+	private long collectionsAtStart;
+	private long compilationMillisAtStart;
+	private boolean loading;
+
+	/** The session's pauses, as reported by the collectors; guarded by the listener. */
+	private int pauseCount;
+	private long pauseMillis;
+	private long longestPauseMillis;
+
+	/**
+	 * Constructs a tracker and subscribes it to the notifications of every pausing collector.
+	 *
+	 * @param budgetMillis how long a frame's ticks, or its rendering, may take
+	 * @throws IllegalArgumentException if the budget is not positive
+	 */
+	public FrameBudgetTracker(double budgetMillis) {
+		if (!(budgetMillis > 0)) {
+			throw new IllegalArgumentException("Frame budget must be positive");
+		}
+		this.budgetNanos = (long) (budgetMillis * NANOS_PER_MILLISECOND);
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if (runsAlongsideGame(collector.getName())) {
+				continue;
+			}
+			pausingCollectors.add(collector);
+			if (collector instanceof NotificationEmitter emitter) {
+				emitter.addNotificationListener(listener, null, null);
+				emitters.add(emitter);
+			}
+		}
+	}
+
+	/**
+	 * Marks the start of a frame, before its ticks run.
+	 */
+	public void frameStarted() {
+		collectionsAtStart = collections();
+		if (compilationTimed) {
+			compilationMillisAtStart = compiler.getTotalCompilationTime();
+		}
+	}
+
+	/**
+	 * Marks the end of a frame, and attributes it to a cause if its ticks or its rendering ran over budget.
+	 *
+	 * @param tickNanos   how long the frame's ticks took, in nanoseconds
+	 * @param renderNanos how long the frame's rendering took, in nanoseconds
+	 */
+	public synchronized void frameEnded(long tickNanos, long renderNanos) {
+		frames++;
+		if (tickNanos > budgetNanos || renderNanos > budgetNanos) {
+			misses[attributeMiss().ordinal()]++;
+		}
+		loading = false;
+	}
+
+	/**
+	 * Marks the loading of a level. The first frame after it counts as part of the transition.
+	 */
+	public void levelLoading() {
+		loading = true;
+	}
+
+	/**
+	 * Returns how many frames have been counted.
+	 *
+	 * @return the number of frames
+	 */
+	public synchronized long getFrames() {
+		return frames;
+	}
+
+	/**
+	 * Returns how many collector pauses have been reported so far.
+	 *
+	 * @return the number of pauses
+	 */
+	public int getPauseCount() {
+		synchronized (listener) {
+			return pauseCount;
+		}
+	}
+
+	/**
+	 * Returns the number of frames over budget per cause.
+	 *
+	 * @return the misses per cause, in order of precedence
+	 */
+	public synchronized Map<MissCause, Integer> getMisses() {
+		Map<MissCause, Integer> counts = new EnumMap<>(MissCause.class);
+		for (MissCause cause : MissCause.values()) {
+			counts.put(cause, misses[cause.ordinal()]);
+		}
+		return counts;
+	}
+
+	/**
+	 * Prints how many frames ran over budget, what they are attributed to and how long the
+	 * collectors paused the game for.
+	 *
+	 * @param out the stream to print to
+	 */
+	public synchronized void print(PrintStream out) {
+		int total = Arrays.stream(misses).sum();
+		out.printf("Frame budget %.1f ms: %d of %d frames over budget%n",
+				budgetNanos / NANOS_PER_MILLISECOND, total, frames);
+		for (MissCause cause : MissCause.values()) {
+			int count = misses[cause.ordinal()];
+			double share = total == 0 ? 0 : 100.0 * count / total;
+			out.printf("  %-17s %6d  %5.1f%%%n", cause.getLabel(), count, share);
+		}
+		synchronized (listener) {
+			out.printf("GC pauses: %d, %d ms in total, longest %d ms%n", pauseCount, pauseMillis, longestPauseMillis);
+		}
+	}
+
+	/**
+	 * Unsubscribes from the collectors' notifications.
+	 */
+	@Override
+	public void close() {
+		for (NotificationEmitter emitter : emitters) {
+			try {
+				emitter.removeNotificationListener(listener);
+			} catch (ListenerNotFoundException e) {
+				// Already removed.
+			}
+		}
+		emitters.clear();
+	}
+
+	private MissCause attributeMiss() {
+		if (collections() > collectionsAtStart) {
+			return MissCause.GC_PAUSE;
+		}
+		if (compilationTimed && compiler.getTotalCompilationTime() > compilationMillisAtStart) {
+			return MissCause.JIT_COMPILATION;
+		}
+		return loading ? MissCause.LEVEL_TRANSITION : MissCause.GAME_CODE;
+	}
+
+	private long collections() {
+		long count = 0;
+		for (GarbageCollectorMXBean collector : pausingCollectors) {
+			count += Math.max(0, collector.getCollectionCount());
+		}
+		return count;
+	}
+
+	private void handleNotification(Notification notification, Object handback) {
+		if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+			return;
+		}
+		GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+		long duration = info.getGcInfo().getDuration();
+		synchronized (listener) {
+			pauseCount++;
+			pauseMillis += duration;
+			longestPauseMillis = Math.max(longestPauseMillis, duration);
+		}
+	}
+
+	private static boolean runsAlongsideGame(String collectorName) {
+		return collectorName.contains("Concurrent") || collectorName.contains("Cycles");
+	}
+}
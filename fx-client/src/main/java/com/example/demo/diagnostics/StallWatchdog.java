@@ -0,0 +1,285 @@
+package com.example.demo.diagnostics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Watches a thread, normally the JavaFX application thread, for stalls. The watched thread calls
+ * {@link #beat()} at the start of every frame and while loading a level, and {@link #idle()} when it
+ * stops doing timed work, such as while the game is paused. When the last beat is older than the
+ * deadline, a daemon thread captures the watched thread's stack through the {@link ThreadMXBean}
+ * while it is still stuck; once the thread beats again, the stall's full length is known and it is
+ * kept, with the stack and the tick timings that led up to it, in a ring buffer of the last stalls.
+ * The ring buffer is written to the dump file after every stall.
+ * <p>
+ * The watched thread only writes a few fields per beat and per tick; all capturing, formatting and
+ * writing happens on the watchdog's own thread.
+ */
+public final class StallWatchdog implements Closeable {
+
+	/** How many of the most recent tick timings are kept and shown with each stall. */
+	public static final int RECENT_TICKS = 32;
+
+	/** How many times per deadline the watchdog checks the last beat. */
+	private static final int CHECKS_PER_DEADLINE = 4;
+
+	private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+	/**
+	 * One stall of the watched thread.
+	 *
+	 * @param startedAt          when the stall began
+	 * @param stalledNanos       how long the thread went without a beat
+	 * @param recentTickNanos    the durations of the ticks before the stall, oldest first
+	 * @param stack              the watched thread's stack, captured while it was stalled
+	 */
+	public record Stall(Instant startedAt, long stalledNanos, long[] recentTickNanos, String stack) {
+	}
+
+	private final Thread watched;
+	private final long deadlineNanos;
+	private final Path dumpFile;
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+	private final Thread checker;
+
+	/** The last stalls, oldest first once the buffer has wrapped; guarded by itself. */
+	private final Stall[] stalls;
+	private int stallCount;
+
+	/** The last tick durations, written by the watched thread only. */
+	private final long[] tickNanos = new long[RECENT_TICKS];
+	private volatile int ticksRecorded;
+
+	private volatile long lastBeatNanos;
+	private volatile boolean armed;
+
+	/** The stall being measured, owned by the watchdog thread. */
+	private long pendingBeatNanos;
+	private Instant pendingStartedAt;
+	private long[] pendingTicks;
+	private String pendingStack;
+
+	private volatile boolean closed;
+
+	private StallWatchdog(Thread watched, long deadlineMillis, int capacity, Path dumpFile) {
+		if (deadlineMillis <= 0 || capacity <= 0) {
+			throw new IllegalArgumentException("Deadline and capacity must be positive");
+		}
+		this.watched = watched;
+		this.deadlineNanos = deadlineMillis * 1_000_000;
+		this.dumpFile = dumpFile;
+		this.stalls = new Stall[capacity];
+		this.checker = new Thread(this::watch, "stall-watchdog");
+		this.checker.setDaemon(true);
+	}
+
+	/**
+	 * Starts watching a thread. The watchdog stays idle until the thread's first beat.
+	 *
+	 * @param watched        the thread to watch
+	 * @param deadlineMillis how long the thread may go without a beat before it counts as stalled
+	 * @param capacity       how many of the most recent stalls are kept
+	 * @param dumpFile       the file the kept stalls are written to after every stall, or {@code null} to keep them in memory only
+	 * @return the running watchdog
+	 * @throws IllegalArgumentException if the deadline or the capacity is not positive
+	 */
+	public static StallWatchdog start(Thread watched, long deadlineMillis, int capacity, Path dumpFile) {
+		StallWatchdog watchdog = new StallWatchdog(watched, deadlineMillis, capacity, dumpFile);
+		watchdog.checker.start();
+		return watchdog;
+	}
+
+	/**
+	 * Marks the watched thread as alive and doing timed work. Called by the watched thread.
+	 */
+	public void beat() {
+		lastBeatNanos = System.nanoTime();
+		armed = true;
+	}
+
+	/**
+	 * Marks the watched thread as waiting on purpose, so it is not counted as stalled until its next
+	 * beat. A stall in progress ends here. Called by the watched thread.
+	 */
+	public void idle() {
+		armed = false;
+		lastBeatNanos = System.nanoTime();
+	}
+
+	/**
+	 * Records the duration of a tick. Called by the watched thread.
+	 *
+	 * @param nanos how long the tick took, in nanoseconds
+	 */
+	public void tickTimed(long nanos) {
+		int recorded = ticksRecorded;
+		tickNanos[recorded % RECENT_TICKS] = nanos;
+		ticksRecorded = recorded + 1;
+	}
+
+	/**
+	 * Returns the kept stalls, oldest first.
+	 *
+	 * @return a copy of the stall ring buffer
+	 */
+	public List<Stall> getStalls() {
+		synchronized (stalls) {
+			int kept = Math.min(stallCount, stalls.length);
+			List<Stall> copy = new ArrayList<>(kept);
+			for (int i = stallCount - kept; i < stallCount; i++) {
+				copy.add(stalls[i % stalls.length]);
+			}
+			return copy;
+		}
+	}
+
+	/**
+	 * Returns how many stalls have been seen, including those no longer kept.
+	 *
+	 * @return the number of stalls
+	 */
+	public int getStallCount() {
+		synchronized (stalls) {
+			return stallCount;
+		}
+	}
+
+	/**
+	 * Writes the kept stalls to a file as text, replacing its contents. The file is written beside
+	 * its final name and moved into place, so a reader never sees half a dump.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public void dump(Path file) throws IOException {
+		StringBuilder out = new StringBuilder();
+		List<Stall> kept;
+		int number;
+		synchronized (stalls) {
+			kept = getStalls();
+			number = stallCount - kept.size();
+		}
+		for (Stall stall : kept) {
+			appendStall(out, ++number, stall);
+		}
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path partial = file.resolveSibling(file.getFileName() + ".partial");
+		Files.writeString(partial, out);
+		Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Stops watching. A stall in progress is dropped.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		checker.interrupt();
+	}
+
+	private void watch() {
+		long checkMillis = Math.max(1, deadlineNanos / CHECKS_PER_DEADLINE / 1_000_000);
+		while (!closed) {
+			try {
+				Thread.sleep(checkMillis);
+			} catch (InterruptedException e) {
+				return;
+			}
+			check();
+		}
+	}
+
+	/**
+	 * Captures the watched thread's stack when it has just missed the deadline, and keeps the stall
+	 * once the thread has beaten or gone idle again.
+	 */
+	private void check() {
+		long beat = lastBeatNanos;
+		if (pendingStack != null) {
+			if (beat != pendingBeatNanos) {
+				keep(new Stall(pendingStartedAt, beat - pendingBeatNanos, pendingTicks, pendingStack));
+				pendingStack = null;
+			}
+			return;
+		}
+		long sinceBeat = System.nanoTime() - beat;
+		if (armed && sinceBeat > deadlineNanos) {
+			pendingBeatNanos = beat;
+			pendingStartedAt = Instant.now().minusNanos(sinceBeat);
+			pendingTicks = recentTicks();
+			pendingStack = captureStack();
+		}
+	}
+
+	private long[] recentTicks() {
+		int recorded = ticksRecorded;
+		int kept = Math.min(recorded, RECENT_TICKS);
+		long[] recent = new long[kept];
+		for (int i = 0; i < kept; i++) {
+			recent[i] = tickNanos[(recorded - kept + i) % RECENT_TICKS];
+		}
+		return recent;
+	}
+
+	private String captureStack() {
+		ThreadInfo info = threads.getThreadInfo(watched.threadId(), Integer.MAX_VALUE);
+		if (info == null) {
+			return "\"" + watched.getName() + "\" has terminated\n";
+		}
+		StringBuilder stack = new StringBuilder();
+		stack.append('"').append(info.getThreadName()).append("\" ").append(info.getThreadState());
+		if (info.getLockName() != null) {
+			stack.append(" on ").append(info.getLockName());
+			if (info.getLockOwnerName() != null) {
+				stack.append(" owned by \"").append(info.getLockOwnerName()).append('"');
+			}
+		}
+		stack.append('\n');
+		for (StackTraceElement frame : info.getStackTrace()) {
+			stack.append("\tat ").append(frame).append('\n');
+		}
+		return stack.toString();
+	}
+
+	private void keep(Stall stall) {
+		synchronized (stalls) {
+			stalls[stallCount % stalls.length] = stall;
+			stallCount++;
+		}
+		if (dumpFile == null) {
+			return;
+		}
+		try {
+			dump(dumpFile);
+		} catch (IOException e) {
+			System.out.println("Error writing stall dump: " + e.getMessage());
+		}
+	}
+
+	private void appendStall(StringBuilder out, int number, Stall stall) {
+		out.append("Stall ").append(number).append(" at ").append(stall.startedAt())
+				.append(": no beat for ").append(formatMillis(stall.stalledNanos()))
+				.append(" (deadline ").append(formatMillis(deadlineNanos)).append(")\n");
+		out.append("Recent ticks (ms):");
+		for (long nanos : stall.recentTickNanos()) {
+			out.append(' ').append(String.format("%.2f", nanos / NANOS_PER_MILLISECOND));
+		}
+		out.append('\n').append(stall.stack()).append('\n');
+	}
+
+	private static String formatMillis(long nanos) {
+		return String.format("%.1f ms", nanos / NANOS_PER_MILLISECOND);
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.demo.display;
+
+import com.example.demo.objects.ActiveActor;
+import javafx.scene.image.ImageView;
+
+/**
+ * Shows one simulated actor on screen. The actor itself is pure simulation state; the sprite
+ * places its image where the actor is drawn, interpolated between the actor's last two ticks
+ * by {@link #render(double)}, and can also queue it into a {@link SpriteBatch}.
+ */
+public class ActorSprite extends ImageView {
+
+	/** The actor this sprite shows. */
+	private final ActiveActor actor;
+
+	/**
+	 * Constructs a sprite for an actor. The image comes from the installed {@link TextureAtlas}
+	 * when there is one, and otherwise from {@link ImageCache}, so it is only decoded once per
+	 * sprite either way. The sprite is attached to the actor as its view and keeps the actor as
+	 * its user data, so a client can find the sprite again from the actor.
+	 *
+	 * @param actor the actor to show
+	 */
+	public ActorSprite(ActiveActor actor) {
+		this.actor = actor;
+		TextureAtlas.showSprite(this, actor.getImagePath());
+		this.setFitHeight(actor.getImageHeight());
+		this.setPreserveRatio(true);
+		this.setUserData(actor);
+		actor.setView(this);
+	}
+
+	/**
+	 * Returns the actor this sprite shows.
+	 *
+	 * @return the actor
+	 */
+	public ActiveActor getActor() {
+		return actor;
+	}
+
+	/**
+	 * Moves the sprite to where the actor is drawn, between its previous and current simulated
+	 * positions. The simulated position is left untouched.
+	 *
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 */
+	public void render(double alpha) {
+		double layoutX = actor.getLayoutX();
+		double layoutY = actor.getLayoutY();
+		setLayoutX(layoutX);
+		setLayoutY(layoutY);
+		setTranslateX(actor.getRenderX(alpha) - layoutX);
+		setTranslateY(actor.getRenderY(alpha) - layoutY);
+	}
+
+	/**
+	 * Queues the sprite where the last {@link #render(double)} placed it, at the size
+	 * its node would be shown at. Used when actors are drawn into canvas layers
+	 * instead of being added to the scene graph.
+	 *
+	 * @param batch the layer to draw into
+	 */
+	public void draw(SpriteBatch batch) {
+		batch.add(this);
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.demo.display;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs rectangular sprites into one atlas using shelves.
+ * Sprites are placed tallest first, left to right along a shelf, and a new shelf is opened
+ * below the previous one once a sprite no longer fits the atlas width. Every sprite is
+ * surrounded by padding so filtering never samples a neighbour.
+ */
+public class AtlasPacker {
+
+	/** The maximum width of the atlas. */
+	private final int maxWidth;
+
+	/** The empty border kept around every sprite. */
+	private final int padding;
+
+	/** The sprites to pack, in insertion order. */
+	private final List<Sprite> sprites = new ArrayList<>();
+
+	/** The width of the last packed atlas. */
+	private int width;
+
+	/** The height of the last packed atlas. */
+	private int height;
+
+	/**
+	 * Constructs an empty AtlasPacker.
+	 *
+	 * @param maxWidth the maximum width of the atlas
+	 * @param padding  the empty border kept around every sprite
+	 */
+	public AtlasPacker(int maxWidth, int padding) {
+		if (padding < 0) {
+			throw new IllegalArgumentException("padding must not be negative: " + padding);
+		}
+		this.maxWidth = maxWidth;
+		this.padding = padding;
+	}
+
+	/**
+	 * Adds a sprite to be packed.
+	 *
+	 * @param name   the sprite name
+	 * @param width  the sprite width in pixels
+	 * @param height the sprite height in pixels
+	 */
+	public void add(String name, int width, int height) {
+		if (width + 2 * padding > maxWidth) {
+			throw new IllegalArgumentException(name + " is wider than the atlas: " + width);
+		}
+		sprites.add(new Sprite(name, width, height));
+	}
+
+	/**
+	 * Places every added sprite.
+	 *
+	 * @return the region of each sprite, in the order the sprites were added
+	 */
+	public Map<String, AtlasRegion> pack() {
+		List<Sprite> order = new ArrayList<>(sprites);
+		order.sort(Comparator.comparingInt(Sprite::height).reversed());
+
+		Map<String, AtlasRegion> placed = new LinkedHashMap<>();
+		int shelfX = 0;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		width = 0;
+		for (Sprite sprite : order) {
+			int paddedWidth = sprite.width() + 2 * padding;
+			if (shelfX + paddedWidth > maxWidth) {
+				shelfY += shelfHeight;
+				shelfX = 0;
+				shelfHeight = 0;
+			}
+			placed.put(sprite.name(), new AtlasRegion(shelfX + padding, shelfY + padding, sprite.width(), sprite.height()));
+			shelfX += paddedWidth;
+			shelfHeight = Math.max(shelfHeight, sprite.height() + 2 * padding);
+			width = Math.max(width, shelfX);
+		}
+		height = shelfY + shelfHeight;
+
+		Map<String, AtlasRegion> regions = new LinkedHashMap<>();
+		for (Sprite sprite : sprites) {
+			regions.put(sprite.name(), placed.get(sprite.name()));
+		}
+		return regions;
+	}
+
+	/**
+	 * Returns the width of the last packed atlas.
+	 *
+	 * @return the atlas width in pixels
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the last packed atlas.
+	 *
+	 * @return the atlas height in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * A sprite waiting to be packed.
+	 */
+	private record Sprite(String name, int width, int height) {
+	}
+}
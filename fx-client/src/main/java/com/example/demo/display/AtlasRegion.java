@@ -0,0 +1,34 @@
+package com.example.demo.display;
+
+import javafx.geometry.Rectangle2D;
+
+/**
+ * The rectangle a sprite occupies inside a texture atlas, in atlas pixels.
+ *
+ * @param x      the left edge of the sprite
+ * @param y      the top edge of the sprite
+ * @param width  the width of the sprite
+ * @param height the height of the sprite
+ */
+public record AtlasRegion(int x, int y, int width, int height) {
+
+	/**
+	 * Returns the region as an {@code ImageView} viewport.
+	 *
+	 * @return the viewport rectangle
+	 */
+	public Rectangle2D toViewport() {
+		return new Rectangle2D(x, y, width, height);
+	}
+
+	/**
+	 * Checks whether two regions share any pixel.
+	 *
+	 * @param other the region to test against
+	 * @return {@code true} if the regions overlap
+	 */
+	public boolean overlaps(AtlasRegion other) {
+		return x < other.x + other.width && other.x < x + width
+				&& y < other.y + other.height && other.y < y + height;
+	}
+}
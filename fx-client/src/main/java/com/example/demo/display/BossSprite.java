@@ -0,0 +1,83 @@
+package com.example.demo.display;
+
+import com.example.demo.objects.Boss;
+
+/**
+ * Shows a boss together with its shield and health bar, which follow the boss as it is drawn
+ * and reflect its shield state and remaining health.
+ */
+public class BossSprite extends ActorSprite {
+
+	private static final double SHIELD_OFFSET_X = -65;
+	private static final double SHIELD_OFFSET_Y = 50;
+	private static final double HEALTH_BAR_OFFSET_X = 5;
+	private static final double HEALTH_BAR_OFFSET_Y = 10;
+	private static final double HEALTH_BAR_TRANSLATE_Y = 40;
+	private static final double HEALTH_BAR_WIDTH = 200;
+	private static final double HEALTH_BAR_HEIGHT = 15;
+
+	/** The boss this sprite shows. */
+	private final Boss boss;
+
+	/** The shield drawn around the boss while its shield is up. */
+	private final ShieldImage shieldImage;
+
+	/** The bar showing the boss's remaining health. */
+	private final HealthBar healthBar;
+
+	/**
+	 * Constructs a sprite for a boss, with its shield hidden and its health bar full.
+	 *
+	 * @param boss the boss to show
+	 */
+	public BossSprite(Boss boss) {
+		super(boss);
+		this.boss = boss;
+		shieldImage = new ShieldImage(boss.getLayoutX(), boss.getLayoutY());
+		healthBar = new HealthBar(HEALTH_BAR_WIDTH, HEALTH_BAR_HEIGHT);
+		healthBar.setLayoutX(boss.getLayoutX() + HEALTH_BAR_OFFSET_X);
+		healthBar.setTranslateY(HEALTH_BAR_TRANSLATE_Y);
+	}
+
+	/**
+	 * Shows the boss between its last two simulated positions, keeps the shield and health bar
+	 * attached to where the boss is drawn, and updates them from the boss's state.
+	 *
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 */
+	@Override
+	public void render(double alpha) {
+		super.render(alpha);
+		double x = getLayoutX() + getTranslateX();
+		double y = getLayoutY() + getTranslateY();
+		shieldImage.setLayoutX(x + SHIELD_OFFSET_X);
+		shieldImage.setLayoutY(y + SHIELD_OFFSET_Y);
+		healthBar.setLayoutX(x + HEALTH_BAR_OFFSET_X);
+		healthBar.setLayoutY(y + HEALTH_BAR_OFFSET_Y);
+		if (boss.isShielded()) {
+			shieldImage.showShield();
+		} else {
+			shieldImage.hideShield();
+		}
+		healthBar.updateHealth(Math.max(boss.getHealth(), 0), boss.getMaxHealth());
+		healthBar.setVisible(boss.getHealth() > 0);
+	}
+
+	/**
+	 * Gets the ShieldImage associated with the boss.
+	 *
+	 * @return The ShieldImage instance.
+	 */
+	public ShieldImage getShieldImage() {
+		return shieldImage;
+	}
+
+	/**
+	 * Gets the HealthBar associated with the boss.
+	 *
+	 * @return The HealthBar instance.
+	 */
+	public HealthBar getHealthBar() {
+		return healthBar;
+	}
+}
@@ -1,6 +1,5 @@
 package com.example.demo.display;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -20,7 +19,7 @@ public class GameOverImage extends ImageView {
 	 * @param yPosition the Y-axis position to place the "Game Over" image
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		setImage(ImageCache.get(IMAGE_NAME));
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
 	}
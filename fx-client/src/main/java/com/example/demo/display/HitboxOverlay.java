@@ -0,0 +1,130 @@
+package com.example.demo.display;
+
+import com.example.demo.collision.Aabb;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A debug overlay that outlines actor hitboxes.
+ * Outline rectangles are only created while the overlay is shown, and they are reused from
+ * frame to frame, so hitboxes stay plain {@link Aabb} values when the overlay is off.
+ */
+public class HitboxOverlay {
+
+	/** The colour used for hitbox outlines. */
+	private static final Color OUTLINE_COLOR = Color.RED;
+
+	/** The root group of the scene the overlay is drawn on. */
+	private final Group root;
+
+	/** The group holding the outline rectangles. */
+	private final Group layer;
+
+	/** Outline rectangles created so far, reused on every frame. */
+	private final List<Rectangle> outlines;
+
+	/** The number of outlines drawn in the current frame. */
+	private int outlinesInUse;
+
+	/** Whether the overlay is currently shown. */
+	private boolean visible;
+
+	/**
+	 * Constructs a hidden HitboxOverlay for the given scene root.
+	 *
+	 * @param root the root group of the scene
+	 */
+	public HitboxOverlay(Group root) {
+		this.root = root;
+		this.layer = new Group();
+		this.layer.setMouseTransparent(true);
+		this.outlines = new ArrayList<>();
+	}
+
+	/**
+	 * Shows the overlay if it is hidden, or hides it and drops its outlines if it is shown.
+	 */
+	public void toggle() {
+		visible = !visible;
+		if (visible) {
+			root.getChildren().add(layer);
+		} else {
+			root.getChildren().remove(layer);
+			layer.getChildren().clear();
+			outlines.clear();
+			outlinesInUse = 0;
+		}
+	}
+
+	/**
+	 * Checks whether the overlay is currently shown.
+	 *
+	 * @return {@code true} if the overlay is shown
+	 */
+	public boolean isVisible() {
+		return visible;
+	}
+
+	/**
+	 * Starts a new frame of outlines.
+	 */
+	public void begin() {
+		outlinesInUse = 0;
+	}
+
+	/**
+	 * Outlines a hitbox in the current frame.
+	 *
+	 * @param hitbox the hitbox to outline
+	 */
+	public void draw(Aabb hitbox) {
+		draw(hitbox.getX(), hitbox.getY(), hitbox.getMaxX(), hitbox.getMaxY());
+	}
+
+	/**
+	 * Outlines a hitbox given by its edges in the current frame.
+	 *
+	 * @param minX the left edge of the hitbox
+	 * @param minY the top edge of the hitbox
+	 * @param maxX the right edge of the hitbox
+	 * @param maxY the bottom edge of the hitbox
+	 */
+	public void draw(double minX, double minY, double maxX, double maxY) {
+		if (outlinesInUse == outlines.size()) {
+			Rectangle outline = new Rectangle();
+			outline.setFill(Color.TRANSPARENT);
+			outline.setStroke(OUTLINE_COLOR);
+			outlines.add(outline);
+			layer.getChildren().add(outline);
+		}
+		Rectangle outline = outlines.get(outlinesInUse++);
+		outline.setX(minX);
+		outline.setY(minY);
+		outline.setWidth(maxX - minX);
+		outline.setHeight(maxY - minY);
+		outline.setVisible(true);
+	}
+
+	/**
+	 * Finishes the current frame, hiding outlines that were not drawn in it.
+	 */
+	public void end() {
+		for (int i = outlinesInUse; i < outlines.size(); i++) {
+			outlines.get(i).setVisible(false);
+		}
+		layer.toFront();
+	}
+
+	/**
+	 * Returns the number of outline rectangles created so far.
+	 *
+	 * @return the number of outline nodes
+	 */
+	public int getOutlineCount() {
+		return outlines.size();
+	}
+}
@@ -0,0 +1,165 @@
+package com.example.demo.display;
+
+import javafx.scene.image.Image;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A process-wide cache of decoded images, keyed by resource path and requested size.
+ * Every actor and display class loads its images through this cache, so a sprite is decoded
+ * once no matter how many nodes show it. Entries are held weakly: an image stays cached while
+ * any node still references it and is released once nothing does.
+ */
+public final class ImageCache {
+
+	/**
+	 * Turns a classpath resource into an image.
+	 */
+	@FunctionalInterface
+	public interface Decoder {
+
+		/**
+		 * Decodes an image.
+		 *
+		 * @param resourcePath    the classpath resource path of the image
+		 * @param requestedWidth  the width to scale to, or 0 for the natural width
+		 * @param requestedHeight the height to scale to, or 0 for the natural height
+		 * @return the decoded image
+		 */
+		Image decode(String resourcePath, double requestedWidth, double requestedHeight);
+	}
+
+	/** Decodes images from the application's classpath. */
+	private static final Decoder CLASSPATH_DECODER = (resourcePath, requestedWidth, requestedHeight) -> {
+		String url = ImageCache.class.getResource(resourcePath).toExternalForm();
+		if (requestedWidth == 0 && requestedHeight == 0) {
+			return new Image(url);
+		}
+		return new Image(url, requestedWidth, requestedHeight, true, true);
+	};
+
+	/** Cached images by path and requested size. */
+	private static final Map<Key, CachedImage> CACHE = new HashMap<>();
+
+	/** Receives cache entries whose image has been garbage collected. */
+	private static final ReferenceQueue<Image> RELEASED = new ReferenceQueue<>();
+
+	/** The decoder used on a cache miss. */
+	private static Decoder decoder = CLASSPATH_DECODER;
+
+	/** The number of images decoded since start-up. */
+	private static long decodeCount;
+
+	private ImageCache() {
+	}
+
+	/**
+	 * Returns the image at a resource path at its natural size, decoding it on first use.
+	 *
+	 * @param resourcePath the classpath resource path of the image
+	 * @return the shared image
+	 */
+	public static Image get(String resourcePath) {
+		return get(resourcePath, 0, 0);
+	}
+
+	/**
+	 * Returns the image at a resource path scaled to the requested size, decoding it on first use.
+	 *
+	 * @param resourcePath    the classpath resource path of the image
+	 * @param requestedWidth  the width to scale to, or 0 for the natural width
+	 * @param requestedHeight the height to scale to, or 0 for the natural height
+	 * @return the shared image
+	 */
+	public static synchronized Image get(String resourcePath, double requestedWidth, double requestedHeight) {
+		purgeReleased();
+		Key key = new Key(resourcePath, requestedWidth, requestedHeight);
+		CachedImage cached = CACHE.get(key);
+		Image image = cached != null ? cached.get() : null;
+		if (image == null) {
+			image = decoder.decode(resourcePath, requestedWidth, requestedHeight);
+			decodeCount++;
+			CACHE.put(key, new CachedImage(key, image));
+		}
+		return image;
+	}
+
+	/**
+	 * Replaces the decoder used on a cache miss and empties the cache.
+	 * Headless runs use this to supply placeholder images when no graphics pipeline is available.
+	 *
+	 * @param newDecoder the decoder to use from now on
+	 */
+	public static synchronized void setDecoder(Decoder newDecoder) {
+		decoder = newDecoder;
+		clear();
+	}
+
+	/**
+	 * Restores the classpath decoder and empties the cache.
+	 */
+	public static void useClasspathDecoder() {
+		setDecoder(CLASSPATH_DECODER);
+	}
+
+	/**
+	 * Empties the cache. Images already handed out stay valid.
+	 */
+	public static synchronized void clear() {
+		CACHE.clear();
+		purgeReleased();
+	}
+
+	/**
+	 * Returns the number of images currently cached.
+	 *
+	 * @return the number of live cache entries
+	 */
+	public static synchronized int size() {
+		purgeReleased();
+		return CACHE.size();
+	}
+
+	/**
+	 * Returns the number of images decoded since start-up.
+	 *
+	 * @return the decode count
+	 */
+	public static synchronized long getDecodeCount() {
+		return decodeCount;
+	}
+
+	/**
+	 * Drops cache entries whose image has been garbage collected.
+	 */
+	private static void purgeReleased() {
+		for (Object released = RELEASED.poll(); released != null; released = RELEASED.poll()) {
+			Key key = ((CachedImage) released).key;
+			if (CACHE.get(key) == released) {
+				CACHE.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Identifies a cached image by resource path and requested size.
+	 */
+	private record Key(String resourcePath, double requestedWidth, double requestedHeight) {
+	}
+
+	/**
+	 * A weakly held cached image that remembers its key for removal.
+	 */
+	private static final class CachedImage extends WeakReference<Image> {
+
+		private final Key key;
+
+		CachedImage(Key key, Image image) {
+			super(image, RELEASED);
+			this.key = key;
+		}
+	}
+}
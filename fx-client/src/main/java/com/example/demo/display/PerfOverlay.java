@@ -0,0 +1,200 @@
+package com.example.demo.display;
+
+import com.example.demo.levels.LevelParent;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * A debug overlay showing how the game is performing: rendered frames per second, the mean and
+ * slowest simulation tick, the number of planes and projectiles in each of the level's lists, the
+ * number of nodes under the scene root, the heap in use and the garbage collections since the last
+ * refresh. Frames and ticks are only counted; the text is rebuilt in one preallocated buffer a few
+ * times per second, and only while the overlay is shown.
+ */
+public class PerfOverlay {
+
+	/** How often the text is rebuilt, in nanoseconds. */
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000;
+
+	/** The colour of the overlay text. */
+	private static final Color TEXT_COLOR = Color.LIME;
+
+	/** The position of the overlay's first line. */
+	private static final double X_POSITION = 10;
+	private static final double Y_POSITION = 100;
+	private static final int FONT_SIZE = 14;
+	private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	/** The root group of the scene the overlay is drawn on. */
+	private final Group root;
+
+	/** The node showing the overlay text. */
+	private final Text text;
+
+	/** The buffer the text is rebuilt in. */
+	private final StringBuilder buffer = new StringBuilder(256);
+
+	/** The collectors whose counts and times are summed for the GC line. */
+	private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+	/** Whether the overlay is currently shown. */
+	private boolean visible;
+
+	private long windowStart = -1;
+	private int framesInWindow;
+	private int ticksInWindow;
+	private long tickNanosInWindow;
+	private long slowestTickNanosInWindow;
+	private long collectionCount;
+	private long collectionMillis;
+
+	/**
+	 * Constructs a hidden PerfOverlay for the given scene root.
+	 *
+	 * @param root the root group of the scene
+	 */
+	public PerfOverlay(Group root) {
+		this.root = root;
+		this.text = new Text(X_POSITION, Y_POSITION, "");
+		this.text.setFill(TEXT_COLOR);
+		this.text.setFont(Font.font("Monospaced", FONT_SIZE));
+		this.text.setMouseTransparent(true);
+	}
+
+	/**
+	 * Shows the overlay if it is hidden, or hides it if it is shown. The first refresh after showing
+	 * covers the frames and ticks counted from then on.
+	 */
+	public void toggle() {
+		visible = !visible;
+		if (visible) {
+			root.getChildren().add(text);
+			windowStart = -1;
+		} else {
+			root.getChildren().remove(text);
+		}
+	}
+
+	/**
+	 * Checks whether the overlay is currently shown.
+	 *
+	 * @return {@code true} if the overlay is shown
+	 */
+	public boolean isVisible() {
+		return visible;
+	}
+
+	/**
+	 * Counts one simulation tick.
+	 *
+	 * @param nanos how long the tick took, in nanoseconds
+	 */
+	public void tickTimed(long nanos) {
+		ticksInWindow++;
+		tickNanosInWindow += nanos;
+		slowestTickNanosInWindow = Math.max(slowestTickNanosInWindow, nanos);
+	}
+
+	/**
+	 * Counts one rendered frame and rebuilds the text if the refresh interval has passed.
+	 *
+	 * @param now   the frame's timestamp, in nanoseconds
+	 * @param level the level being shown
+	 */
+	public void frameRendered(long now, LevelParent level) {
+		if (!visible) {
+			return;
+		}
+		if (windowStart < 0) {
+			startWindow(now);
+			sampleCollections();
+			return;
+		}
+		framesInWindow++;
+		long elapsed = now - windowStart;
+		if (elapsed >= REFRESH_INTERVAL_NANOS) {
+			refresh(elapsed, level);
+			startWindow(now);
+		}
+	}
+
+	/**
+	 * Returns the text the overlay currently shows.
+	 *
+	 * @return the overlay text
+	 */
+	public String getText() {
+		return text.getText();
+	}
+
+	private void startWindow(long now) {
+		windowStart = now;
+		framesInWindow = 0;
+		ticksInWindow = 0;
+		tickNanosInWindow = 0;
+		slowestTickNanosInWindow = 0;
+	}
+
+	private void refresh(long elapsedNanos, LevelParent level) {
+		long previousCount = collectionCount;
+		long previousMillis = collectionMillis;
+		sampleCollections();
+		Runtime runtime = Runtime.getRuntime();
+		long usedBytes = runtime.totalMemory() - runtime.freeMemory();
+
+		buffer.setLength(0);
+		buffer.append("FPS   ");
+		appendFixed(framesInWindow * 1e9 / elapsedNanos, 1);
+		buffer.append("\nTICK  mean ");
+		appendFixed(ticksInWindow == 0 ? 0 : tickNanosInWindow / 1e6 / ticksInWindow, 3);
+		buffer.append(" ms, max ");
+		appendFixed(slowestTickNanosInWindow / 1e6, 3);
+		buffer.append(" ms, ").append(ticksInWindow).append(" ticks");
+		buffer.append("\nUNITS friendly ").append(level.getFriendlyUnitCount())
+				.append(", enemy ").append(level.getCurrentNumberOfEnemies());
+		buffer.append("\nSHOTS user ").append(level.getUserProjectileCount())
+				.append(", enemy ").append(level.getEnemyProjectileCount());
+		buffer.append("\nNODES ").append(root.getChildren().size()).append(" under root");
+		buffer.append("\nHEAP  ").append(usedBytes / BYTES_PER_MEGABYTE)
+				.append(" / ").append(runtime.maxMemory() / BYTES_PER_MEGABYTE).append(" MB");
+		buffer.append("\nGC    ").append(collectionCount - previousCount).append(" collections, ")
+				.append(collectionMillis - previousMillis).append(" ms since last refresh");
+		text.setText(buffer.toString());
+		text.toFront();
+	}
+
+	private void sampleCollections() {
+		long count = 0;
+		long millis = 0;
+		for (int i = 0; i < collectors.size(); i++) {
+			GarbageCollectorMXBean collector = collectors.get(i);
+			count += Math.max(0, collector.getCollectionCount());
+			millis += Math.max(0, collector.getCollectionTime());
+		}
+		collectionCount = count;
+		collectionMillis = millis;
+	}
+
+	/**
+	 * Appends a non-negative value with a fixed number of decimals, without the temporary strings
+	 * {@link StringBuilder#append(double)} would create.
+	 */
+	private void appendFixed(double value, int decimals) {
+		long scale = 1;
+		for (int i = 0; i < decimals; i++) {
+			scale *= 10;
+		}
+		long scaled = Math.round(value * scale);
+		buffer.append(scaled / scale).append('.');
+		long fraction = scaled % scale;
+		for (long digit = scale / 10; digit > 0; digit /= 10) {
+			buffer.append((char) ('0' + fraction / digit % 10));
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package com.example.demo.display;
+
+import com.example.demo.objects.EntityStore;
+import com.example.demo.objects.ProjectileType;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shows the projectiles of one {@link EntityStore}. Projectiles are not objects, so there is no sprite
+ * per projectile: the i-th view of a reusable pool shows whatever entity is i-th in the store this
+ * frame, reading only its interpolated position and kind. Views are only created when more projectiles
+ * are in flight than ever before, and views left over when fewer are in flight are hidden.
+ */
+public class ProjectileSprites {
+
+	/** The store the projectiles are read from. */
+	private final EntityStore projectiles;
+
+	/** The group holding every view, added to the scene when projectiles are shown as nodes. */
+	private final Group group;
+
+	/** The views, one per projectile slot. */
+	private final List<ImageView> views;
+
+	/** The projectile kind each view currently shows, or -1 if it shows none yet. */
+	private int[] viewKinds;
+
+	/** The number of views shown by the last {@link #render(double)}. */
+	private int shown;
+
+	/**
+	 * Constructs the sprites for a projectile store.
+	 *
+	 * @param projectiles the store to show
+	 */
+	public ProjectileSprites(EntityStore projectiles) {
+		this.projectiles = projectiles;
+		this.group = new Group();
+		this.group.setMouseTransparent(true);
+		this.views = new ArrayList<>();
+		this.viewKinds = new int[0];
+	}
+
+	/**
+	 * Moves a view to every projectile in the store, between its previous and current simulated
+	 * positions, and hides the views that are not needed this frame.
+	 *
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 */
+	public void render(double alpha) {
+		int count = projectiles.size();
+		for (int i = 0; i < count; i++) {
+			ImageView view = i < views.size() ? views.get(i) : createView();
+			int kind = projectiles.getKind(i);
+			if (viewKinds[i] != kind) {
+				ProjectileType type = ProjectileType.ofKind(kind);
+				TextureAtlas.showSprite(view, type.getImagePath());
+				view.setFitHeight(type.getImageHeight());
+				viewKinds[i] = kind;
+			}
+			view.setLayoutX(projectiles.getRenderX(i, alpha));
+			view.setLayoutY(projectiles.getRenderY(i, alpha));
+			if (i >= shown) {
+				view.setVisible(true);
+			}
+		}
+		for (int i = count; i < shown; i++) {
+			views.get(i).setVisible(false);
+		}
+		shown = count;
+	}
+
+	/**
+	 * Queues every projectile where the last {@link #render(double)} placed it.
+	 *
+	 * @param batch the layer to draw into
+	 */
+	public void draw(SpriteBatch batch) {
+		for (int i = 0; i < shown; i++) {
+			batch.add(views.get(i));
+		}
+	}
+
+	/**
+	 * Outlines every projectile's hitbox.
+	 *
+	 * @param overlay the overlay to draw the outlines on
+	 */
+	public void drawHitboxes(HitboxOverlay overlay) {
+		for (int i = 0; i < projectiles.size(); i++) {
+			overlay.draw(projectiles.getHitboxX(i), projectiles.getHitboxY(i),
+					projectiles.getHitboxMaxX(i), projectiles.getHitboxMaxY(i));
+		}
+	}
+
+	/**
+	 * Returns the group holding the views, for showing the projectiles as scene graph nodes.
+	 *
+	 * @return the group of views
+	 */
+	public Group getGroup() {
+		return group;
+	}
+
+	/**
+	 * Returns the number of projectiles shown by the last {@link #render(double)}.
+	 *
+	 * @return the shown projectile count
+	 */
+	public int getShownCount() {
+		return shown;
+	}
+
+	/**
+	 * Returns the number of views created so far.
+	 *
+	 * @return the view count
+	 */
+	public int getViewCount() {
+		return views.size();
+	}
+
+	/**
+	 * Adds a new view to the pool.
+	 *
+	 * @return the new view
+	 */
+	private ImageView createView() {
+		ImageView view = new ImageView();
+		view.setPreserveRatio(true);
+		view.setVisible(false);
+		views.add(view);
+		group.getChildren().add(view);
+		if (viewKinds.length < views.size()) {
+			int[] grown = new int[Math.max(16, viewKinds.length * 2)];
+			Arrays.fill(grown, -1);
+			System.arraycopy(viewKinds, 0, grown, 0, viewKinds.length);
+			viewKinds = grown;
+		}
+		return view;
+	}
+}
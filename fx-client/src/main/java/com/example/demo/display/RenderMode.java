@@ -0,0 +1,13 @@
+package com.example.demo.display;
+
+/**
+ * How a level puts its actors on screen.
+ */
+public enum RenderMode {
+
+	/** Every actor is its own {@code ImageView} node in the scene graph. */
+	NODES,
+
+	/** Actors stay out of the scene graph and are drawn into one canvas per layer each frame. */
+	CANVAS
+}
@@ -1,6 +1,5 @@
 package com.example.demo.display;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -11,7 +10,7 @@ import javafx.scene.image.ImageView;
 public class ShieldImage extends ImageView {
 
 	/** The path to the shield image. */
-	private static final String IMAGE_NAME = "/images/shield.png";
+	private static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
 
 	/** The size of the shield image. */
 	private static final int SHIELD_SIZE = 200;
@@ -26,7 +25,7 @@ public class ShieldImage extends ImageView {
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		this.setImage(new Image(getClass().getResource("/com/example/demo/images/shield.png").toExternalForm()));
+		TextureAtlas.showSprite(this, IMAGE_NAME);
 		this.setVisible(false);
 		this.setFitHeight(SHIELD_SIZE);
 		this.setFitWidth(SHIELD_SIZE);
@@ -0,0 +1,147 @@
+package com.example.demo.display;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.Arrays;
+
+/**
+ * One render layer drawn as a single {@link Canvas}.
+ * Sprites are queued into a batch list during the frame and drawn in queue order by
+ * {@link #flush()}, so the scene graph carries one node for the whole layer instead of one
+ * node per sprite. The batch list reuses its arrays, so a frame does not allocate once it has grown.
+ */
+public class SpriteBatch {
+
+	/** Initial capacity of the batch list. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** The number of values stored per sprite: the source and destination rectangles. */
+	private static final int VALUES_PER_SPRITE = 8;
+
+	/** The canvas the layer is drawn on. */
+	private final Canvas canvas;
+
+	/** The graphics context of the canvas. */
+	private final GraphicsContext graphics;
+
+	/** The image of each queued sprite. */
+	private Image[] images = new Image[INITIAL_CAPACITY];
+
+	/** The source rectangle and destination rectangle of each queued sprite. */
+	private double[] bounds = new double[INITIAL_CAPACITY * VALUES_PER_SPRITE];
+
+	/** The number of queued sprites. */
+	private int size;
+
+	/**
+	 * Constructs a SpriteBatch covering a screen of the given size.
+	 *
+	 * @param width  the width of the layer
+	 * @param height the height of the layer
+	 */
+	public SpriteBatch(double width, double height) {
+		this.canvas = new Canvas(width, height);
+		this.canvas.setMouseTransparent(true);
+		this.graphics = canvas.getGraphicsContext2D();
+	}
+
+	/**
+	 * Queues a whole image to be drawn by the next {@link #flush()}.
+	 *
+	 * @param image  the sprite image
+	 * @param x      the left edge of the sprite
+	 * @param y      the top edge of the sprite
+	 * @param width  the drawn width
+	 * @param height the drawn height
+	 */
+	public void add(Image image, double x, double y, double width, double height) {
+		add(image, 0, 0, image.getWidth(), image.getHeight(), x, y, width, height);
+	}
+
+	/**
+	 * Queues an image view where its node would be shown, at the size it would be shown at,
+	 * honouring its viewport into a texture atlas.
+	 *
+	 * @param view the view to draw
+	 */
+	public void add(ImageView view) {
+		Image image = view.getImage();
+		Rectangle2D viewport = view.getViewport();
+		double sourceX = viewport != null ? viewport.getMinX() : 0;
+		double sourceY = viewport != null ? viewport.getMinY() : 0;
+		double sourceWidth = viewport != null ? viewport.getWidth() : image.getWidth();
+		double sourceHeight = viewport != null ? viewport.getHeight() : image.getHeight();
+		double height = view.getFitHeight();
+		double width = sourceHeight > 0 ? height * sourceWidth / sourceHeight : 0;
+		add(image, sourceX, sourceY, sourceWidth, sourceHeight,
+				view.getLayoutX() + view.getTranslateX(), view.getLayoutY() + view.getTranslateY(), width, height);
+	}
+
+	/**
+	 * Queues part of an image, such as a sprite in a texture atlas, to be drawn by the next {@link #flush()}.
+	 *
+	 * @param image        the source image
+	 * @param sourceX      the left edge of the sprite in the source image
+	 * @param sourceY      the top edge of the sprite in the source image
+	 * @param sourceWidth  the width of the sprite in the source image
+	 * @param sourceHeight the height of the sprite in the source image
+	 * @param x            the left edge of the sprite on the layer
+	 * @param y            the top edge of the sprite on the layer
+	 * @param width        the drawn width
+	 * @param height       the drawn height
+	 */
+	public void add(Image image, double sourceX, double sourceY, double sourceWidth, double sourceHeight,
+			double x, double y, double width, double height) {
+		if (size == images.length) {
+			images = Arrays.copyOf(images, size * 2);
+			bounds = Arrays.copyOf(bounds, size * 2 * VALUES_PER_SPRITE);
+		}
+		images[size] = image;
+		int offset = size * VALUES_PER_SPRITE;
+		bounds[offset] = sourceX;
+		bounds[offset + 1] = sourceY;
+		bounds[offset + 2] = sourceWidth;
+		bounds[offset + 3] = sourceHeight;
+		bounds[offset + 4] = x;
+		bounds[offset + 5] = y;
+		bounds[offset + 6] = width;
+		bounds[offset + 7] = height;
+		size++;
+	}
+
+	/**
+	 * Clears the canvas, draws every queued sprite and empties the batch list.
+	 */
+	public void flush() {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		for (int i = 0; i < size; i++) {
+			int offset = i * VALUES_PER_SPRITE;
+			graphics.drawImage(images[i], bounds[offset], bounds[offset + 1], bounds[offset + 2], bounds[offset + 3],
+					bounds[offset + 4], bounds[offset + 5], bounds[offset + 6], bounds[offset + 7]);
+			images[i] = null;
+		}
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of sprites queued since the last flush.
+	 *
+	 * @return the queued sprite count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the canvas the layer is drawn on.
+	 *
+	 * @return the layer canvas
+	 */
+	public Canvas getCanvas() {
+		return canvas;
+	}
+}
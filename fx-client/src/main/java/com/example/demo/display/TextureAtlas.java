@@ -0,0 +1,266 @@
+package com.example.demo.display;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * All gameplay sprites packed into one image, so every actor shares a single texture and
+ * selects its sprite with a viewport. The atlas is packed on first launch and cached on disk as
+ * a PNG and a text region index; later launches load the cached files unless a source sprite
+ * has changed. When no atlas is installed, sprites fall back to standalone images.
+ */
+public final class TextureAtlas {
+
+	/** The gameplay sprites packed into the atlas. */
+	static final List<String> SPRITES = List.of(
+			"/com/example/demo/images/userplane.png",
+			"/com/example/demo/images/enemyplane.png",
+			"/com/example/demo/images/bossplane.png",
+			"/com/example/demo/images/userfire.png",
+			"/com/example/demo/images/enemyFire.png",
+			"/com/example/demo/images/fireball.png",
+			"/com/example/demo/images/shield.png",
+			"/com/example/demo/images/heart.png");
+
+	/** The file name of the cached atlas image. */
+	static final String IMAGE_FILE = "atlas.png";
+
+	/** The file name of the cached region index. */
+	static final String INDEX_FILE = "atlas.index";
+
+	/** The first token of the index header line. */
+	private static final String INDEX_HEADER = "# skybattle-atlas";
+
+	/** The system property naming the directory the atlas is cached in. */
+	private static final String CACHE_DIRECTORY_PROPERTY = "skybattle.cacheDir";
+
+	/** The maximum width of the atlas. */
+	private static final int MAX_WIDTH = 2048;
+
+	/** The empty border kept around every sprite. */
+	private static final int PADDING = 2;
+
+	/** The atlas used by actors, or {@code null} to use standalone images. */
+	private static TextureAtlas installed;
+
+	/** The atlas image. */
+	private final Image image;
+
+	/** The region of each sprite, by resource path. */
+	private final Map<String, AtlasRegion> regions;
+
+	/**
+	 * Constructs a TextureAtlas from an image and its region index.
+	 *
+	 * @param image   the atlas image
+	 * @param regions the region of each sprite, by resource path
+	 */
+	public TextureAtlas(Image image, Map<String, AtlasRegion> regions) {
+		this.image = image;
+		this.regions = Map.copyOf(regions);
+	}
+
+	/**
+	 * Loads the atlas cached in a directory, packing and caching it first if it is missing
+	 * or was built from different sprites.
+	 *
+	 * @param cacheDirectory the directory holding the cached atlas
+	 * @return the loaded atlas
+	 * @throws IOException if a sprite cannot be read or the cache cannot be written
+	 */
+	public static TextureAtlas load(Path cacheDirectory) throws IOException {
+		Map<String, AtlasRegion> regions = loadOrBuildIndex(cacheDirectory);
+		Image image = new Image(cacheDirectory.resolve(IMAGE_FILE).toUri().toString());
+		if (image.isError()) {
+			throw new IOException("Cannot load atlas image", image.getException());
+		}
+		return new TextureAtlas(image, regions);
+	}
+
+	/**
+	 * Returns the directory the atlas is cached in: the {@code skybattle.cacheDir} system property,
+	 * or {@code .skybattle/atlas} in the user's home directory.
+	 *
+	 * @return the atlas cache directory
+	 */
+	public static Path defaultCacheDirectory() {
+		String configured = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+		if (configured != null) {
+			return Path.of(configured, "atlas");
+		}
+		return Path.of(System.getProperty("user.home"), ".skybattle", "atlas");
+	}
+
+	/**
+	 * Makes actors use an atlas for every sprite it contains.
+	 *
+	 * @param atlas the atlas to use, or {@code null} to go back to standalone images
+	 */
+	public static void install(TextureAtlas atlas) {
+		installed = atlas;
+	}
+
+	/**
+	 * Returns the atlas actors currently use.
+	 *
+	 * @return the installed atlas, or {@code null} if sprites are standalone images
+	 */
+	public static TextureAtlas getInstalled() {
+		return installed;
+	}
+
+	/**
+	 * Shows a sprite in an image view, taking it from the installed atlas when possible.
+	 *
+	 * @param view         the image view to show the sprite in
+	 * @param resourcePath the classpath resource path of the sprite
+	 */
+	public static void showSprite(ImageView view, String resourcePath) {
+		TextureAtlas atlas = installed;
+		AtlasRegion region = atlas != null ? atlas.getRegion(resourcePath) : null;
+		if (region != null) {
+			view.setImage(atlas.getImage());
+			view.setViewport(region.toViewport());
+		} else {
+			view.setImage(ImageCache.get(resourcePath));
+			view.setViewport(null);
+		}
+	}
+
+	/**
+	 * Returns the atlas image.
+	 *
+	 * @return the atlas image
+	 */
+	public Image getImage() {
+		return image;
+	}
+
+	/**
+	 * Returns where a sprite lies in the atlas.
+	 *
+	 * @param resourcePath the classpath resource path of the sprite
+	 * @return the sprite's region, or {@code null} if the sprite is not in the atlas
+	 */
+	public AtlasRegion getRegion(String resourcePath) {
+		return regions.get(resourcePath);
+	}
+
+	/**
+	 * Reads the cached region index, packing and caching the atlas first if the index is
+	 * missing or its fingerprint does not match the current sprites.
+	 *
+	 * @param cacheDirectory the directory holding the cached atlas
+	 * @return the region of each sprite, by resource path
+	 * @throws IOException if a sprite cannot be read or the cache cannot be written
+	 */
+	public static Map<String, AtlasRegion> loadOrBuildIndex(Path cacheDirectory) throws IOException {
+		Map<String, byte[]> sources = readSources();
+		String header = INDEX_HEADER + " " + fingerprint(sources);
+		Path indexFile = cacheDirectory.resolve(INDEX_FILE);
+		if (Files.isRegularFile(indexFile) && Files.isRegularFile(cacheDirectory.resolve(IMAGE_FILE))) {
+			List<String> lines = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+			if (!lines.isEmpty() && lines.get(0).equals(header)) {
+				return parseIndex(lines);
+			}
+		}
+		return build(sources, header, cacheDirectory);
+	}
+
+	/**
+	 * Packs the sprites, then writes the atlas image and its region index.
+	 * The index is written last, so an interrupted build is redone on the next launch.
+	 */
+	private static Map<String, AtlasRegion> build(Map<String, byte[]> sources, String header, Path cacheDirectory)
+			throws IOException {
+		Map<String, BufferedImage> sprites = new LinkedHashMap<>();
+		AtlasPacker packer = new AtlasPacker(MAX_WIDTH, PADDING);
+		for (Map.Entry<String, byte[]> source : sources.entrySet()) {
+			BufferedImage sprite = ImageIO.read(new ByteArrayInputStream(source.getValue()));
+			if (sprite == null) {
+				throw new IOException("Cannot decode sprite " + source.getKey());
+			}
+			sprites.put(source.getKey(), sprite);
+			packer.add(source.getKey(), sprite.getWidth(), sprite.getHeight());
+		}
+		Map<String, AtlasRegion> regions = packer.pack();
+
+		BufferedImage atlas = new BufferedImage(packer.getWidth(), packer.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlas.createGraphics();
+		try {
+			for (Map.Entry<String, AtlasRegion> entry : regions.entrySet()) {
+				AtlasRegion region = entry.getValue();
+				graphics.drawImage(sprites.get(entry.getKey()), region.x(), region.y(), null);
+			}
+		} finally {
+			graphics.dispose();
+		}
+
+		Files.createDirectories(cacheDirectory);
+		ImageIO.write(atlas, "png", cacheDirectory.resolve(IMAGE_FILE).toFile());
+		List<String> lines = new ArrayList<>();
+		lines.add(header);
+		regions.forEach((name, region) -> lines.add(
+				name + " " + region.x() + " " + region.y() + " " + region.width() + " " + region.height()));
+		Files.write(cacheDirectory.resolve(INDEX_FILE), lines, StandardCharsets.UTF_8);
+		return regions;
+	}
+
+	private static Map<String, AtlasRegion> parseIndex(List<String> lines) throws IOException {
+		Map<String, AtlasRegion> regions = new LinkedHashMap<>();
+		for (String line : lines.subList(1, lines.size())) {
+			String[] fields = line.trim().split(" ");
+			if (fields.length != 5) {
+				throw new IOException("Malformed atlas index line: " + line);
+			}
+			try {
+				regions.put(fields[0], new AtlasRegion(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+						Integer.parseInt(fields[3]), Integer.parseInt(fields[4])));
+			} catch (NumberFormatException e) {
+				throw new IOException("Malformed atlas index line: " + line, e);
+			}
+		}
+		return regions;
+	}
+
+	private static Map<String, byte[]> readSources() throws IOException {
+		Map<String, byte[]> sources = new LinkedHashMap<>();
+		for (String resourcePath : SPRITES) {
+			try (InputStream in = TextureAtlas.class.getResourceAsStream(resourcePath)) {
+				if (in == null) {
+					throw new IOException("Missing sprite " + resourcePath);
+				}
+				sources.put(resourcePath, in.readAllBytes());
+			}
+		}
+		return sources;
+	}
+
+	/**
+	 * Identifies the sprite set and packing settings an atlas was built from.
+	 */
+	private static String fingerprint(Map<String, byte[]> sources) {
+		CRC32 crc = new CRC32();
+		crc.update((MAX_WIDTH + ":" + PADDING).getBytes(StandardCharsets.UTF_8));
+		for (Map.Entry<String, byte[]> source : sources.entrySet()) {
+			crc.update(source.getKey().getBytes(StandardCharsets.UTF_8));
+			crc.update(source.getValue());
+		}
+		return Long.toHexString(crc.getValue());
+	}
+}
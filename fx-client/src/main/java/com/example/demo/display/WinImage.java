@@ -1,6 +1,5 @@
 package com.example.demo.display;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -26,7 +25,7 @@ public class WinImage extends ImageView {
 	 * @param yPosition the Y position of the "You Win" image
 	 */
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		this.setImage(ImageCache.get(IMAGE_NAME));
 		this.setVisible(false);
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
@@ -0,0 +1,1095 @@
+package com.example.demo.screens;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import com.example.demo.diagnostics.FrameBudgetTracker;
+import com.example.demo.diagnostics.StallWatchdog;
+import com.example.demo.display.ActorSprite;
+import com.example.demo.display.BossSprite;
+import com.example.demo.display.HitboxOverlay;
+import com.example.demo.display.ImageCache;
+import com.example.demo.display.LevelView;
+import com.example.demo.display.PerfOverlay;
+import com.example.demo.display.ProjectileSprites;
+import com.example.demo.display.RenderMode;
+import com.example.demo.display.SpriteBatch;
+import com.example.demo.levels.ActorListener;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelState;
+import com.example.demo.loop.FixedTimestepLoop;
+import com.example.demo.objects.ActiveActorDestructible;
+import com.example.demo.objects.Boss;
+import com.example.demo.replay.Replay;
+import com.example.demo.replay.ReplayPlayer;
+import com.example.demo.metrics.GameMetrics;
+import com.example.demo.profiling.LevelTransitionEvent;
+import com.example.demo.profiling.TickProfiler;
+import com.example.demo.replay.ReplayRecorder;
+import com.example.demo.replay.StateHashWriter;
+import javafx.animation.*;
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.*;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+
+/**
+ * Shows a core {@link LevelParent} and feeds it the player's input. The screen owns the scene,
+ * the game loop and every visual element; the level only simulates. Each rendered frame runs the
+ * level's due ticks, then draws every actor between its last two simulated positions.
+ */
+public class LevelScreen implements ActorListener {
+
+	private static final int MILLISECOND_DELAY = 30;
+	private static final double DEFAULT_TICKS_PER_SECOND = 1000.0 / MILLISECOND_DELAY;
+	private static final int MAX_TICKS_PER_FRAME = 5;
+	private static final String TICK_RATE_PROPERTY = "skybattle.tickRate";
+	private static final String RENDER_MODE_PROPERTY = "skybattle.renderMode";
+	private static final String RECORD_REPLAYS_PROPERTY = "skybattle.recordReplays";
+	private static final String STATE_HASHES_PROPERTY = "skybattle.stateHashes";
+	private static final String PROFILE_PROPERTY = "skybattle.profile";
+	private static final Duration LEVEL_CLEARED_DELAY = Duration.seconds(3);
+
+	private final LevelParent level;
+	private final LevelTheme theme;
+	private final double screenHeight;
+	private final double screenWidth;
+
+	private final Group root;
+	private final FixedTimestepLoop gameLoop;
+	private final AnimationTimer frameTimer;
+	private Scene scene;
+	private final ImageView background;
+	private final LevelView levelView;
+
+	private final List<ActorSprite> unitSprites;
+	private final ProjectileSprites userProjectileSprites;
+	private final ProjectileSprites enemyProjectileSprites;
+	private final RemovedSprites removedSprites;
+	private final HitboxOverlay hitboxOverlay;
+	private final PerfOverlay perfOverlay;
+	private final SpriteBatch unitLayer;
+	private final SpriteBatch projectileLayer;
+	private RenderMode renderMode;
+
+	private boolean spacebarPressed = false;
+	private boolean bKeyPressed = false;
+	private Text killTracker;
+	private int shownKills = -1;
+	private Text burstReadyText;
+	private Timeline blinkAnimation;
+	private Text pauseText;
+	private boolean levelEnded = false;
+	private Clip backgroundMusicClip;
+	private ReplayRecorder replayRecorder;
+	private ReplayPlayer replayPlayer;
+	private StateHashWriter stateHashes;
+	private final TickProfiler profiler = new TickProfiler();
+	private GameMetrics metrics;
+	private StallWatchdog watchdog;
+	private FrameBudgetTracker budgetTracker;
+
+	/**
+	 * Constructs a screen for a level, themed by the level's {@link LevelTheme}.
+	 *
+	 * @param level the level to show
+	 */
+	public LevelScreen(LevelParent level) {
+		this(level, LevelTheme.of(level));
+	}
+
+	/**
+	 * Constructs a screen for a level with the given theme. The screen starts following the
+	 * level's planes straight away, one sprite per plane, and shows the projectiles from the
+	 * level's projectile stores.
+	 *
+	 * @param level the level to show
+	 * @param theme how the level looks and sounds
+	 */
+	public LevelScreen(LevelParent level, LevelTheme theme) {
+		this.level = level;
+		this.theme = theme;
+		this.screenHeight = level.getScreenHeight();
+		this.screenWidth = level.getScreenWidth();
+		this.root = new Group();
+		this.gameLoop = new FixedTimestepLoop(configuredTickRate(), MAX_TICKS_PER_FRAME, this::tick);
+		this.frameTimer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				if (watchdog != null) {
+					watchdog.beat();
+				}
+				if (budgetTracker != null) {
+					runTrackedFrame(now);
+				} else {
+					gameLoop.advance(now);
+					renderFrame(gameLoop.getAlpha());
+				}
+				perfOverlay.frameRendered(now, level);
+			}
+		};
+		this.unitSprites = new ArrayList<>();
+		this.userProjectileSprites = new ProjectileSprites(level.getUserProjectiles());
+		this.enemyProjectileSprites = new ProjectileSprites(level.getEnemyProjectiles());
+		this.removedSprites = new RemovedSprites();
+		this.hitboxOverlay = new HitboxOverlay(root);
+		this.perfOverlay = new PerfOverlay(root);
+		this.unitLayer = new SpriteBatch(screenWidth, screenHeight);
+		this.projectileLayer = new SpriteBatch(screenWidth, screenHeight);
+		this.renderMode = configuredRenderMode();
+		this.background = new ImageView(ImageCache.get(theme.getBackgroundImageName()));
+		this.levelView = theme.createLevelView(root, level.getUser().getHealth());
+		level.setSecondsPerTick(gameLoop.getSecondsPerTick());
+		root.getChildren().addAll(userProjectileSprites.getGroup(), enemyProjectileSprites.getGroup());
+		level.setActorListener(this);
+		if (System.getProperty(RECORD_REPLAYS_PROPERTY) != null) {
+			replayRecorder = new ReplayRecorder(level);
+		}
+		if (System.getProperty(STATE_HASHES_PROPERTY) != null) {
+			stateHashes = openStateHashes();
+		}
+		if (Boolean.getBoolean(PROFILE_PROPERTY)) {
+			profiler.attach(level);
+		}
+	}
+
+	/**
+	 * Makes the level update the session's live metrics, and hands them on to the next level's screen.
+	 *
+	 * @param metrics the metrics, or {@code null} if none are kept
+	 */
+	public void setMetrics(GameMetrics metrics) {
+		this.metrics = metrics;
+		level.setMetrics(metrics);
+	}
+
+	/**
+	 * Makes every frame, tick and level load of this screen report to a stall watchdog, and hands it
+	 * on to the next level's screen.
+	 *
+	 * @param watchdog the watchdog, or {@code null} if stalls are not watched for
+	 */
+	public void setStallWatchdog(StallWatchdog watchdog) {
+		this.watchdog = watchdog;
+	}
+
+	/**
+	 * Makes every frame of this screen count against a frame budget, and hands the tracker on to the
+	 * next level's screen.
+	 *
+	 * @param budgetTracker the tracker, or {@code null} if frames are not tracked
+	 */
+	public void setFrameBudgetTracker(FrameBudgetTracker budgetTracker) {
+		this.budgetTracker = budgetTracker;
+	}
+
+	/**
+	 * Creates a level by its class name and a screen showing it.
+	 *
+	 * @param levelClassName the fully qualified class name of the level
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth the width of the game screen
+	 * @param seed the seed of the level's random generator
+	 * @return the screen showing the new level
+	 * @throws ReflectiveOperationException if the level cannot be created
+	 */
+	public static LevelScreen forLevel(String levelClassName, double screenHeight, double screenWidth, long seed)
+			throws ReflectiveOperationException {
+		LevelParent level = (LevelParent) Class.forName(levelClassName)
+				.getConstructor(double.class, double.class, long.class)
+				.newInstance(screenHeight, screenWidth, seed);
+		return new LevelScreen(level);
+	}
+
+	/**
+	 * Creates a screen that plays a replay back instead of taking the player's input. The replay's
+	 * level is rebuilt from its header and fed the recorded commands tick for tick, at the recorded
+	 * tick length whatever the {@code skybattle.tickRate} property says.
+	 *
+	 * @param replay the replay to play
+	 * @return the screen showing the replayed level
+	 * @throws ReflectiveOperationException if the replay's level cannot be created
+	 */
+	public static LevelScreen forReplay(Replay replay) throws ReflectiveOperationException {
+		ReplayPlayer player = ReplayPlayer.of(replay);
+		LevelScreen screen = new LevelScreen(player.getLevel());
+		screen.replayPlayer = player;
+		screen.gameLoop.setTicksPerSecond(1 / replay.getSecondsPerTick());
+		player.getLevel().setSecondsPerTick(replay.getSecondsPerTick());
+		return screen;
+	}
+
+	/**
+	 * Initializes the scene with the background, the kill tracker, the heart display and the burst
+	 * ready text. The actors are already on the scene root.
+	 *
+	 * @return The fully initialized game scene.
+	 */
+	public Scene initializeScene() {
+		scene = new Scene(root, screenWidth, screenHeight);
+		initializeBackground();
+		initializeKillTracker();
+		if (renderMode == RenderMode.CANVAS) {
+			applyRenderMode();
+		}
+		initializeBurstReadyText();
+		levelView.showHeartDisplay();
+		if (theme.getMusicFileName() != null) {
+			initializeBackgroundMusic(theme.getMusicFileName());
+		}
+		return scene;
+	}
+
+	/**
+	 * Starts the game loop, which runs the level's due ticks on every rendered frame.
+	 */
+	public void startGame() {
+		background.requestFocus();
+		resumeGameLoop();
+	}
+
+	/**
+	 * Returns the level this screen shows.
+	 *
+	 * @return the level
+	 */
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	/**
+	 * Changes the number of simulation ticks per second. Actors move in pixels per second, so
+	 * movement speed is unchanged, but fire, spawn and shield chances are rolled once per tick and
+	 * change with the rate; see {@link LevelParent#setSecondsPerTick(double)}.
+	 *
+	 * @param ticksPerSecond the new tick rate
+	 */
+	public void setTickRate(double ticksPerSecond) {
+		gameLoop.setTicksPerSecond(ticksPerSecond);
+		level.setSecondsPerTick(gameLoop.getSecondsPerTick());
+	}
+
+	/**
+	 * Switches between showing every actor as its own scene graph node and drawing all actors
+	 * into one canvas per layer. Both modes show the same picture; the node mode is kept for comparison.
+	 *
+	 * @param renderMode the render mode to use from now on
+	 */
+	public void setRenderMode(RenderMode renderMode) {
+		if (this.renderMode != renderMode) {
+			this.renderMode = renderMode;
+			applyRenderMode();
+		}
+	}
+
+	/**
+	 * Returns how actors are currently put on screen.
+	 *
+	 * @return the render mode
+	 */
+	public RenderMode getRenderMode() {
+		return renderMode;
+	}
+
+	/**
+	 * Adds a sprite for a plane that has joined the level. A plane keeps one sprite for its whole
+	 * life, so a plane that already has one is shown with it. Projectiles are not actors and never
+	 * come through here; {@link ProjectileSprites} shows them straight from the projectile stores.
+	 *
+	 * @param actor the actor that has joined the level
+	 */
+	@Override
+	public void actorAdded(ActiveActorDestructible actor) {
+		ActorSprite sprite = actor.getView() instanceof ActorSprite existing ? existing : createSprite(actor);
+		sprite.render(1);
+		unitSprites.add(sprite);
+		if (renderMode == RenderMode.NODES) {
+			root.getChildren().add(sprite);
+		}
+		if (sprite instanceof BossSprite bossSprite) {
+			root.getChildren().addAll(bossSprite.getShieldImage(), bossSprite.getHealthBar());
+		}
+	}
+
+	/**
+	 * Drops the sprites of the actors that have left the level. The sprite lists are compacted in
+	 * place and the scene graph is updated with a single {@code removeAll} whose membership test is
+	 * constant-time, so the cost is linear in the number of sprites.
+	 *
+	 * @param actors the actors that have left the level
+	 */
+	@Override
+	public void actorsRemoved(Collection<ActiveActorDestructible> actors) {
+		unitSprites.removeIf(LevelScreen::showsDestroyedActor);
+		ObservableList<Node> children = root.getChildren();
+		if (renderMode == RenderMode.NODES) {
+			removedSprites.wrap(actors);
+			children.removeAll(removedSprites);
+			removedSprites.wrap(null);
+		}
+		for (ActiveActorDestructible actor : actors) {
+			if (actor.getView() instanceof BossSprite bossSprite) {
+				children.removeAll(bossSprite.getShieldImage(), bossSprite.getHealthBar());
+			}
+		}
+	}
+
+	private static boolean showsDestroyedActor(ActorSprite sprite) {
+		return ((ActiveActorDestructible) sprite.getActor()).isDestroyed();
+	}
+
+	private static ActorSprite createSprite(ActiveActorDestructible actor) {
+		return actor instanceof Boss boss ? new BossSprite(boss) : new ActorSprite(actor);
+	}
+
+	/**
+	 * Runs one level tick, fed from the replay when one is playing, and stops the game loop as soon as the level has ended so no
+	 * catch-up ticks run after it.
+	 */
+	private void tick() {
+		boolean timed = perfOverlay.isVisible() || watchdog != null;
+		long start = timed ? System.nanoTime() : 0;
+		if (replayPlayer != null) {
+			replayPlayer.tick();
+		} else {
+			level.updateScene();
+		}
+		if (timed) {
+			long nanos = System.nanoTime() - start;
+			if (perfOverlay.isVisible()) {
+				perfOverlay.tickTimed(nanos);
+			}
+			if (watchdog != null) {
+				watchdog.tickTimed(nanos);
+			}
+		}
+		if (stateHashes != null) {
+			recordStateHash();
+		}
+		if (level.getState() != LevelState.PLAYING) {
+			gameLoop.stop();
+		}
+	}
+
+	/**
+	 * Runs a frame's due ticks and renders it, timing both for the frame budget tracker.
+	 *
+	 * @param now the frame's timestamp, in nanoseconds
+	 */
+	private void runTrackedFrame(long now) {
+		budgetTracker.frameStarted();
+		long start = System.nanoTime();
+		gameLoop.advance(now);
+		long ticked = System.nanoTime();
+		renderFrame(gameLoop.getAlpha());
+		budgetTracker.frameEnded(ticked - start, System.nanoTime() - ticked);
+	}
+
+	/**
+	 * Brings the screen up to date with the level after the frame's ticks: draws the actors,
+	 * refreshes the status display, and shows the outcome once the level has ended.
+	 *
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 */
+	private void renderFrame(double alpha) {
+		renderActors(alpha);
+		updateHitboxOverlay();
+		updateLevelView();
+		updateKillTracker();
+		if (level.isBurstReady() && burstReadyText != null && !burstReadyText.isVisible()) {
+			showBurstReadyText();
+		}
+		if (level.getState() != LevelState.PLAYING && !levelEnded) {
+			levelEnded = true;
+			endLevel(level.getState());
+		}
+	}
+
+	/**
+	 * Moves the actors into the scene graph representation of the render mode:
+	 * one node per plane and projectile, or the layer canvases, placed directly above the background.
+	 */
+	private void applyRenderMode() {
+		ObservableList<Node> children = root.getChildren();
+		children.removeIf(ActorSprite.class::isInstance);
+		children.removeAll(unitLayer.getCanvas(), projectileLayer.getCanvas(),
+				userProjectileSprites.getGroup(), enemyProjectileSprites.getGroup());
+		int index = children.indexOf(background) + 1;
+		if (renderMode == RenderMode.CANVAS) {
+			children.addAll(index, List.of(unitLayer.getCanvas(), projectileLayer.getCanvas()));
+		} else {
+			List<Node> sprites = new ArrayList<>(unitSprites);
+			sprites.add(userProjectileSprites.getGroup());
+			sprites.add(enemyProjectileSprites.getGroup());
+			children.addAll(index, sprites);
+		}
+	}
+
+	/**
+	 * Reads the render mode from the {@code skybattle.renderMode} system property,
+	 * falling back to one node per actor.
+	 *
+	 * @return the configured render mode
+	 */
+	private static RenderMode configuredRenderMode() {
+		String value = System.getProperty(RENDER_MODE_PROPERTY);
+		if (value != null) {
+			try {
+				return RenderMode.valueOf(value.trim().toUpperCase());
+			} catch (IllegalArgumentException e) {
+				System.out.println("Invalid render mode " + value + ". Using default render mode.");
+			}
+		}
+		return RenderMode.NODES;
+	}
+
+	/**
+	 * Reads the tick rate from the {@code skybattle.tickRate} system property,
+	 * falling back to one tick every 30 milliseconds.
+	 *
+	 * @return the configured ticks per second
+	 */
+	private static double configuredTickRate() {
+		String value = System.getProperty(TICK_RATE_PROPERTY);
+		if (value != null) {
+			try {
+				double ticksPerSecond = Double.parseDouble(value);
+				if (ticksPerSecond > 0) {
+					return ticksPerSecond;
+				}
+			} catch (NumberFormatException e) {
+				// fall through to the default
+			}
+			System.out.println("Invalid tick rate " + value + ". Using default tick rate.");
+		}
+		return DEFAULT_TICKS_PER_SECOND;
+	}
+
+	/**
+	 * Draws every actor between its previous and current simulated positions.
+	 * Runs once per frame after the due ticks, so motion stays smooth when frames
+	 * outnumber ticks; the simulated positions are not modified.
+	 * In canvas mode the planes and the projectiles are then drawn into their layer canvases.
+	 *
+	 * @param alpha how far the simulation has progressed into the next tick, from 0 to 1
+	 */
+	void renderActors(double alpha) {
+		renderSprites(unitSprites, alpha);
+		userProjectileSprites.render(alpha);
+		enemyProjectileSprites.render(alpha);
+		if (renderMode == RenderMode.CANVAS) {
+			drawSprites(unitSprites, unitLayer);
+			userProjectileSprites.draw(projectileLayer);
+			enemyProjectileSprites.draw(projectileLayer);
+			unitLayer.flush();
+			projectileLayer.flush();
+		}
+	}
+
+	private void renderSprites(List<ActorSprite> sprites, double alpha) {
+		for (int i = 0; i < sprites.size(); i++) {
+			sprites.get(i).render(alpha);
+		}
+	}
+
+	private void drawSprites(List<ActorSprite> sprites, SpriteBatch layer) {
+		for (int i = 0; i < sprites.size(); i++) {
+			sprites.get(i).draw(layer);
+		}
+	}
+
+	/**
+	 * Outlines every actor's hitbox while the debug hitbox overlay is shown.
+	 */
+	private void updateHitboxOverlay() {
+		if (!hitboxOverlay.isVisible()) {
+			return;
+		}
+		hitboxOverlay.begin();
+		drawHitboxes(unitSprites);
+		userProjectileSprites.drawHitboxes(hitboxOverlay);
+		enemyProjectileSprites.drawHitboxes(hitboxOverlay);
+		hitboxOverlay.end();
+	}
+
+	private void drawHitboxes(List<ActorSprite> sprites) {
+		for (int i = 0; i < sprites.size(); i++) {
+			hitboxOverlay.draw(((ActiveActorDestructible) sprites.get(i).getActor()).getHitbox());
+		}
+	}
+
+	/**
+	 * Initializes the game background, sets event handlers for key and mouse events, and adds it
+	 * to the scene beneath the actors.
+	 */
+	private void initializeBackground() {
+		background.setFocusTraversable(true);
+		background.setFitHeight(screenHeight);
+		background.setFitWidth(screenWidth);
+
+		background.setOnKeyPressed(this::handleKeyPressed);
+		background.setOnKeyReleased(this::handleKeyReleased);
+		background.setOnMouseClicked(this::handleMouseClick);
+
+		root.getChildren().add(0, background);
+	}
+
+	/**
+	 * Starts the game's background music loop.
+	 *
+	 * @param musicFileName The file name of the background music to play.
+	 */
+	private void initializeBackgroundMusic(String musicFileName) {
+		try {
+			File musicFile = new File(getClass().getResource(musicFileName).toURI());
+			AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(musicFile);
+
+			backgroundMusicClip = AudioSystem.getClip();
+			backgroundMusicClip.open(audioInputStream);
+
+			backgroundMusicClip.loop(Clip.LOOP_CONTINUOUSLY);
+			backgroundMusicClip.start();
+		} catch (Exception e) {
+			System.out.println("Error initializing background music: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Handles the key pressed event for user input actions such as movement, shooting, and pausing.
+	 * T switches the tick profiler on and off and F3 the performance overlay. While a replay plays,
+	 * only the hitbox overlay, the profiler and the performance overlay can be toggled.
+	 *
+	 * @param e The key event triggered by the user.
+	 */
+	private void handleKeyPressed(KeyEvent e) {
+		KeyCode kc = e.getCode();
+
+		if (kc == KeyCode.H) {
+			hitboxOverlay.toggle();
+			updateHitboxOverlay();
+			return;
+		}
+		if (kc == KeyCode.T) {
+			profiler.toggle(level);
+			return;
+		}
+		if (kc == KeyCode.F3) {
+			perfOverlay.toggle();
+			return;
+		}
+		if (replayPlayer != null) {
+			return;
+		}
+		if (kc == KeyCode.P) {
+			level.togglePause();
+			togglePauseUI();
+			return;
+		}
+		if (!level.isPaused()) {
+			if (kc == KeyCode.UP || kc == KeyCode.W) {
+				level.moveUserUp();
+			}
+			if (kc == KeyCode.DOWN || kc == KeyCode.S) {
+				level.moveUserDown();
+			}
+
+			if (kc == KeyCode.SPACE && !spacebarPressed) {
+				level.fireProjectile();
+				spacebarPressed = true;
+			}
+
+			if (kc == KeyCode.B && !bKeyPressed && level.shootBurst()) {
+				bKeyPressed = true;
+				hideBurstReadyText();
+			}
+		}
+	}
+
+	/**
+	 * Toggles the pause UI visibility and pauses or resumes the game based on the current state.
+	 * This method updates the "PAUSED" text and stops/resumes the game loop accordingly.
+	 */
+	private void togglePauseUI() {
+		if (pauseText == null) {
+			initializePauseUI();
+		}
+		if (level.isPaused()) {
+			stopGameLoop();
+			pauseText.setVisible(true);
+			root.getChildren().add(pauseText);
+		} else {
+			resumeGameLoop();
+			pauseText.setVisible(false);
+			root.getChildren().remove(pauseText);
+		}
+	}
+
+	/**
+	 * Initializes the user interface elements for the pause functionality, including
+	 * the "PAUSED" text and its positioning on the screen. Called on the first pause, so
+	 * a level that is never shown does not need fonts or a graphics pipeline.
+	 */
+	private void initializePauseUI() {
+		pauseText = new Text("PAUSED");
+		pauseText.setFill(Color.WHITE);
+		pauseText.setFont(RetroFont(70));
+		pauseText.setVisible(false);
+		pauseText.setX(screenWidth / 2 - pauseText.getLayoutBounds().getWidth() / 2);
+		pauseText.setY(screenHeight / 2 + pauseText.getLayoutBounds().getHeight() / 4);
+	}
+
+	/**
+	 * Handles the key released event for user input actions like  movement and shooting.
+	 *
+	 * @param e The key event triggered when a key is released.
+	 */
+	private void handleKeyReleased(KeyEvent e) {
+		if (replayPlayer != null) {
+			return;
+		}
+		KeyCode kc = e.getCode();
+
+		if (kc == KeyCode.UP || kc == KeyCode.W || kc == KeyCode.DOWN || kc == KeyCode.S) {
+			level.stopUser();
+		}
+
+		if (kc == KeyCode.SPACE) {
+			spacebarPressed = false;
+		}
+
+		if (kc == KeyCode.B) {
+			bKeyPressed = false;
+		}
+	}
+
+	/**
+	 * Handles mouse click events to trigger projectile firing.
+	 *
+	 * @param e The mouse event triggered by a click.
+	 */
+	private void handleMouseClick(MouseEvent e) {
+		if (e.getButton() == MouseButton.PRIMARY && replayPlayer == null) {
+			level.fireProjectile();
+		}
+	}
+
+	/**
+	 * Stops the game loop. No further ticks run, even if the current frame still had ticks to catch up.
+	 */
+	private void stopGameLoop() {
+		gameLoop.stop();
+		frameTimer.stop();
+		if (watchdog != null) {
+			watchdog.idle();
+		}
+	}
+
+	/**
+	 * Restarts the game loop without catching up on the time it was stopped for.
+	 */
+	private void resumeGameLoop() {
+		gameLoop.start();
+		frameTimer.start();
+	}
+
+	/**
+	 * Updates the level view UI to reflect changes in the game state.
+	 */
+	private void updateLevelView() {
+		levelView.removeHearts(level.getUser().getHealth());
+	}
+
+	/**
+	 * Initializes the kill tracker for levels that show one.
+	 */
+	private void initializeKillTracker() {
+		Color color = theme.getKillTrackerColor();
+		if (color == null) {
+			return;
+		}
+		killTracker = new Text("KILLTRACKER:" + level.getUser().getNumberOfKills());
+		killTracker.setFill(color);
+		killTracker.setFont(RetroFont(23));
+		killTracker.setX(screenWidth - 400);
+		killTracker.setY(75);
+		root.getChildren().add(killTracker);
+	}
+
+	/**
+	 * Updates the kill count displayed on the kill tracker when the user has earned kills.
+	 */
+	private void updateKillTracker() {
+		int kills = level.getUser().getNumberOfKills();
+		if (killTracker != null && kills != shownKills) {
+			shownKills = kills;
+			killTracker.setText("KILLTRACKER: " + kills);
+		}
+	}
+
+	/**
+	 * Shows the outcome of a level that has just ended, saving its replay, closing its state hash
+	 * file and printing its tick profile first when they are being kept.
+	 *
+	 * @param state the state the level ended in
+	 */
+	private void endLevel(LevelState state) {
+		stopGameLoop();
+		saveReplay();
+		closeStateHashes();
+		printProfile();
+		switch (state) {
+			case WON -> winGame();
+			case LOST -> loseGame();
+			default -> clearLevel();
+		}
+	}
+
+	/**
+	 * Prints the tick profile of the level to standard output, if the profiler recorded any ticks,
+	 * and stops profiling.
+	 */
+	private void printProfile() {
+		profiler.detach();
+		if (profiler.getTickHistogram().getCount() > 0) {
+			profiler.print(level.getClass().getSimpleName(), System.out);
+		}
+	}
+
+	/**
+	 * Saves the recorded replay of the level into the directory named by the
+	 * {@code skybattle.recordReplays} system property, if recording is on.
+	 */
+	private void saveReplay() {
+		if (replayRecorder == null) {
+			return;
+		}
+		Path directory = Path.of(System.getProperty(RECORD_REPLAYS_PROPERTY));
+		Path file = directory.resolve(level.getClass().getSimpleName() + "-" + level.getSeed() + Replay.FILE_EXTENSION);
+		try {
+			Files.createDirectories(directory);
+			replayRecorder.toReplay().write(file);
+			System.out.println("Replay saved to " + file);
+		} catch (IOException e) {
+			System.out.println("Error saving replay: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Opens the file the level's per-tick state hashes are written to, in the directory named by the
+	 * {@code skybattle.stateHashes} system property.
+	 *
+	 * @return the hash writer, or {@code null} if the file cannot be created
+	 */
+	private StateHashWriter openStateHashes() {
+		Path directory = Path.of(System.getProperty(STATE_HASHES_PROPERTY));
+		Path file = directory.resolve(level.getClass().getSimpleName() + "-" + level.getSeed() + StateHashWriter.FILE_EXTENSION);
+		try {
+			Files.createDirectories(directory);
+			return StateHashWriter.create(file);
+		} catch (IOException e) {
+			System.out.println("Error creating state hash file: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the state hash of the tick that has just run, and stops hashing if the file cannot be written.
+	 */
+	private void recordStateHash() {
+		try {
+			stateHashes.record(level);
+		} catch (IOException e) {
+			System.out.println("Error writing state hash: " + e.getMessage());
+			closeStateHashes();
+		}
+	}
+
+	/**
+	 * Closes the state hash file, if one is open.
+	 */
+	private void closeStateHashes() {
+		if (stateHashes == null) {
+			return;
+		}
+		try {
+			stateHashes.close();
+		} catch (IOException e) {
+			System.out.println("Error closing state hash file: " + e.getMessage());
+		}
+		stateHashes = null;
+	}
+
+	/**
+	 * Handles the actions required when the player wins the game.
+	 * Stops the background music, removes UI elements, and displays the win screen.
+	 */
+	private void winGame() {
+		stopBackgroundMusic();
+		root.getChildren().remove(burstReadyText);
+		hideBurstReadyText();
+		levelView.showWinImage();
+	}
+
+	/**
+	 * Handles the actions required when the player loses the game.
+	 * Stops the background music, removes UI elements, and displays the game over screen.
+	 */
+	private void loseGame() {
+		stopBackgroundMusic();
+		hideBurstReadyText();
+		levelView.showGameOverImage();
+	}
+
+	/**
+	 * Shows the level cleared message, then transitions to the next level after a short pause.
+	 */
+	private void clearLevel() {
+		showLevelClearedMessage();
+		hideBurstReadyText();
+		PauseTransition pause = new PauseTransition(LEVEL_CLEARED_DELAY);
+		pause.setOnFinished(e -> {
+			Stage stage = (Stage) root.getScene().getWindow();
+			transitionToNextLevel(
+					stage,
+					level.getNextLevelClassName(),
+					theme.getTransitionImageName(),
+					theme.getTransitionDuration()
+			);
+		});
+		pause.play();
+	}
+
+	/**
+	 * Displays a "Level Cleared!" message on the screen with the level's own animation.
+	 */
+	private void showLevelClearedMessage() {
+		Text levelClearedMessage = new Text("Level Cleared!");
+		levelClearedMessage.setFont(RetroFont(60));
+		levelClearedMessage.setFill(theme.getClearedMessageColor());
+		double textWidth = levelClearedMessage.getBoundsInLocal().getWidth();
+		double textHeight = levelClearedMessage.getBoundsInLocal().getHeight();
+		levelClearedMessage.setX((screenWidth - textWidth) / 2);
+		levelClearedMessage.setY((screenHeight + textHeight) / 2);
+
+		root.getChildren().add(levelClearedMessage);
+
+		theme.animateClearedMessage(levelClearedMessage).play();
+	}
+
+	/**
+	 * Stops the background music if it is currently playing and closes the audio clip.
+	 */
+	private void stopBackgroundMusic() {
+		if (backgroundMusicClip != null && backgroundMusicClip.isRunning()) {
+			backgroundMusicClip.stop();
+			backgroundMusicClip.close();
+		}
+	}
+
+	/**
+	 * Returns the root group of the level's scene.
+	 *
+	 * @return the scene root
+	 */
+	Group getRoot() {
+		return root;
+	}
+
+	/**
+	 * Initializes the burst ready text UI element that shows when the player can shoot a burst of projectiles.
+	 */
+	private void initializeBurstReadyText() {
+		burstReadyText = new Text("BURST READY! PRESS [B]");
+		burstReadyText.setFill(Color.LIGHTGREEN);
+		burstReadyText.setFont(RetroFont(20));
+		burstReadyText.setX((screenWidth - burstReadyText.getLayoutBounds().getWidth()) / 2);
+		burstReadyText.setY(50);
+		burstReadyText.setVisible(true);
+		burstReadyText.setStyle("-fx-effect: dropshadow(gaussian, limegreen, 10, 0.5, 0, 0);");
+		root.getChildren().add(burstReadyText);
+
+		blinkAnimation = new Timeline(
+				new KeyFrame(Duration.seconds(0.5), e -> burstReadyText.setOpacity(1)),
+				new KeyFrame(Duration.seconds(1), e -> burstReadyText.setOpacity(0))
+		);
+		blinkAnimation.setCycleCount(Timeline.INDEFINITE);
+	}
+
+	/**
+	 * Displays the burst ready text when the player can shoot again after the burst cooldown period.
+	 */
+	private void showBurstReadyText() {
+		burstReadyText.setVisible(true);
+		blinkAnimation.play();
+	}
+
+	/**
+	 * Hides the burst ready text after the player uses the burst shot and during the cooldown period.
+	 */
+	private void hideBurstReadyText() {
+		if (burstReadyText != null) {
+			burstReadyText.setVisible(false);
+			blinkAnimation.stop();
+		}
+	}
+
+	/**
+	 * Loads a retro-style font from a specified file.
+	 *
+	 * @param size the size of the font.
+	 * @return the loaded font, or a default font if loading fails.
+	 */
+	public Font RetroFont(double size) {
+		try {
+			URL fontURL = getClass().getResource("/Fonts/font.ttf");
+			if (fontURL != null) {
+				return Font.loadFont(fontURL.toExternalForm(), size);
+			} else {
+				System.out.println("Font not found. Using default font.");
+				return Font.font("Arial", size);
+			}
+		} catch (Exception e) {
+			System.out.println("Error loading font. Using default font.");
+			return Font.font("Arial", size);
+		}
+	}
+
+	/**
+	 * Transitions the game to the next level with a screen fade effect. The next level is seeded
+	 * from this one, so the whole run follows from the first level's seed. Loading it is timed by a
+	 * {@link LevelTransitionEvent} when a flight recording wants one, counted in the metrics when
+	 * they are being kept, and watched for stalls and counted against the frame budget until the next
+	 * level's first frame. If the next level cannot be loaded, the error is logged and shown in an alert.
+	 *
+	 * @param stage the game stage.
+	 * @param nextLevelClassName the class name of the next level.
+	 * @param transitionImagePath the path to the transition image.
+	 * @param transitionDuration the duration of the transition effect.
+	 */
+	private void transitionToNextLevel(Stage stage, String nextLevelClassName, String transitionImagePath, Duration transitionDuration) {
+		showTransitionScreen(
+				stage,
+				transitionImagePath,
+				transitionDuration,
+				() -> {
+					try {
+						if (watchdog != null) {
+							watchdog.beat();
+						}
+						if (budgetTracker != null) {
+							budgetTracker.levelLoading();
+						}
+						LevelTransitionEvent event = LevelTransitionEvent.beginIfEnabled();
+						long loadStart = System.nanoTime();
+						LevelScreen nextScreen = forLevel(nextLevelClassName, stage.getHeight(), stage.getWidth(),
+								level.getNextLevelSeed());
+						nextScreen.setMetrics(metrics);
+						nextScreen.setStallWatchdog(watchdog);
+						nextScreen.setFrameBudgetTracker(budgetTracker);
+						stage.setScene(nextScreen.initializeScene());
+						nextScreen.startGame();
+						if (event != null) {
+							event.finish(level.getClass().getName(), nextLevelClassName, level.getNextLevelSeed());
+						}
+						if (metrics != null) {
+							metrics.levelTransitioned(System.nanoTime() - loadStart);
+						}
+					} catch (Exception e) {
+						System.out.println("Error loading level " + nextLevelClassName + ": " + e);
+						e.printStackTrace();
+						Alert alert = new Alert(AlertType.ERROR);
+						alert.setContentText("Could not load the next level: " + e);
+						alert.show();
+					}
+				}
+		);
+	}
+
+	/**
+	 * Displays a transition screen with an image before progressing to the next level.
+	 *
+	 * @param stage the game stage.
+	 * @param imagePath the path to the transition image.
+	 * @param duration the duration of the transition effect.
+	 * @param onComplete a Runnable to execute after the transition completes.
+	 */
+	private void showTransitionScreen(Stage stage, String imagePath, Duration duration, Runnable onComplete) {
+		ImageView transitionImage = new ImageView(ImageCache.get(imagePath));
+		transitionImage.setFitWidth(stage.getWidth());
+		transitionImage.setFitHeight(stage.getHeight());
+		transitionImage.setPreserveRatio(false);
+
+		Pane transitionPane = new Pane(transitionImage);
+		Scene transitionScene = new Scene(transitionPane);
+
+		stage.setScene(transitionScene);
+		stage.show();
+
+		PauseTransition pause = new PauseTransition(duration);
+		pause.setOnFinished(e -> onComplete.run());
+		pause.play();
+	}
+
+	/**
+	 * The sprites of the actors removed in one tick, as seen by the scene graph. Its membership test
+	 * asks the level's removal batch, which answers in constant time, so one {@code removeAll} drops
+	 * every such sprite in a single pass. One instance is reused for every tick.
+	 */
+	private static final class RemovedSprites extends AbstractCollection<Node> {
+
+		/** The actors removed in the current tick, or {@code null} between ticks. */
+		private Collection<ActiveActorDestructible> actors;
+
+		void wrap(Collection<ActiveActorDestructible> actors) {
+			this.actors = actors;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return o instanceof ActorSprite sprite && actors.contains(sprite.getActor());
+		}
+
+		@Override
+		public int size() {
+			return actors.size();
+		}
+
+		@Override
+		public Iterator<Node> iterator() {
+			Iterator<ActiveActorDestructible> removed = actors.iterator();
+			return new Iterator<>() {
+				@Override
+				public boolean hasNext() {
+					return removed.hasNext();
+				}
+
+				@Override
+				public Node next() {
+					return (Node) removed.next().getView();
+				}
+			};
+		}
+	}
+}
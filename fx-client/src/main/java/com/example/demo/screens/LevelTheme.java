@@ -0,0 +1,209 @@
+package com.example.demo.screens;
+
+import com.example.demo.display.BonusLevelView;
+import com.example.demo.display.LevelView;
+import com.example.demo.display.LevelViewBoss;
+import com.example.demo.levels.BonusLevel;
+import com.example.demo.levels.LevelBoss;
+import com.example.demo.levels.LevelOne;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelThree;
+import com.example.demo.levels.LevelTwo;
+import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
+import javafx.animation.RotateTransition;
+import javafx.animation.ScaleTransition;
+import javafx.animation.TranslateTransition;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
+import javafx.util.Duration;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * How each level looks and sounds: its background, its status view, its kill tracker,
+ * the animation of its "Level Cleared!" message, the screen shown on the way to the next level,
+ * and its music. The rules of each level live in the core module; this is everything else.
+ */
+public enum LevelTheme {
+
+	/** The arctic level, with a rotating cleared message and background music. */
+	LEVEL_ONE(LevelOne.class, "/com/example/demo/images/arctic.png", LevelView::new,
+			Color.PALEVIOLETRED, Color.PALEVIOLETRED, LevelTheme::rotate,
+			"/com/example/demo/images/leveltwo.jpg", Duration.seconds(3),
+			"/com/example/demo/images/backgroundmusic.wav"),
+
+	/** The desert level, with a cleared message sweeping across the screen. */
+	LEVEL_TWO(LevelTwo.class, "/com/example/demo/images/desert.png", LevelView::new,
+			Color.HONEYDEW, Color.GHOSTWHITE, LevelTheme::shimmer,
+			"/com/example/demo/images/levelthree.jpg", Duration.seconds(3), null),
+
+	/** The jungle level, with a pulsing cleared message. */
+	LEVEL_THREE(LevelThree.class, "/com/example/demo/images/jungle.png", LevelView::new,
+			Color.HONEYDEW, Color.GHOSTWHITE, LevelTheme::pulse,
+			"/com/example/demo/images/bosslevel.jpg", Duration.seconds(5), null),
+
+	/** The boss level, with a blinking cleared message and no kill tracker. */
+	LEVEL_BOSS(LevelBoss.class, "/com/example/demo/images/bossbackground.jpg", LevelViewBoss::new,
+			null, Color.GHOSTWHITE, LevelTheme::fade,
+			"/com/example/demo/images/bonuslevel.jpg", Duration.seconds(3), null),
+
+	/** The bonus level, which ends the game with the win screen. */
+	BONUS_LEVEL(BonusLevel.class, "/com/example/demo/images/bonusbackground.jpg", BonusLevelView::new,
+			null, Color.GHOSTWHITE, LevelTheme::fade, null, Duration.ZERO, null);
+
+	private final Class<? extends LevelParent> levelClass;
+	private final String backgroundImageName;
+	private final BiFunction<Group, Integer, LevelView> levelViewFactory;
+	private final Color killTrackerColor;
+	private final Color clearedMessageColor;
+	private final Function<Text, Animation> clearedMessageAnimation;
+	private final String transitionImageName;
+	private final Duration transitionDuration;
+	private final String musicFileName;
+
+	LevelTheme(Class<? extends LevelParent> levelClass, String backgroundImageName,
+			   BiFunction<Group, Integer, LevelView> levelViewFactory, Color killTrackerColor,
+			   Color clearedMessageColor, Function<Text, Animation> clearedMessageAnimation,
+			   String transitionImageName, Duration transitionDuration, String musicFileName) {
+		this.levelClass = levelClass;
+		this.backgroundImageName = backgroundImageName;
+		this.levelViewFactory = levelViewFactory;
+		this.killTrackerColor = killTrackerColor;
+		this.clearedMessageColor = clearedMessageColor;
+		this.clearedMessageAnimation = clearedMessageAnimation;
+		this.transitionImageName = transitionImageName;
+		this.transitionDuration = transitionDuration;
+		this.musicFileName = musicFileName;
+	}
+
+	/**
+	 * Finds the theme of a level.
+	 *
+	 * @param level the level to show
+	 * @return the level's theme
+	 * @throws IllegalArgumentException if no theme belongs to the level's class
+	 */
+	public static LevelTheme of(LevelParent level) {
+		for (LevelTheme theme : values()) {
+			if (theme.levelClass == level.getClass()) {
+				return theme;
+			}
+		}
+		throw new IllegalArgumentException("No theme for " + level.getClass().getName());
+	}
+
+	/**
+	 * Returns the path to the level's background image.
+	 *
+	 * @return the background image path
+	 */
+	public String getBackgroundImageName() {
+		return backgroundImageName;
+	}
+
+	/**
+	 * Creates the view showing the player's hearts and the outcome screens.
+	 *
+	 * @param root the root group of the level's scene
+	 * @param heartsToDisplay the initial number of hearts to display
+	 * @return the level view
+	 */
+	public LevelView createLevelView(Group root, int heartsToDisplay) {
+		return levelViewFactory.apply(root, heartsToDisplay);
+	}
+
+	/**
+	 * Returns the colour of the kill tracker.
+	 *
+	 * @return the kill tracker colour, or {@code null} if the level shows no kill tracker
+	 */
+	public Color getKillTrackerColor() {
+		return killTrackerColor;
+	}
+
+	/**
+	 * Returns the colour of the "Level Cleared!" message.
+	 *
+	 * @return the cleared message colour
+	 */
+	public Color getClearedMessageColor() {
+		return clearedMessageColor;
+	}
+
+	/**
+	 * Creates the endless animation played on the "Level Cleared!" message.
+	 *
+	 * @param message the cleared message
+	 * @return the animation, not yet started
+	 */
+	public Animation animateClearedMessage(Text message) {
+		return clearedMessageAnimation.apply(message);
+	}
+
+	/**
+	 * Returns the path to the image shown on the way to the next level.
+	 *
+	 * @return the transition image path, or {@code null} for the last level
+	 */
+	public String getTransitionImageName() {
+		return transitionImageName;
+	}
+
+	/**
+	 * Returns how long the transition image is shown for.
+	 *
+	 * @return the transition duration
+	 */
+	public Duration getTransitionDuration() {
+		return transitionDuration;
+	}
+
+	/**
+	 * Returns the path to the level's background music.
+	 *
+	 * @return the music file path, or {@code null} if the level is silent
+	 */
+	public String getMusicFileName() {
+		return musicFileName;
+	}
+
+	private static Animation rotate(Text message) {
+		RotateTransition rotateTransition = new RotateTransition(Duration.seconds(5), message);
+		rotateTransition.setByAngle(360);
+		rotateTransition.setCycleCount(RotateTransition.INDEFINITE);
+		rotateTransition.setAutoReverse(true);
+		return rotateTransition;
+	}
+
+	private static Animation shimmer(Text message) {
+		TranslateTransition shimmerTransition = new TranslateTransition(Duration.seconds(5), message);
+		shimmerTransition.setFromX(-message.getBoundsInLocal().getWidth());
+		shimmerTransition.setToX(message.getScene() != null ? message.getScene().getWidth() : 0);
+		shimmerTransition.setCycleCount(TranslateTransition.INDEFINITE);
+		shimmerTransition.setAutoReverse(true);
+		return shimmerTransition;
+	}
+
+	private static Animation pulse(Text message) {
+		ScaleTransition scaleTransition = new ScaleTransition(Duration.seconds(0.5), message);
+		scaleTransition.setFromX(0.5);
+		scaleTransition.setFromY(0.5);
+		scaleTransition.setToX(1.5);
+		scaleTransition.setToY(1.5);
+		scaleTransition.setCycleCount(ScaleTransition.INDEFINITE);
+		scaleTransition.setAutoReverse(true);
+		return scaleTransition;
+	}
+
+	private static Animation fade(Text message) {
+		FadeTransition fadeTransition = new FadeTransition(Duration.seconds(0.5), message);
+		fadeTransition.setFromValue(1.0);
+		fadeTransition.setToValue(0.0);
+		fadeTransition.setCycleCount(FadeTransition.INDEFINITE);
+		fadeTransition.setAutoReverse(true);
+		return fadeTransition;
+	}
+}
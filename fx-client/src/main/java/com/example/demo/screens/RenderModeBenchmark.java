@@ -0,0 +1,105 @@
+package com.example.demo.screens;
+
+import com.example.demo.display.ImageCache;
+import com.example.demo.display.RenderMode;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.objects.EnemyPlane;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Compares the per-frame cost of showing actors as one node each against drawing them into layer
+ * canvases, for growing actor counts, and prints the average microseconds per frame of each mode.
+ * Run it from the fx-client module, e.g. {@code java -p <module path> -m
+ * com.example.demo/com.example.demo.screens.RenderModeBenchmark}; the actor counts can be given as
+ * arguments and default to 100, 1000 and 10000.
+ * <p>
+ * A frame is timed as the screen's render step plus the bounds pass the scene graph runs on every
+ * pulse. The level runs a single tick first and then stands still, so every frame shows all the
+ * actors, interpolated at alternating points between their last two positions. Images are replaced
+ * by 1x1 placeholders and rasterisation happens on the render thread, so neither is part of the
+ * measurement; the JavaFX toolkit does not have to be running.
+ */
+public final class RenderModeBenchmark {
+
+	private static final int[] DEFAULT_ACTOR_COUNTS = {100, 1000, 10000};
+	private static final int WARM_UP_FRAMES = 200;
+	private static final int FRAMES = 500;
+
+	private RenderModeBenchmark() {
+	}
+
+	/**
+	 * Times both render modes at every actor count and prints one row per count.
+	 *
+	 * @param args the actor counts to time, or none for the defaults
+	 */
+	public static void main(String[] args) {
+		int[] actorCounts = DEFAULT_ACTOR_COUNTS;
+		if (args.length > 0) {
+			actorCounts = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				actorCounts[i] = Integer.parseInt(args[i]);
+			}
+		}
+		ImageCache.setDecoder((resourcePath, requestedWidth, requestedHeight) -> new WritableImage(1, 1));
+		try {
+			System.out.printf("%-8s %-16s %-16s%n", "actors", "nodes us/frame", "canvas us/frame");
+			for (int actorCount : actorCounts) {
+				System.out.printf("%-8d %-16.1f %-16.1f%n", actorCount,
+						averageFrameMicros(actorCount, RenderMode.NODES),
+						averageFrameMicros(actorCount, RenderMode.CANVAS));
+			}
+		} finally {
+			ImageCache.useClasspathDecoder();
+		}
+	}
+
+	/**
+	 * Shows a fixed wave of enemies in one render mode and returns the average time of a frame.
+	 *
+	 * @param actorCount the number of enemies on screen
+	 * @param renderMode the render mode to time
+	 * @return the average frame time in microseconds, after warming up
+	 */
+	private static double averageFrameMicros(int actorCount, RenderMode renderMode) {
+		FixedWaveLevel level = new FixedWaveLevel(actorCount);
+		LevelScreen screen = new LevelScreen(level, LevelTheme.LEVEL_THREE);
+		screen.setRenderMode(renderMode);
+		level.updateScene();
+		long totalNanos = 0;
+		for (int frame = -WARM_UP_FRAMES; frame < FRAMES; frame++) {
+			long start = System.nanoTime();
+			screen.renderActors((frame & 1) == 0 ? 0.25 : 0.75);
+			screen.getRoot().getBoundsInParent();
+			long elapsed = System.nanoTime() - start;
+			if (frame >= 0) {
+				totalNanos += elapsed;
+			}
+		}
+		return totalNanos / 1000.0 / FRAMES;
+	}
+
+	/**
+	 * A level holding a fixed set of enemy planes spread over the screen, with no spawning and no end.
+	 */
+	private static final class FixedWaveLevel extends LevelParent {
+
+		private static final int PLAYER_INITIAL_HEALTH = 5;
+		private static final long SEED = 5;
+
+		FixedWaveLevel(int enemyCount) {
+			super(650, 1300, PLAYER_INITIAL_HEALTH, SEED);
+			for (int i = 0; i < enemyCount; i++) {
+				addEnemyUnit(new EnemyPlane(300 + (i * 37) % 1000, (i * 53) % 500, getRandom()));
+			}
+		}
+
+		@Override
+		protected void checkIfGameOver() {
+		}
+
+		@Override
+		protected void spawnEnemyUnits() {
+		}
+	}
+}
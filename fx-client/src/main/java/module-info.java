@@ -1,17 +1,17 @@
 module com.example.demo {
+    requires com.example.demo.core;
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
+    requires java.management;
+    requires jdk.management;
 
 
-    opens com.example.demo to javafx.fxml;
-    exports com.example.demo;
     exports com.example.demo.controller;
-    opens com.example.demo.levels to javafx.fxml;
-    exports com.example.demo.levels;
-    exports com.example.demo.objects;
-    opens com.example.demo.objects to javafx.fxml;
+    exports com.example.demo.diagnostics;
     opens com.example.demo.controller to javafx.fxml;
     exports com.example.demo.display;
     opens com.example.demo.display to javafx.fxml;
-}
\ No newline at end of file
+    exports com.example.demo.screens;
+    opens com.example.demo.screens to javafx.fxml;
+}
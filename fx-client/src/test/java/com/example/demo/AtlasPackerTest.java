@@ -0,0 +1,56 @@
+package com.example.demo;
+
+import com.example.demo.display.AtlasPacker;
+import com.example.demo.display.AtlasRegion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtlasPackerTest {
+
+    @Test
+    void regionsStayInsideTheAtlasAndNeverOverlap() {
+        AtlasPacker packer = new AtlasPacker(512, 2);
+        for (int i = 0; i < 40; i++) {
+            packer.add("sprite" + i, 10 + (i * 37) % 120, 8 + (i * 53) % 90);
+        }
+        Map<String, AtlasRegion> regions = packer.pack();
+
+        List<AtlasRegion> placed = new ArrayList<>(regions.values());
+        assertEquals(40, placed.size());
+        for (int i = 0; i < placed.size(); i++) {
+            AtlasRegion region = placed.get(i);
+            assertTrue(region.x() >= 2 && region.y() >= 2);
+            assertTrue(region.x() + region.width() + 2 <= packer.getWidth());
+            assertTrue(region.y() + region.height() + 2 <= packer.getHeight());
+            for (int j = i + 1; j < placed.size(); j++) {
+                assertFalse(region.overlaps(placed.get(j)), region + " overlaps " + placed.get(j));
+            }
+        }
+    }
+
+    @Test
+    void keepsSpriteSizesAndInsertionOrder() {
+        AtlasPacker packer = new AtlasPacker(100, 0);
+        packer.add("short", 60, 10);
+        packer.add("tall", 60, 40);
+        Map<String, AtlasRegion> regions = packer.pack();
+
+        assertEquals(List.of("short", "tall"), new ArrayList<>(regions.keySet()));
+        assertEquals(new AtlasRegion(0, 0, 60, 40), regions.get("tall"));
+        assertEquals(new AtlasRegion(0, 40, 60, 10), regions.get("short"));
+        assertEquals(60, packer.getWidth());
+        assertEquals(50, packer.getHeight());
+    }
+
+    @Test
+    void rejectsSpritesWiderThanTheAtlas() {
+        AtlasPacker packer = new AtlasPacker(100, 2);
+
+        assertThrows(IllegalArgumentException.class, () -> packer.add("wide", 97, 10));
+    }
+}
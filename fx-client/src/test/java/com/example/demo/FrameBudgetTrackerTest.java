@@ -0,0 +1,94 @@
+package com.example.demo;
+
+import com.example.demo.diagnostics.FrameBudgetTracker;
+import com.example.demo.diagnostics.FrameBudgetTracker.MissCause;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameBudgetTrackerTest {
+
+    private static final double BUDGET_MILLIS = 10;
+    private static final long OVER_BUDGET_NANOS = 25_000_000;
+
+    @Test
+    void framesWithinBudgetAreNotMisses() {
+        try (FrameBudgetTracker tracker = new FrameBudgetTracker(BUDGET_MILLIS)) {
+            for (int frame = 0; frame < 10; frame++) {
+                tracker.frameStarted();
+                tracker.frameEnded(2_000_000, 3_000_000);
+            }
+
+            assertEquals(10, tracker.getFrames());
+            assertEquals(0, totalMisses(tracker.getMisses()));
+        }
+    }
+
+    @Test
+    void slowFrameWithACollectionIsAttributedToGc() throws InterruptedException {
+        try (FrameBudgetTracker tracker = new FrameBudgetTracker(BUDGET_MILLIS)) {
+            tracker.frameStarted();
+            System.gc();
+            tracker.frameEnded(0, OVER_BUDGET_NANOS);
+
+            Map<MissCause, Integer> misses = tracker.getMisses();
+            assertEquals(1, misses.get(MissCause.GC_PAUSE));
+            assertEquals(1, totalMisses(misses));
+
+            long giveUp = System.currentTimeMillis() + 5_000;
+            while (tracker.getPauseCount() == 0 && System.currentTimeMillis() < giveUp) {
+                Thread.sleep(5);
+            }
+            assertTrue(tracker.getPauseCount() > 0);
+        }
+    }
+
+    @Test
+    void onlyTheFirstFrameAfterALevelLoadIsPartOfTheTransition() {
+        try (FrameBudgetTracker tracker = new FrameBudgetTracker(BUDGET_MILLIS)) {
+            tracker.levelLoading();
+            tracker.frameStarted();
+            tracker.frameEnded(OVER_BUDGET_NANOS, 0);
+            Map<MissCause, Integer> afterLoad = tracker.getMisses();
+            assertEquals(1, totalMisses(afterLoad));
+            assertEquals(0, afterLoad.get(MissCause.GAME_CODE));
+
+            tracker.frameStarted();
+            tracker.frameEnded(OVER_BUDGET_NANOS, 0);
+            Map<MissCause, Integer> misses = tracker.getMisses();
+            assertEquals(2, totalMisses(misses));
+            assertEquals(afterLoad.get(MissCause.LEVEL_TRANSITION), misses.get(MissCause.LEVEL_TRANSITION));
+        }
+    }
+
+    @Test
+    void reportListsEveryCause() {
+        try (FrameBudgetTracker tracker = new FrameBudgetTracker(BUDGET_MILLIS)) {
+            tracker.frameStarted();
+            tracker.frameEnded(1_000_000, 1_000_000);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            tracker.print(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+            String report = bytes.toString(StandardCharsets.UTF_8);
+
+            assertTrue(report.startsWith("Frame budget 10.0 ms: 0 of 1 frames over budget"), report);
+            for (MissCause cause : MissCause.values()) {
+                assertTrue(report.contains(cause.getLabel()), report);
+            }
+            assertTrue(report.contains("GC pauses: "), report);
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new FrameBudgetTracker(0));
+    }
+
+    private static int totalMisses(Map<MissCause, Integer> misses) {
+        return misses.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
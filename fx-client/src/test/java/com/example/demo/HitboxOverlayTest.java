@@ -0,0 +1,53 @@
+package com.example.demo;
+
+import com.example.demo.collision.Aabb;
+import com.example.demo.display.HitboxOverlay;
+import javafx.scene.Group;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HitboxOverlayTest {
+
+    @Test
+    void noOutlinesWhileHidden() {
+        Group root = new Group();
+        HitboxOverlay overlay = new HitboxOverlay(root);
+
+        assertFalse(overlay.isVisible());
+        assertEquals(0, overlay.getOutlineCount());
+        assertTrue(root.getChildren().isEmpty());
+    }
+
+    @Test
+    void outlinesAreReusedBetweenFrames() {
+        Group root = new Group();
+        HitboxOverlay overlay = new HitboxOverlay(root);
+        overlay.toggle();
+
+        for (int frame = 0; frame < 10; frame++) {
+            overlay.begin();
+            overlay.draw(new Aabb(frame, 0, 10, 10));
+            overlay.draw(new Aabb(0, frame, 10, 10));
+            overlay.end();
+        }
+
+        assertEquals(2, overlay.getOutlineCount());
+        assertEquals(1, root.getChildren().size());
+    }
+
+    @Test
+    void toggleOffReleasesOutlines() {
+        Group root = new Group();
+        HitboxOverlay overlay = new HitboxOverlay(root);
+        overlay.toggle();
+        overlay.begin();
+        overlay.draw(new Aabb(0, 0, 10, 10));
+        overlay.end();
+
+        overlay.toggle();
+
+        assertEquals(0, overlay.getOutlineCount());
+        assertTrue(root.getChildren().isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo;
+
+import com.example.demo.display.ActorSprite;
+import com.example.demo.display.ImageCache;
+import com.example.demo.display.ProjectileSprites;
+import com.example.demo.objects.EntityStore;
+import com.example.demo.objects.UserPlane;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageCacheTest {
+
+    private final Map<String, Integer> decodes = new HashMap<>();
+
+    @BeforeEach
+    void installCountingDecoder() {
+        ImageCache.setDecoder((resourcePath, requestedWidth, requestedHeight) -> {
+            decodes.merge(resourcePath, 1, Integer::sum);
+            return new WritableImage(1, 1);
+        });
+    }
+
+    @AfterEach
+    void restoreDecoder() {
+        ImageCache.useClasspathDecoder();
+    }
+
+    @Test
+    void firingThousandShotsDecodesUserFireOnce() {
+        UserPlane plane = new UserPlane(5);
+        EntityStore shots = new EntityStore();
+        ProjectileSprites sprites = new ProjectileSprites(shots);
+        new ActorSprite(plane);
+        for (int i = 0; i < 1000; i++) {
+            plane.fireProjectile(shots);
+        }
+        sprites.render(1);
+
+        assertEquals(1000, sprites.getShownCount());
+        assertEquals(1, decodes.get("/com/example/demo/images/userfire.png"));
+        assertEquals(1, decodes.get("/com/example/demo/images/userplane.png"));
+    }
+
+    @Test
+    void getReturnsSharedImage() {
+        Image first = ImageCache.get("/com/example/demo/images/heart.png");
+        Image second = ImageCache.get("/com/example/demo/images/heart.png");
+
+        assertSame(first, second);
+        assertEquals(1, decodes.size());
+    }
+
+    @Test
+    void requestedSizeIsPartOfKey() {
+        Image natural = ImageCache.get("/com/example/demo/images/heart.png");
+        Image scaled = ImageCache.get("/com/example/demo/images/heart.png", 50, 50);
+
+        assertNotSame(natural, scaled);
+        assertEquals(2, decodes.get("/com/example/demo/images/heart.png"));
+    }
+
+    @Test
+    void clear() {
+        ImageCache.get("/com/example/demo/images/heart.png");
+        ImageCache.clear();
+        ImageCache.get("/com/example/demo/images/heart.png");
+
+        assertEquals(2, decodes.get("/com/example/demo/images/heart.png"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo;
+
+import com.example.demo.display.PerfOverlay;
+import com.example.demo.levels.LevelOne;
+import javafx.scene.Group;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerfOverlayTest {
+
+    private static final long FRAME_NANOS = 16_666_667;
+
+    @Test
+    void hiddenOverlayAddsNothing() {
+        Group root = new Group();
+        PerfOverlay overlay = new PerfOverlay(root);
+        overlay.frameRendered(0, new LevelOne(750, 1300, 1));
+
+        assertFalse(overlay.isVisible());
+        assertTrue(root.getChildren().isEmpty());
+        assertEquals("", overlay.getText());
+    }
+
+    @Test
+    void refreshesAFewTimesPerSecondNotEveryFrame() {
+        Group root = new Group();
+        PerfOverlay overlay = new PerfOverlay(root);
+        LevelOne level = new LevelOne(750, 1300, 1);
+        overlay.toggle();
+
+        overlay.frameRendered(0, level);
+        for (int frame = 1; frame < 10; frame++) {
+            overlay.tickTimed(2_000_000);
+            overlay.frameRendered(frame * FRAME_NANOS, level);
+        }
+        assertEquals("", overlay.getText());
+
+        for (int frame = 10; frame <= 15; frame++) {
+            overlay.tickTimed(2_000_000);
+            overlay.frameRendered(frame * FRAME_NANOS, level);
+        }
+        String text = overlay.getText();
+        assertTrue(text.startsWith("FPS   60.0"), text);
+        assertTrue(text.contains("TICK  mean 2.000 ms, max 2.000 ms, 15 ticks"), text);
+        assertTrue(text.contains("UNITS friendly 1, enemy 0"), text);
+        assertTrue(text.contains("NODES 1 under root"), text);
+        assertTrue(text.contains("HEAP"), text);
+        assertTrue(text.contains("GC"), text);
+    }
+
+    @Test
+    void toggleOffRemovesTheText() {
+        Group root = new Group();
+        PerfOverlay overlay = new PerfOverlay(root);
+        overlay.toggle();
+        overlay.toggle();
+
+        assertTrue(root.getChildren().isEmpty());
+    }
+}
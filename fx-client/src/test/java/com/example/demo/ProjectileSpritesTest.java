@@ -0,0 +1,76 @@
+package com.example.demo;
+
+import com.example.demo.display.ImageCache;
+import com.example.demo.display.ProjectileSprites;
+import com.example.demo.display.SpriteBatch;
+import com.example.demo.objects.EntityStore;
+import com.example.demo.objects.ProjectileType;
+import javafx.scene.Node;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectileSpritesTest {
+
+    @BeforeEach
+    void useHeadlessImages() {
+        ImageCache.setDecoder((resourcePath, requestedWidth, requestedHeight) -> new WritableImage(1, 1));
+    }
+
+    @AfterEach
+    void restoreDecoder() {
+        ImageCache.useClasspathDecoder();
+    }
+
+    @Test
+    void viewsFollowInterpolatedPositions() {
+        EntityStore store = new EntityStore();
+        ProjectileSprites sprites = new ProjectileSprites(store);
+        ProjectileType.USER.spawn(store, 100, 40);
+        store.savePreviousPositions();
+        store.integrate(0.03);
+
+        sprites.render(0.5);
+
+        Node view = sprites.getGroup().getChildren().get(0);
+        assertEquals(107.5, view.getLayoutX(), 1e-9);
+        assertEquals(40.0, view.getLayoutY());
+        assertTrue(view.isVisible());
+    }
+
+    @Test
+    void viewsAreReusedAndSparesHidden() {
+        EntityStore store = new EntityStore();
+        ProjectileSprites sprites = new ProjectileSprites(store);
+        for (int i = 0; i < 10; i++) {
+            ProjectileType.ENEMY.spawn(store, i, i);
+        }
+        sprites.render(1);
+        for (int i = 0; i < 6; i++) {
+            store.destroy(i);
+        }
+        store.removeDestroyed();
+        sprites.render(1);
+
+        assertEquals(10, sprites.getViewCount());
+        assertEquals(4, sprites.getShownCount());
+        assertEquals(4, sprites.getGroup().getChildren().filtered(Node::isVisible).size());
+    }
+
+    @Test
+    void drawQueuesShownProjectilesOnly() {
+        EntityStore store = new EntityStore();
+        ProjectileSprites sprites = new ProjectileSprites(store);
+        SpriteBatch batch = new SpriteBatch(1300, 650);
+        ProjectileType.BOSS.spawn(store, 950, 100);
+        ProjectileType.BOSS.spawn(store, 900, 200);
+        sprites.render(1);
+
+        sprites.draw(batch);
+
+        assertEquals(2, batch.size());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo;
+
+import com.example.demo.diagnostics.StallWatchdog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StallWatchdogTest {
+
+    private static final long DEADLINE_MILLIS = 20;
+    private static final long STALL_MILLIS = 150;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void capturesTheStackOfAStalledThreadAndDumpsIt() throws Exception {
+        Path dump = directory.resolve("stalls.txt");
+        StallWatchdog[] holder = new StallWatchdog[1];
+        Thread worker = new Thread(() -> {
+            StallWatchdog watchdog = holder[0];
+            watchdog.beat();
+            watchdog.tickTimed(2_000_000);
+            watchdog.tickTimed(3_000_000);
+            stallFor(STALL_MILLIS);
+            watchdog.beat();
+            watchdog.idle();
+        });
+        try (StallWatchdog watchdog = StallWatchdog.start(worker, DEADLINE_MILLIS, 4, dump)) {
+            holder[0] = watchdog;
+            worker.start();
+            worker.join();
+            awaitStalls(watchdog, 1);
+
+            List<StallWatchdog.Stall> stalls = watchdog.getStalls();
+            assertEquals(1, stalls.size());
+            StallWatchdog.Stall stall = stalls.get(0);
+            assertTrue(stall.stalledNanos() >= (STALL_MILLIS - 10) * 1_000_000, "stalled " + stall.stalledNanos());
+            assertArrayEquals(new long[] {2_000_000, 3_000_000}, stall.recentTickNanos());
+            assertTrue(stall.stack().contains("stallFor"), stall.stack());
+
+            awaitFile(dump);
+            String text = Files.readString(dump);
+            assertTrue(text.startsWith("Stall 1 at "), text);
+            assertTrue(text.contains("Recent ticks (ms): 2.00 3.00"), text);
+            assertTrue(text.contains("stallFor"), text);
+        }
+    }
+
+    @Test
+    void idleThreadIsNotStalled() throws Exception {
+        try (StallWatchdog watchdog = StallWatchdog.start(Thread.currentThread(), DEADLINE_MILLIS, 4, null)) {
+            watchdog.beat();
+            watchdog.idle();
+            Thread.sleep(STALL_MILLIS);
+
+            assertEquals(0, watchdog.getStallCount());
+        }
+    }
+
+    @Test
+    void keepsOnlyTheMostRecentStalls() throws Exception {
+        try (StallWatchdog watchdog = StallWatchdog.start(Thread.currentThread(), DEADLINE_MILLIS, 2, null)) {
+            for (int i = 1; i <= 3; i++) {
+                watchdog.tickTimed(i);
+                watchdog.beat();
+                stallFor(STALL_MILLIS);
+                watchdog.idle();
+                awaitStalls(watchdog, i);
+            }
+
+            assertEquals(3, watchdog.getStallCount());
+            List<StallWatchdog.Stall> stalls = watchdog.getStalls();
+            assertEquals(2, stalls.size());
+            assertArrayEquals(new long[] {1, 2}, stalls.get(0).recentTickNanos());
+            assertArrayEquals(new long[] {1, 2, 3}, stalls.get(1).recentTickNanos());
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveDeadline() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StallWatchdog.start(Thread.currentThread(), 0, 4, null));
+    }
+
+    private static void stallFor(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitFile(Path file) throws InterruptedException {
+        long giveUp = System.currentTimeMillis() + 5_000;
+        while (!Files.exists(file) && System.currentTimeMillis() < giveUp) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitStalls(StallWatchdog watchdog, int count) throws InterruptedException {
+        long giveUp = System.currentTimeMillis() + 5_000;
+        while (watchdog.getStallCount() < count && System.currentTimeMillis() < giveUp) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, watchdog.getStallCount());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo;
+
+import com.example.demo.display.AtlasRegion;
+import com.example.demo.display.TextureAtlas;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureAtlasTest {
+
+    private static final String USER_PLANE = "/com/example/demo/images/userplane.png";
+    private static final String HEART = "/com/example/demo/images/heart.png";
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void packsEveryGameplaySpriteIntoOneImage() throws IOException {
+        Map<String, AtlasRegion> regions = TextureAtlas.loadOrBuildIndex(cacheDirectory);
+
+        assertEquals(8, regions.size());
+        BufferedImage atlas = ImageIO.read(cacheDirectory.resolve("atlas.png").toFile());
+        BufferedImage userPlane = ImageIO.read(TextureAtlas.class.getResource(USER_PLANE));
+        AtlasRegion region = regions.get(USER_PLANE);
+        assertEquals(userPlane.getWidth(), region.width());
+        assertEquals(userPlane.getHeight(), region.height());
+        assertTrue(region.x() + region.width() <= atlas.getWidth());
+        assertTrue(region.y() + region.height() <= atlas.getHeight());
+        assertNotNull(regions.get(HEART));
+    }
+
+    @Test
+    void reusesTheCachedAtlas() throws IOException {
+        Map<String, AtlasRegion> built = TextureAtlas.loadOrBuildIndex(cacheDirectory);
+        Path image = cacheDirectory.resolve("atlas.png");
+        FileTime builtAt = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(image, builtAt);
+
+        Map<String, AtlasRegion> loaded = TextureAtlas.loadOrBuildIndex(cacheDirectory);
+
+        assertEquals(built, loaded);
+        assertEquals(builtAt, Files.getLastModifiedTime(image));
+    }
+
+    @Test
+    void rebuildsAStaleIndex() throws IOException {
+        TextureAtlas.loadOrBuildIndex(cacheDirectory);
+        Path index = cacheDirectory.resolve("atlas.index");
+        Files.writeString(index, "# skybattle-atlas 0\n");
+
+        Map<String, AtlasRegion> regions = TextureAtlas.loadOrBuildIndex(cacheDirectory);
+
+        assertEquals(8, regions.size());
+        assertNotEquals("# skybattle-atlas 0", Files.readAllLines(index).get(0));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.screens;
+
+import com.example.demo.display.ImageCache;
+import com.example.demo.display.RenderMode;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.objects.EnemyPlane;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the canvas render mode takes actor nodes out of the scene graph and that destroyed
+ * actors leave it in either mode. How long a frame takes in each mode is measured by
+ * {@link RenderModeBenchmark}.
+ */
+class RenderModeTest {
+
+    @BeforeEach
+    void useHeadlessImages() {
+        ImageCache.setDecoder((resourcePath, requestedWidth, requestedHeight) -> new WritableImage(1, 1));
+    }
+
+    @AfterEach
+    void restoreDecoder() {
+        ImageCache.useClasspathDecoder();
+    }
+
+    @Test
+    void canvasModeKeepsActorsOutOfTheSceneGraph() {
+        FixedWaveLevel level = new FixedWaveLevel(500);
+        LevelScreen screen = new LevelScreen(level, LevelTheme.LEVEL_THREE);
+        int nodesWithActors = screen.getRoot().getChildren().size();
+
+        screen.setRenderMode(RenderMode.CANVAS);
+        assertEquals(nodesWithActors - 501, screen.getRoot().getChildren().size());
+        level.fireProjectile();
+        screen.renderActors(1);
+        assertEquals(nodesWithActors - 501, screen.getRoot().getChildren().size());
+
+        screen.setRenderMode(RenderMode.NODES);
+        assertEquals(nodesWithActors, screen.getRoot().getChildren().size());
+    }
+
+    @Test
+    void destroyedActorsLeaveTheSceneGraph() {
+        FixedWaveLevel level = new FixedWaveLevel(10);
+        LevelScreen screen = new LevelScreen(level, LevelTheme.LEVEL_THREE);
+        int nodesWithActors = screen.getRoot().getChildren().size();
+
+        level.destroyEnemies();
+        level.updateScene();
+
+        assertEquals(nodesWithActors - 10, screen.getRoot().getChildren().size());
+        assertEquals(0, level.getCurrentNumberOfEnemies());
+    }
+
+    /**
+     * A level holding a fixed set of enemy planes spread over the screen, with no spawning and no end.
+     */
+    private static class FixedWaveLevel extends LevelParent {
+
+        private final List<EnemyPlane> enemies = new ArrayList<>();
+
+        FixedWaveLevel(int enemyCount) {
+            super(650, 1300, 5);
+            for (int i = 0; i < enemyCount; i++) {
+                EnemyPlane enemy = new EnemyPlane(300 + (i * 37) % 1000, (i * 53) % 500, getRandom());
+                enemies.add(enemy);
+                addEnemyUnit(enemy);
+            }
+        }
+
+        void destroyEnemies() {
+            enemies.forEach(EnemyPlane::destroy);
+        }
+
+        @Override
+        protected void checkIfGameOver() {
+        }
+
+        @Override
+        protected void spawnEnemyUnits() {
+        }
+    }
+}
@@ -1,56 +0,0 @@
-package com.example.demo.objects;
-
-import javafx.scene.image.*;
-
-/**
- * Abstract base class for active graphical actors in the application.
- * This class provides functionality for initializing an actor with an image and position
- * and includes methods for horizontal and vertical movement.
- */
-public abstract class ActiveActor extends ImageView {
-
-	/**
-	 * The base directory for image resources.
-	 */
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
-
-	/**
-	 * Constructs an {@code ActiveActor} with the specified image, size, and initial position.
-	 *
-	 * @param imageName    the name of the image file to use for this actor
-	 * @param imageHeight  the desired height of the image (aspect ratio is preserved)
-	 * @param initialXPos  the initial X position of the actor
-	 * @param initialYPos  the initial Y position of the actor
-	 */
-	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
-	}
-
-	/**
-	 * Updates the position of the actor. Subclasses must provide the implementation
-	 * to define how the position is updated.
-	 */
-	public abstract void updatePosition();
-
-	/**
-	 * Moves the actor horizontally by a specified amount.
-	 *
-	 * @param horizontalMove the amount to move the actor horizontally
-	 */
-	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
-	}
-
-	/**
-	 * Moves the actor vertically by a specified amount.
-	 *
-	 * @param verticalMove the amount to move the actor vertically
-	 */
-	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
-	}
-}
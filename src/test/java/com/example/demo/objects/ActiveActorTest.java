@@ -1,20 +0,0 @@
-package com.example.demo.objects;
-
-import org.junit.jupiter.api.Test;
-
-import static org.junit.jupiter.api.Assertions.*;
-
-class ActiveActorTest {
-
-    @Test
-    void updatePosition() {
-    }
-
-    @Test
-    void moveHorizontally() {
-    }
-
-    @Test
-    void moveVertically() {
-    }
-}
\ No newline at end of file
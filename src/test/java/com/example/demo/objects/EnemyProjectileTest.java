@@ -1,20 +0,0 @@
-package com.example.demo.objects;
-
-import org.junit.jupiter.api.Test;
-
-import static org.junit.jupiter.api.Assertions.*;
-
-class EnemyProjectileTest {
-
-    @Test
-    void updatePosition() {
-    }
-
-    @Test
-    void updateActor() {
-    }
-
-    @Test
-    void getHitbox() {
-    }
-}
\ No newline at end of file
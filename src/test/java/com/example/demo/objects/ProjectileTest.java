@@ -1,16 +0,0 @@
-package com.example.demo.objects;
-
-import org.junit.jupiter.api.Test;
-
-import static org.junit.jupiter.api.Assertions.*;
-
-class ProjectileTest {
-
-    @Test
-    void takeDamage() {
-    }
-
-    @Test
-    void updatePosition() {
-    }
-}
\ No newline at end of file